@@ -0,0 +1,84 @@
+package com.banquet.jmh;
+
+import com.banquet.config.FieldEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link FieldEncryptor} against the previous approach of
+ * looking up a new AES/ECB cipher on every call. Runs with several threads
+ * so the per-thread cipher cache is exercised the way request threads use it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FieldEncryptorBenchmark {
+
+    private static final String KEY = "YmFucXVldC1hZXMtMjU2LWVuY3J5cHRpb24ta2V5ISE=";
+    private static final String ACCOUNT = "000123456789";
+
+    private FieldEncryptor encryptor;
+    private SecretKeySpec legacyKey;
+    private String gcmValue;
+    private String ecbValue;
+
+    @Setup
+    public void setup() throws Exception {
+        encryptor = new FieldEncryptor(KEY, "", "k1");
+        legacyKey = new SecretKeySpec(Base64.getDecoder().decode(KEY), "AES");
+        gcmValue = encryptor.encrypt(ACCOUNT);
+        ecbValue = ecbEncryptPerCall();
+    }
+
+    @Benchmark
+    public String gcmEncrypt() {
+        return encryptor.encrypt(ACCOUNT);
+    }
+
+    @Benchmark
+    public String gcmDecrypt() {
+        return encryptor.decrypt(gcmValue);
+    }
+
+    @Benchmark
+    public String pooledLegacyDecrypt() {
+        return encryptor.decrypt(ecbValue);
+    }
+
+    @Benchmark
+    public String ecbEncryptPerCallLookup() throws Exception {
+        return ecbEncryptPerCall();
+    }
+
+    @Benchmark
+    public String ecbDecryptPerCallLookup() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(ecbValue)), StandardCharsets.UTF_8);
+    }
+
+    private String ecbEncryptPerCall() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, legacyKey);
+        return Base64.getEncoder().encodeToString(cipher.doFinal(ACCOUNT.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,112 @@
+package com.banquet.jmh;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the service metrics: a class-level {@code @Timed} method
+ * behind {@link TimedAspect}, with the percentile histogram application.yml
+ * configures for {@code banquet.service}, against the same proxy without the
+ * aspect and a direct call. Also compares the hall access cache counter looked
+ * up by name on every call with a pre-registered one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class InstrumentationBenchmark {
+
+    @Timed("banquet.service")
+    public static class QuoteService {
+
+        public long quote(long base) {
+            long price = base;
+            for (int i = 0; i < 16; i++) {
+                price = price * 31 + i;
+            }
+            return price;
+        }
+    }
+
+    private PrometheusMeterRegistry registry;
+    private QuoteService direct;
+    private QuoteService proxied;
+    private QuoteService timed;
+    private Counter hitCounter;
+
+    @Setup
+    public void setup() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(0.5, 0.95, 0.99)
+                        .build()
+                        .merge(config);
+            }
+        });
+        direct = new QuoteService();
+        proxied = proxy(false);
+        timed = proxy(true);
+        hitCounter = registry.counter("banquet.cache.requests", "cache", "hall-access", "result", "hit");
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.quote(100);
+    }
+
+    @Benchmark
+    public long proxyWithoutAspect() {
+        return proxied.quote(100);
+    }
+
+    @Benchmark
+    public long timedAspect() {
+        return timed.quote(100);
+    }
+
+    @Benchmark
+    public void counterLookupPerCall() {
+        registry.counter("banquet.cache.requests", "cache", "hall-access", "result", "hit").increment();
+    }
+
+    @Benchmark
+    public void counterPreRegistered() {
+        hitCounter.increment();
+    }
+
+    private QuoteService proxy(boolean withAspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new QuoteService());
+        factory.setProxyTargetClass(true);
+        if (withAspect) {
+            factory.addAspect(new TimedAspect(registry));
+        }
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,151 @@
+package com.banquet.jmh;
+
+import com.banquet.entity.PricingRule;
+import com.banquet.entity.VenuePricing;
+import com.banquet.service.CompiledPricing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quote latency of {@link CompiledPricing} against the per-date
+ * {@code VenuePricing} lookup it replaces, for a year of weekday, weekend,
+ * summer and holiday prices in four daily slots. The legacy rows are held in
+ * a map here, so the database round trip the old path paid per quote is not
+ * even counted. Setup prints how many rows each model needs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    private static final LocalDate FIRST = LocalDate.of(2025, 1, 1);
+    private static final LocalTime[][] SLOTS = {
+            {LocalTime.of(8, 0), LocalTime.of(12, 0)},
+            {LocalTime.of(12, 0), LocalTime.of(16, 0)},
+            {LocalTime.of(16, 0), LocalTime.of(20, 0)},
+            {LocalTime.of(20, 0), LocalTime.MIDNIGHT}};
+    private static final BigDecimal BASE = new BigDecimal("1000.00");
+
+    private final List<PricingRule> rules = new ArrayList<>();
+    private final Map<LocalDate, List<VenuePricing>> legacyRows = new HashMap<>();
+    private CompiledPricing compiled;
+    private LocalDate[] dates;
+    private int next;
+
+    @Setup
+    public void setup() {
+        long id = 1;
+        for (int s = 0; s < SLOTS.length; s++) {
+            BigDecimal evening = s >= 2 ? new BigDecimal("300.00") : BigDecimal.ZERO;
+            rules.add(rule(id++, "Weekday", 0, mask(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                    DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), null, null, false, s, BASE.add(evening)));
+            rules.add(rule(id++, "Weekend", 10, mask(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), null, null, false, s,
+                    new BigDecimal("1500.00").add(evening)));
+        }
+        rules.add(rule(id++, "Summer", 20, 0, LocalDate.of(2000, 6, 1), LocalDate.of(2000, 8, 31), true, -1,
+                new BigDecimal("1800.00")));
+        rules.add(rule(id, "New Year", 100, 0, LocalDate.of(2000, 12, 31), LocalDate.of(2000, 1, 1), true, -1,
+                new BigDecimal("4000.00")));
+        compiled = CompiledPricing.compile(1, BASE, rules, List.of());
+
+        // The same prices spelled out the old way: one row per slot per date
+        int rows = 0;
+        for (LocalDate date = FIRST; date.isBefore(FIRST.plusYears(1)); date = date.plusDays(1)) {
+            List<VenuePricing> day = new ArrayList<>();
+            for (LocalTime[] slot : SLOTS) {
+                BigDecimal price = compiled.quote(date, slot[0], slot[0].plusHours(1));
+                day.add(VenuePricing.builder().effectiveDate(date).slotStart(slot[0]).slotEnd(slot[1])
+                        .price(price).build());
+                rows++;
+            }
+            legacyRows.put(date, day);
+        }
+        dates = legacyRows.keySet().toArray(LocalDate[]::new);
+        System.out.printf("%nStorage for one venue-year: %d venue_pricing rows vs %d pricing_rules%n",
+                rows, rules.size());
+    }
+
+    @Benchmark
+    public BigDecimal compiledQuote() {
+        return compiled.quote(nextDate(), LocalTime.of(11, 0), LocalTime.of(18, 30));
+    }
+
+    @Benchmark
+    public BigDecimal legacyPerDateQuote() {
+        return legacyQuote(legacyRows.get(nextDate()), LocalTime.of(11, 0), LocalTime.of(18, 30));
+    }
+
+    @Benchmark
+    public CompiledPricing compile() {
+        return CompiledPricing.compile(2, BASE, rules, List.of());
+    }
+
+    private LocalDate nextDate() {
+        next = (next + 1) % dates.length;
+        return dates[next];
+    }
+
+    /** The overlap loop {@code BookingService} ran over a date's rows before rules existed. */
+    private static BigDecimal legacyQuote(List<VenuePricing> slots, LocalTime start, LocalTime end) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (VenuePricing slot : slots) {
+            LocalTime overlapStart = start.isBefore(slot.getSlotStart()) ? slot.getSlotStart() : start;
+            LocalTime slotEnd = slot.getSlotEnd().equals(LocalTime.MIDNIGHT) ? LocalTime.MAX : slot.getSlotEnd();
+            LocalTime overlapEnd = end.isAfter(slotEnd) ? slotEnd : end;
+            if (overlapStart.isBefore(overlapEnd)) {
+                BigDecimal hours = BigDecimal.valueOf(Duration.between(overlapStart, overlapEnd).toMinutes())
+                        .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+                total = total.add(slot.getPrice().multiply(hours));
+            }
+        }
+        return total.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static PricingRule rule(long id, String name, int priority, int days, LocalDate from, LocalDate to,
+                                    boolean yearly, int slot, BigDecimal price) {
+        return PricingRule.builder()
+                .id(id)
+                .name(name)
+                .priority(priority)
+                .daysOfWeek(days)
+                .startDate(from)
+                .endDate(to)
+                .recurringYearly(yearly)
+                .startTime(slot < 0 ? null : SLOTS[slot][0])
+                .endTime(slot < 0 ? null : SLOTS[slot][1])
+                .pricePerHour(price)
+                .active(true)
+                .build();
+    }
+
+    private static int mask(DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+}
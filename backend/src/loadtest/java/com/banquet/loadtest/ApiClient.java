@@ -0,0 +1,106 @@
+package com.banquet.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin JSON client over {@link HttpClient}. Responses are unwrapped from the
+ * API's {@code {success, message, data}} envelope.
+ */
+class ApiClient {
+
+    record Result(int status, JsonNode data, String message) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final HttpClient http;
+    private final String baseUrl;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Result get(String path, String token) {
+        return send(request(path, token).GET().build());
+    }
+
+    Result post(String path, Object body, String token) {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build());
+    }
+
+    Result put(String path, Object body, String token) {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build());
+    }
+
+    String login(String phone, String password) {
+        Result result = post("/api/auth/login", Map.of("phone", phone, "password", password), null);
+        if (!result.ok()) {
+            throw new IllegalStateException("Login failed for " + phone + ": " + result.message());
+        }
+        return result.data().get("accessToken").asText();
+    }
+
+    /** Registers the user, or logs in if the phone is already taken by an earlier run. */
+    String registerOrLogin(String phone, String password, String fullName, String role) {
+        Result result = post("/api/auth/register",
+                Map.of("phone", phone, "password", password, "fullName", fullName, "role", role), null);
+        if (result.ok()) {
+            return result.data().get("accessToken").asText();
+        }
+        return login(phone, password);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Result send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode body = response.body().isEmpty() ? null : MAPPER.readTree(response.body());
+            JsonNode data = body != null ? body.get("data") : null;
+            String message = body != null && body.hasNonNull("message") ? body.get("message").asText() : null;
+            return new Result(response.statusCode(), data, message);
+        } catch (IOException e) {
+            return new Result(-1, null, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(-1, null, "interrupted");
+        }
+    }
+
+    private static String json(Object body) {
+        try {
+            return MAPPER.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
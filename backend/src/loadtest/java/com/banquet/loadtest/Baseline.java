@@ -0,0 +1,48 @@
+package com.banquet.loadtest;
+
+import java.util.TreeMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/** Compares two result CSVs written by {@link LoadTest}. */
+final class Baseline {
+
+    private static final int RPS = 4;
+    private static final int P95 = 6;
+    private static final int P99 = 7;
+
+    private Baseline() {
+    }
+
+    static String compare(List<String> baseline, List<String> current) {
+        Map<String, String[]> before = index(baseline);
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%-16s %12s %12s %12s%n", "vs baseline", "req/s", "p95", "p99"));
+        for (Map.Entry<String, String[]> e : index(current).entrySet()) {
+            String[] old = before.get(e.getKey());
+            if (old == null) {
+                continue;
+            }
+            String[] now = e.getValue();
+            out.append(String.format(Locale.ROOT, "%-16s %12s %12s %12s%n", e.getKey(),
+                    delta(old[RPS], now[RPS]), delta(old[P95], now[P95]), delta(old[P99], now[P99])));
+        }
+        return out.toString();
+    }
+
+    private static Map<String, String[]> index(List<String> lines) {
+        Map<String, String[]> rows = new TreeMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] cols = line.split(",");
+            rows.put(cols[0], cols);
+        }
+        return rows;
+    }
+
+    private static String delta(String before, String after) {
+        double b = Double.parseDouble(before);
+        double a = Double.parseDouble(after);
+        return b == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (a - b) / b * 100);
+    }
+}
@@ -0,0 +1,97 @@
+package com.banquet.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-operation latencies and outcomes. Samples are kept in full
+ * (runs are minutes long), so percentiles are exact rather than bucketed.
+ */
+class LatencyRecorder {
+
+    static final class Operation {
+        private long[] samples = new long[1 << 14];
+        private int size;
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+
+        synchronized void record(long micros) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = micros;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void startRecording() {
+        recording = true;
+    }
+
+    Operation op(String name) {
+        return operations.computeIfAbsent(name, n -> new Operation());
+    }
+
+    /** Records the call's latency; {@code rejected} marks expected business refusals (e.g. slot taken). */
+    void record(String name, long startNanos, ApiClient.Result result) {
+        if (!recording) {
+            return;
+        }
+        Operation op = op(name);
+        op.record((System.nanoTime() - startNanos) / 1_000);
+        if (result.status() == 400) {
+            op.rejected.incrementAndGet();
+        } else if (!result.ok()) {
+            op.errors.incrementAndGet();
+        }
+    }
+
+    String report(double seconds) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%-16s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "rejected", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        long total = 0;
+        for (Map.Entry<String, Operation> e : new TreeMap<>(operations).entrySet()) {
+            long[] s = e.getValue().sorted();
+            total += s.length;
+            out.append(String.format(Locale.ROOT, "%-16s %9d %9d %9d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.getKey(), s.length, e.getValue().rejected.get(), e.getValue().errors.get(),
+                    s.length / seconds, pct(s, 0.50), pct(s, 0.95), pct(s, 0.99),
+                    s.length == 0 ? 0.0 : s[s.length - 1] / 1000.0));
+        }
+        out.append(String.format(Locale.ROOT, "%-16s %9d %29.1f%n", "total", total, total / seconds));
+        return out.toString();
+    }
+
+    String csv(double seconds) {
+        StringBuilder out = new StringBuilder("operation,count,rejected,errors,rps,p50_ms,p95_ms,p99_ms,max_ms\n");
+        for (Map.Entry<String, Operation> e : new TreeMap<>(operations).entrySet()) {
+            long[] s = e.getValue().sorted();
+            out.append(String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                    e.getKey(), s.length, e.getValue().rejected.get(), e.getValue().errors.get(),
+                    s.length / seconds, pct(s, 0.50), pct(s, 0.95), pct(s, 0.99),
+                    s.length == 0 ? 0.0 : s[s.length - 1] / 1000.0));
+        }
+        return out.toString();
+    }
+
+    private static double pct(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+}
@@ -0,0 +1,203 @@
+package com.banquet.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-model load driver for a running backend (H2 or the postgres profile).
+ * Seeds halls, venues, pricing and customers through the API, then runs a
+ * weighted mix of search, venue listing, hall detail, booking and payment
+ * calls from {@code loadtest.threads} virtual users, and prints throughput
+ * and latency percentiles. Results are also written to
+ * {@code target/loadtest/} so later runs can pass {@code -Dloadtest.baseline}
+ * to compare against them.
+ *
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.halls=2000 -Dloadtest.threads=64
+ * </pre>
+ */
+public class LoadTest {
+
+    private record PendingPayment(String token, long bookingId, String amount) {
+    }
+
+    private final LoadTestConfig config;
+    private final ApiClient api;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final ConcurrentLinkedQueue<PendingPayment> unpaid = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    private List<Seeder.VenueRef> venues;
+    private List<String> customers;
+
+    LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.api = new ApiClient(config.baseUrl());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestConfig.fromSystemProperties()).run();
+    }
+
+    void run() throws Exception {
+        Seeder seeder = new Seeder(api, config);
+        long seedStart = System.nanoTime();
+        Seeder.Catalog catalog = config.seed() ? seeder.seed() : seeder.discover();
+        venues = catalog.venues();
+        customers = catalog.customerTokens();
+        if (venues.isEmpty() || customers.isEmpty()) {
+            throw new IllegalStateException("Nothing to run against: " + venues.size()
+                    + " venues, " + customers.size() + " customers");
+        }
+        System.out.printf("Catalog ready: %d venues, %d customers (%d s)%n",
+                venues.size(), customers.size(), (System.nanoTime() - seedStart) / 1_000_000_000);
+
+        CountDownLatch done = new CountDownLatch(config.threads());
+        for (int i = 0; i < config.threads(); i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    while (running) {
+                        step();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        Thread.sleep(config.warmupSeconds() * 1000L);
+        recorder.startRecording();
+        long measureStart = System.nanoTime();
+        Thread.sleep(config.durationSeconds() * 1000L);
+        running = false;
+        done.await();
+        double seconds = (System.nanoTime() - measureStart) / 1e9;
+
+        System.out.println();
+        System.out.print(recorder.report(seconds));
+        writeResults(recorder.csv(seconds));
+    }
+
+    private void step() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(config.totalWeight());
+        if ((pick -= config.searchWeight()) < 0) {
+            search(random);
+        } else if ((pick -= config.venueWeight()) < 0) {
+            listVenues(random);
+        } else if ((pick -= config.hallWeight()) < 0) {
+            hallDetail(random);
+        } else if ((pick -= config.bookingWeight()) < 0) {
+            book(random);
+        } else {
+            pay(random);
+        }
+    }
+
+    private void search(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/api/search/halls?page=0&size=20");
+        if (random.nextInt(10) < 8) {
+            query.append("&city=").append(Seeder.CITIES[random.nextInt(Seeder.CITIES.length)]);
+        }
+        if (random.nextBoolean()) {
+            query.append("&date=").append(randomDate(random))
+                    .append("&startTime=18:00&endTime=22:00");
+        }
+        if (random.nextInt(3) == 0) {
+            query.append("&minCapacity=").append(100 + random.nextInt(4) * 100);
+        }
+        timed("search", () -> api.get(query.toString(), null));
+    }
+
+    private void listVenues(ThreadLocalRandom random) {
+        Seeder.VenueRef venue = randomVenue(random);
+        timed("venues", () -> api.get("/api/halls/" + venue.hallId() + "/venues", null));
+        timed("pricing", () -> api.get("/api/halls/" + venue.hallId() + "/venues/" + venue.venueId()
+                + "/pricing?date=" + randomDate(random), null));
+    }
+
+    private void hallDetail(ThreadLocalRandom random) {
+        Seeder.VenueRef venue = randomVenue(random);
+        timed("hall", () -> api.get("/api/halls/" + venue.hallId(), null));
+    }
+
+    private void book(ThreadLocalRandom random) {
+        Seeder.VenueRef venue = randomVenue(random);
+        String token = customers.get(random.nextInt(customers.size()));
+        int startHour = 8 + random.nextInt(12);
+        int hours = 2 + random.nextInt(3);
+        Map<String, Object> body = new HashMap<>();
+        body.put("venueId", venue.venueId());
+        body.put("bookingDate", randomDate(random).toString());
+        body.put("startTime", String.format("%02d:00", startHour));
+        body.put("endTime", String.format("%02d:00", Math.min(23, startHour + hours)));
+        body.put("paymentMode", "FULL");
+
+        ApiClient.Result result = timed("booking", () -> api.post("/api/bookings", body, token));
+        if (result.ok()) {
+            JsonNode booking = result.data();
+            unpaid.add(new PendingPayment(token, booking.get("id").asLong(),
+                    booking.get("totalAmount").asText()));
+        }
+    }
+
+    private void pay(ThreadLocalRandom random) {
+        PendingPayment pending = unpaid.poll();
+        if (pending == null) {
+            book(random);
+            return;
+        }
+        Map<String, Object> body = Map.of("bookingId", pending.bookingId(),
+                "amount", pending.amount(), "paymentType", "FULL");
+        ApiClient.Result intent = timed("payment.intent",
+                () -> api.post("/api/payments/create-intent", body, pending.token()));
+        if (intent.ok()) {
+            String intentId = intent.data().get("stripePaymentIntentId").asText();
+            timed("payment.confirm", () -> api.post("/api/payments/confirm",
+                    Map.of("paymentIntentId", intentId), pending.token()));
+        }
+    }
+
+    private ApiClient.Result timed(String operation, java.util.function.Supplier<ApiClient.Result> call) {
+        long start = System.nanoTime();
+        ApiClient.Result result = call.get();
+        recorder.record(operation, start, result);
+        return result;
+    }
+
+    private Seeder.VenueRef randomVenue(ThreadLocalRandom random) {
+        return venues.get(random.nextInt(venues.size()));
+    }
+
+    private LocalDate randomDate(ThreadLocalRandom random) {
+        return LocalDate.now().plusDays(1 + random.nextInt(config.pricingDays()));
+    }
+
+    private void writeResults(String csv) throws IOException {
+        Path dir = Path.of("target", "loadtest");
+        Files.createDirectories(dir);
+        Path file = dir.resolve("results-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        Files.writeString(file, csv);
+        System.out.println("Results written to " + file);
+
+        if (config.baseline() != null) {
+            System.out.println();
+            System.out.print(Baseline.compare(Files.readAllLines(Path.of(config.baseline())), csv.lines().toList()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.banquet.loadtest;
+
+/**
+ * Run settings, read from {@code -Dloadtest.*} system properties. The admin
+ * credentials used to approve seeded halls also fall back to the
+ * {@code LOADTEST_ADMIN_PHONE} and {@code LOADTEST_ADMIN_PASSWORD}
+ * environment variables, so they need not appear on the command line.
+ */
+record LoadTestConfig(
+        String baseUrl,
+        String adminPhone,
+        String adminPassword,
+        boolean seed,
+        int halls,
+        int hallsPerOwner,
+        int venuesPerHall,
+        int pricingDays,
+        int customers,
+        int seedThreads,
+        int threads,
+        int warmupSeconds,
+        int durationSeconds,
+        int searchWeight,
+        int venueWeight,
+        int hallWeight,
+        int bookingWeight,
+        int paymentWeight,
+        String baseline
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                str("baseUrl", "http://localhost:8081"),
+                str("adminPhone", System.getenv().getOrDefault("LOADTEST_ADMIN_PHONE", "0000000000")),
+                str("adminPassword", System.getenv("LOADTEST_ADMIN_PASSWORD")),
+                Boolean.parseBoolean(str("seed", "true")),
+                num("halls", 1000),
+                num("hallsPerOwner", 10),
+                num("venuesPerHall", 3),
+                num("pricingDays", 30),
+                num("customers", 200),
+                num("seedThreads", 8),
+                num("threads", 32),
+                num("warmupSeconds", 15),
+                num("durationSeconds", 60),
+                num("mix.search", 55),
+                num("mix.venues", 20),
+                num("mix.hall", 10),
+                num("mix.booking", 10),
+                num("mix.payment", 5),
+                str("baseline", null));
+    }
+
+    int totalWeight() {
+        return searchWeight + venueWeight + hallWeight + bookingWeight + paymentWeight;
+    }
+
+    private static String str(String key, String def) {
+        return System.getProperty("loadtest." + key, def);
+    }
+
+    private static int num(String key, int def) {
+        return Integer.parseInt(str(key, String.valueOf(def)));
+    }
+}
@@ -0,0 +1,169 @@
+package com.banquet.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds the catalog the workload runs against, through the public API so
+ * that every row passes the same validation as production traffic.
+ */
+class Seeder {
+
+    record VenueRef(long hallId, long venueId, String city) {
+    }
+
+    record Catalog(List<VenueRef> venues, List<String> customerTokens) {
+    }
+
+    /** Weighted so a few cities hold most of the halls, as in production. */
+    static final String[] CITIES = {
+            "Mumbai", "Mumbai", "Mumbai", "Mumbai", "Delhi", "Delhi", "Delhi", "Bangalore", "Bangalore",
+            "Hyderabad", "Chennai", "Pune", "Kolkata", "Jaipur", "Lucknow", "Indore"
+    };
+
+    private static final String PASSWORD = "loadtest123";
+
+    private final ApiClient api;
+    private final LoadTestConfig config;
+
+    Seeder(ApiClient api, LoadTestConfig config) {
+        this.api = api;
+        this.config = config;
+    }
+
+    Catalog seed() throws Exception {
+        if (config.adminPassword() == null) {
+            throw new IllegalStateException("Seeding approves halls as an admin: pass -Dloadtest.adminPhone and "
+                    + "-Dloadtest.adminPassword (or set LOADTEST_ADMIN_PHONE and LOADTEST_ADMIN_PASSWORD), "
+                    + "or rerun against existing data with -Dloadtest.seed=false");
+        }
+        String adminToken = api.login(config.adminPhone(), config.adminPassword());
+        int owners = Math.max(1, config.halls() / config.hallsPerOwner());
+
+        ExecutorService pool = Executors.newFixedThreadPool(config.seedThreads());
+        try {
+            List<Future<List<VenueRef>>> futures = new ArrayList<>();
+            for (int o = 0; o < owners; o++) {
+                int ownerIndex = o;
+                futures.add(pool.submit(() -> seedOwner(ownerIndex, adminToken)));
+            }
+            List<VenueRef> venues = new ArrayList<>();
+            for (Future<List<VenueRef>> f : futures) {
+                venues.addAll(f.get());
+            }
+
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int c = 0; c < config.customers(); c++) {
+                String phone = phone(8, c);
+                tokens.add(pool.submit(() -> api.registerOrLogin(phone, PASSWORD, "Load Customer " + phone, "CUSTOMER")));
+            }
+            List<String> customerTokens = new ArrayList<>();
+            for (Future<String> f : tokens) {
+                customerTokens.add(f.get());
+            }
+            return new Catalog(venues, customerTokens);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Reuses halls from an earlier run: pages through search and lists venues. */
+    Catalog discover() {
+        List<VenueRef> venues = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            ApiClient.Result result = api.get("/api/search/halls?size=100&page=" + page, null);
+            if (!result.ok() || result.data().get("content").isEmpty()) {
+                break;
+            }
+            for (JsonNode hall : result.data().get("content")) {
+                long hallId = hall.get("id").asLong();
+                ApiClient.Result list = api.get("/api/halls/" + hallId + "/venues", null);
+                if (list.ok()) {
+                    for (JsonNode venue : list.data()) {
+                        venues.add(new VenueRef(hallId, venue.get("id").asLong(), hall.get("city").asText()));
+                    }
+                }
+            }
+            if (result.data().get("last").asBoolean()) {
+                break;
+            }
+        }
+        List<String> customerTokens = new ArrayList<>();
+        for (int c = 0; c < config.customers(); c++) {
+            String phone = phone(8, c);
+            customerTokens.add(api.registerOrLogin(phone, PASSWORD, "Load Customer " + phone, "CUSTOMER"));
+        }
+        return new Catalog(venues, customerTokens);
+    }
+
+    private List<VenueRef> seedOwner(int ownerIndex, String adminToken) {
+        String phone = phone(7, ownerIndex);
+        String token = api.registerOrLogin(phone, PASSWORD, "Load Owner " + ownerIndex, "OWNER");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<VenueRef> venues = new ArrayList<>();
+
+        for (int h = 0; h < config.hallsPerOwner(); h++) {
+            String city = CITIES[random.nextInt(CITIES.length)];
+            Map<String, Object> hall = new HashMap<>();
+            hall.put("name", "Load Hall " + ownerIndex + "-" + h);
+            hall.put("address", (h + 1) + " Load Test Road");
+            hall.put("city", city);
+            hall.put("zipcode", String.valueOf(400000 + random.nextInt(99999)));
+            ApiClient.Result created = api.post("/api/halls", hall, token);
+            if (!created.ok()) {
+                throw new IllegalStateException("Hall creation failed: " + created.message());
+            }
+            long hallId = created.data().get("id").asLong();
+            api.put("/api/halls/admin/" + hallId + "/status", Map.of("status", "APPROVED"), adminToken);
+
+            for (int v = 0; v < config.venuesPerHall(); v++) {
+                Map<String, Object> venue = Map.of(
+                        "name", "Venue " + (v + 1),
+                        "capacity", 50 + random.nextInt(20) * 25,
+                        "minBookingDurationHours", 1,
+                        "basePricePerHour", 50 + random.nextInt(450));
+                ApiClient.Result venueResult = api.post("/api/halls/" + hallId + "/venues", venue, token);
+                if (!venueResult.ok()) {
+                    throw new IllegalStateException("Venue creation failed: " + venueResult.message());
+                }
+                long venueId = venueResult.data().get("id").asLong();
+                api.put("/api/halls/" + hallId + "/venues/" + venueId + "/pricing", pricing(random), token);
+                venues.add(new VenueRef(hallId, venueId, city));
+            }
+        }
+        return venues;
+    }
+
+    /** Evening and weekend premiums over the pricing horizon. */
+    private List<Map<String, Object>> pricing(ThreadLocalRandom random) {
+        List<Map<String, Object>> slots = new ArrayList<>();
+        LocalDate start = LocalDate.now().plusDays(1);
+        for (int d = 0; d < config.pricingDays(); d++) {
+            LocalDate date = start.plusDays(d);
+            boolean weekend = date.getDayOfWeek().getValue() >= 6;
+            int base = 100 + random.nextInt(200);
+            slots.add(slot(date, LocalTime.of(8, 0), LocalTime.of(17, 0), base));
+            slots.add(slot(date, LocalTime.of(17, 0), LocalTime.of(23, 0), base * (weekend ? 3 : 2)));
+        }
+        return slots;
+    }
+
+    private static Map<String, Object> slot(LocalDate date, LocalTime from, LocalTime to, int price) {
+        return Map.of("effectiveDate", date.toString(), "slotStart", from.toString(),
+                "slotEnd", to.toString(), "price", price);
+    }
+
+    private static String phone(int prefix, int index) {
+        return prefix + String.format("%09d", index);
+    }
+}
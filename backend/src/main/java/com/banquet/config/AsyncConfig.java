@@ -0,0 +1,76 @@
+package com.banquet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig implements WebMvcConfigurer {
+
+    public static final String EVENT_EXECUTOR = "eventExecutor";
+    public static final String MVC_EXECUTOR = "mvcAsyncExecutor";
+
+    @Value("${app.async.mvc.core-pool-size:4}")
+    private int mvcCorePoolSize;
+
+    @Value("${app.async.mvc.max-pool-size:16}")
+    private int mvcMaxPoolSize;
+
+    @Value("${app.async.mvc.queue-capacity:32}")
+    private int mvcQueueCapacity;
+
+    @Value("${app.async.mvc.timeout-ms:600000}")
+    private long mvcTimeoutMs;
+
+    /**
+     * Runs after-commit side effects off the request thread. The queue is
+     * bounded; when it is full the publishing thread runs the task itself, so
+     * bursts slow callers down instead of dropping work.
+     */
+    @Bean(name = EVENT_EXECUTOR)
+    public TaskExecutor eventExecutor(@Value("${app.async.core-pool-size:2}") int corePoolSize,
+                                      @Value("${app.async.max-pool-size:4}") int maxPoolSize,
+                                      @Value("${app.async.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Writes streaming responses (exports) after the controller returns. Our
+     * own executors make Boot skip its default one, so without this MVC would
+     * fall back to a new thread per request. Saturation is rejected, which
+     * fails the request rather than tying up servlet threads.
+     */
+    @Bean(name = MVC_EXECUTOR)
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mvcCorePoolSize);
+        executor.setMaxPoolSize(mvcMaxPoolSize);
+        executor.setQueueCapacity(mvcQueueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+        configurer.setDefaultTimeout(mvcTimeoutMs);
+    }
+}
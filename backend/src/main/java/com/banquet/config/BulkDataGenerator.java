@@ -0,0 +1,354 @@
+package com.banquet.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the database with a production-sized synthetic dataset using batched
+ * JDBC inserts. Only active under the {@code datagen} profile; sizes come from
+ * {@code app.datagen.*}.
+ * <p>
+ * Users, halls, venues, pricing and bookings are batch-inserted and their
+ * generated ids read back by range. Payments, ledger entries and daily
+ * rollups are then derived with set-based INSERT ... SELECT. Hall cities
+ * follow a Zipf-like skew, and booking dates lean toward wedding-season months
+ * and weekends. Run it against an otherwise idle database. On Postgres, add
+ * {@code reWriteBatchedInserts=true} to the JDBC URL.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@Order(10)
+@RequiredArgsConstructor
+public class BulkDataGenerator implements CommandLineRunner {
+
+    private static final String[][] CITIES = {
+            {"Mumbai", "Maharashtra"}, {"Delhi", "Delhi"}, {"Bangalore", "Karnataka"},
+            {"Hyderabad", "Telangana"}, {"Chennai", "Tamil Nadu"}, {"Pune", "Maharashtra"},
+            {"Kolkata", "West Bengal"}, {"Ahmedabad", "Gujarat"}, {"Jaipur", "Rajasthan"},
+            {"Lucknow", "Uttar Pradesh"}, {"Surat", "Gujarat"}, {"Indore", "Madhya Pradesh"},
+            {"Nagpur", "Maharashtra"}, {"Chandigarh", "Punjab"}, {"Kochi", "Kerala"},
+            {"Bhopal", "Madhya Pradesh"}, {"Patna", "Bihar"}, {"Vadodara", "Gujarat"},
+            {"Coimbatore", "Tamil Nadu"}, {"Visakhapatnam", "Andhra Pradesh"}
+    };
+
+    /** Relative booking demand by month, January first: peaks in the wedding season. */
+    private static final double[] MONTH_WEIGHT = {1.0, 0.9, 0.5, 0.7, 0.8, 0.3, 0.2, 0.3, 0.4, 0.6, 1.0, 1.0};
+
+    /** Three bookable slots per venue-day; generated bookings never overlap. */
+    private static final LocalTime[][] SLOTS = {
+            {LocalTime.of(8, 0), LocalTime.of(12, 0)},
+            {LocalTime.of(13, 0), LocalTime.of(17, 0)},
+            {LocalTime.of(18, 0), LocalTime.of(23, 0)}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.datagen.customers:1000000}")
+    private int customerCount;
+
+    @Value("${app.datagen.halls:100000}")
+    private int hallCount;
+
+    @Value("${app.datagen.halls-per-owner:5}")
+    private int hallsPerOwner;
+
+    @Value("${app.datagen.max-venues-per-hall:5}")
+    private int maxVenuesPerHall;
+
+    @Value("${app.datagen.priced-venue-fraction:0.2}")
+    private double pricedVenueFraction;
+
+    @Value("${app.datagen.pricing-days:14}")
+    private int pricingDays;
+
+    @Value("${app.datagen.bookings:2000000}")
+    private int bookingCount;
+
+    @Value("${app.datagen.past-days:365}")
+    private int pastDays;
+
+    @Value("${app.datagen.future-days:180}")
+    private int futureDays;
+
+    @Value("${app.datagen.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.datagen.seed:42}")
+    private long seed;
+
+    private double[] cityCdf;
+
+    @Override
+    public void run(String... args) {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        String tag = Long.toString(System.currentTimeMillis(), 36);
+        String passwordHash = passwordEncoder.encode("password");
+        cityCdf = zipfCdf(CITIES.length, 1.1);
+
+        int ownerCount = Math.max(1, (hallCount + hallsPerOwner - 1) / hallsPerOwner);
+        long[] owners = insertUsers("OWNER", ownerCount, "o" + tag, passwordHash);
+        long[] customers = insertUsers("CUSTOMER", customerCount, "c" + tag, passwordHash);
+
+        long[] halls = insertHalls(random, owners);
+        long venueFloor = maxId("venues");
+        VenueBatch venues = insertVenues(random, halls);
+        insertPricing(venues);
+        long bookingFloor = maxId("bookings");
+        insertBookings(random, venues, customers);
+        deriveFinancials(bookingFloor, venueFloor);
+
+        log.info("Data generation finished in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+
+    private record VenueBatch(long[] ids, long[] hallIds, BigDecimal[] basePrice) {
+    }
+
+    private long[] insertUsers(String role, int count, String phonePrefix, String passwordHash) {
+        long floor = maxId("users");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batched("users (" + role + ")", count, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(new Object[]{phonePrefix + i, passwordHash, role.charAt(0) + role.substring(1).toLowerCase() + " " + i,
+                        role, true, now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO users (phone, password_hash, full_name, role, phone_verified, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        return idsAbove("users", floor);
+    }
+
+    private long[] insertHalls(SplittableRandom random, long[] owners) {
+        long floor = maxId("banquet_halls");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batched("banquet_halls", hallCount, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                String[] city = CITIES[pick(cityCdf, random.nextDouble())];
+                String status = random.nextInt(10) == 0 ? "PENDING" : "APPROVED";
+                rows.add(new Object[]{owners[i / hallsPerOwner], "Hall " + i, i + " Main Road", city[0], city[1],
+                        String.valueOf(100000 + random.nextInt(900000)), status, now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO banquet_halls (owner_id, name, address, city, state, zipcode, "
+                    + "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        return idsAbove("banquet_halls", floor);
+    }
+
+    private VenueBatch insertVenues(SplittableRandom random, long[] halls) {
+        long floor = maxId("venues");
+        int[] perHall = new int[halls.length];
+        int total = 0;
+        for (int h = 0; h < halls.length; h++) {
+            perHall[h] = 1 + random.nextInt(maxVenuesPerHall);
+            total += perHall[h];
+        }
+        long[] hallIds = new long[total];
+        BigDecimal[] basePrice = new BigDecimal[total];
+        for (int h = 0, v = 0; h < halls.length; h++) {
+            for (int k = 0; k < perHall[h]; k++, v++) {
+                hallIds[v] = halls[h];
+                basePrice[v] = BigDecimal.valueOf(50 + random.nextInt(95) * 10L);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batched("venues", total, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int v = from; v < to; v++) {
+                rows.add(new Object[]{hallIds[v], "Venue " + v, 50 + random.nextInt(40) * 25,
+                        1 + random.nextInt(3), basePrice[v], true, now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO venues (hall_id, name, capacity, min_booking_duration_hours, "
+                    + "base_price_per_hour, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        return new VenueBatch(idsAbove("venues", floor), hallIds, basePrice);
+    }
+
+    private void insertPricing(VenueBatch venues) {
+        int priced = (int) (venues.ids().length * pricedVenueFraction);
+        LocalDate start = LocalDate.now();
+        batched("venue_pricing", priced, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>((to - from) * pricingDays * 2);
+            for (int v = from; v < to; v++) {
+                BigDecimal base = venues.basePrice()[v];
+                for (int d = 0; d < pricingDays; d++) {
+                    LocalDate date = start.plusDays(d);
+                    boolean weekend = date.getDayOfWeek().getValue() >= 6;
+                    BigDecimal peak = base.multiply(BigDecimal.valueOf(weekend ? 2 : 1.5));
+                    rows.add(new Object[]{venues.ids()[v], Date.valueOf(date),
+                            Time.valueOf(LocalTime.of(8, 0)), Time.valueOf(LocalTime.of(17, 0)), base});
+                    rows.add(new Object[]{venues.ids()[v], Date.valueOf(date),
+                            Time.valueOf(LocalTime.of(17, 0)), Time.valueOf(LocalTime.of(23, 0)), peak});
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO venue_pricing (venue_id, effective_date, slot_start, slot_end, price) "
+                    + "VALUES (?, ?, ?, ?, ?)", rows);
+        });
+    }
+
+    private void insertBookings(SplittableRandom random, VenueBatch venues, long[] customers) {
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(pastDays);
+        int days = pastDays + futureDays;
+        double[] dayCdf = seasonalCdf(first, days);
+        int venueCount = venues.ids().length;
+        // One bit per venue/day/slot, so generated bookings never double-book a slot.
+        long capacity = Math.min(Integer.MAX_VALUE, (long) venueCount * days * SLOTS.length);
+        BitSet taken = new BitSet((int) capacity);
+        // Rejection sampling slows down as slots fill up; keep well below saturation.
+        int count = (int) Math.min(bookingCount, capacity / 2);
+        if (count < bookingCount) {
+            log.warn("Capping bookings at {} for {} venues over {} days", count, venueCount, days);
+        }
+
+        batched("bookings", count, (from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            while (rows.size() < to - from) {
+                int v = random.nextInt(venueCount);
+                int day = pick(dayCdf, random.nextDouble());
+                int slot = random.nextInt(SLOTS.length);
+                long bit = ((long) v * days + day) * SLOTS.length + slot;
+                if (bit >= Integer.MAX_VALUE || taken.get((int) bit)) {
+                    continue;
+                }
+                taken.set((int) bit);
+
+                LocalDate date = first.plusDays(day);
+                LocalTime startTime = SLOTS[slot][0];
+                LocalTime endTime = SLOTS[slot][1];
+                BigDecimal total = venues.basePrice()[v]
+                        .multiply(BigDecimal.valueOf(endTime.getHour() - startTime.getHour()));
+                boolean past = date.isBefore(today);
+                int roll = random.nextInt(100);
+                String status = roll < (past ? 8 : 15) ? "CANCELLED" : past ? "COMPLETED" : "CONFIRMED";
+                BigDecimal paid = "CANCELLED".equals(status) ? BigDecimal.ZERO : total;
+                LocalDateTime createdAt = LocalDateTime.of(date.minusDays(7 + random.nextInt(120)), LocalTime.NOON);
+                if (createdAt.isAfter(LocalDateTime.now())) {
+                    createdAt = LocalDateTime.now();
+                }
+                Timestamp created = Timestamp.valueOf(createdAt);
+                rows.add(new Object[]{customers[random.nextInt(customers.length)], venues.ids()[v],
+                        Date.valueOf(date), Time.valueOf(startTime), Time.valueOf(endTime), total, paid,
+                        status, "FULL", "CANCELLED".equals(status) ? "Customer request" : null, created, created});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO bookings (customer_id, venue_id, booking_date, start_time, end_time, "
+                    + "total_amount, paid_amount, status, payment_mode, cancellation_reason, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+    }
+
+    /** Payments, ledger entries and daily rollups for the rows generated above. */
+    private void deriveFinancials(long bookingFloor, long venueFloor) {
+        long start = System.currentTimeMillis();
+        int payments = jdbcTemplate.update("INSERT INTO payments (booking_id, amount, payment_type, status, "
+                + "stripe_payment_intent_id, created_at) "
+                + "SELECT id, paid_amount, 'FULL', 'SUCCESS', CONCAT('sim_gen_', id), created_at FROM bookings "
+                + "WHERE id > ? AND paid_amount > 0", bookingFloor);
+        int ledger = jdbcTemplate.update("INSERT INTO payment_ledger (booking_id, venue_id, payment_id, entry_type, "
+                + "amount, created_at) "
+                + "SELECT p.booking_id, b.venue_id, p.id, 'CHARGE', p.amount, p.created_at "
+                + "FROM payments p JOIN bookings b ON b.id = p.booking_id WHERE p.booking_id > ?", bookingFloor);
+        int rollups = jdbcTemplate.update("INSERT INTO venue_daily_stats (venue_id, hall_id, stat_date, booking_count, "
+                + "cancellation_count, booked_minutes, revenue, refunded_amount) "
+                + "SELECT b.venue_id, v.hall_id, b.booking_date, COUNT(*), "
+                + "SUM(CASE WHEN b.status = 'CANCELLED' THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN b.status = 'CANCELLED' THEN 0 ELSE "
+                + "CAST((EXTRACT(HOUR FROM b.end_time) - EXTRACT(HOUR FROM b.start_time)) * 60 AS BIGINT) END), "
+                + "SUM(b.paid_amount), 0 "
+                + "FROM bookings b JOIN venues v ON v.id = b.venue_id "
+                + "WHERE v.id > ? GROUP BY b.venue_id, v.hall_id, b.booking_date", venueFloor);
+        log.info("Derived {} payments, {} ledger entries, {} daily rollups in {} ms",
+                payments, ledger, rollups, System.currentTimeMillis() - start);
+    }
+
+    @FunctionalInterface
+    private interface BatchWriter {
+        void write(int from, int to);
+    }
+
+    private void batched(String table, int count, BatchWriter writer) {
+        long start = System.currentTimeMillis();
+        int logEvery = Math.max(batchSize, count / 10);
+        for (int from = 0; from < count; from += batchSize) {
+            int to = Math.min(count, from + batchSize);
+            writer.write(from, to);
+            if (to % logEvery < batchSize || to == count) {
+                log.info("{}: {}/{}", table, to, count);
+            }
+        }
+        long ms = Math.max(1, System.currentTimeMillis() - start);
+        log.info("{}: {} rows in {} ms ({} rows/s)", table, count, ms, count * 1000L / ms);
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private long[] idsAbove(String table, long floor) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id", Long.class, floor)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private double[] seasonalCdf(LocalDate first, int days) {
+        double[] weights = new double[days];
+        for (int d = 0; d < days; d++) {
+            LocalDate date = first.plusDays(d);
+            double weekday = date.getDayOfWeek().getValue() >= 5 ? 2.5 : 1.0;
+            weights[d] = MONTH_WEIGHT[date.getMonthValue() - 1] * weekday;
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double sum = 0;
+        for (double w : weights) {
+            sum += w;
+        }
+        double[] cdf = new double[weights.length];
+        double acc = 0;
+        for (int i = 0; i < weights.length; i++) {
+            acc += weights[i] / sum;
+            cdf[i] = acc;
+        }
+        cdf[cdf.length - 1] = 1.0;
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, double u) {
+        int index = Arrays.binarySearch(cdf, u);
+        return index >= 0 ? index : Math.min(cdf.length - 1, -index - 1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.banquet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encrypts sensitive columns (hall bank details) with AES-GCM.
+ * <p>
+ * Values are stored as {@code v1:<keyId>:<base64(nonce || ciphertext+tag)>}.
+ * The header is bound to the ciphertext as associated data, and the key id
+ * selects the key from {@code app.encryption.keys}, so old keys can keep
+ * decrypting after {@code app.encryption.active-key-id} moves on. Values
+ * without the header are legacy AES/ECB ciphertext under
+ * {@code app.encryption.key} and are still readable.
+ * <p>
+ * Cipher instances are cached per thread, so each call costs one init
+ * instead of a provider lookup.
+ */
+@Component
+public class FieldEncryptor {
+
+    private static final String VERSION = "v1";
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final ThreadLocal<Cipher> GCM = ThreadLocal.withInitial(() -> cipher("AES/GCM/NoPadding"));
+    private static final ThreadLocal<Cipher> ECB = ThreadLocal.withInitial(() -> cipher("AES/ECB/PKCS5Padding"));
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+    private final String activeKeyId;
+    private final SecretKeySpec legacyKey;
+
+    public FieldEncryptor(@Value("${app.encryption.key}") String legacyKey,
+                          @Value("${app.encryption.keys:}") String keys,
+                          @Value("${app.encryption.active-key-id:k1}") String activeKeyId) {
+        this.legacyKey = new SecretKeySpec(Base64.getDecoder().decode(legacyKey), "AES");
+        // Without an explicit key ring the legacy key doubles as k1.
+        String ring = keys.isBlank() ? "k1:" + legacyKey : keys;
+        for (String entry : ring.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalStateException("Invalid app.encryption.keys entry, expected <id>:<base64 key>");
+            }
+            this.keys.put(parts[0], new SecretKeySpec(Base64.getDecoder().decode(parts[1]), "AES"));
+        }
+        if (!this.keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Active encryption key '" + activeKeyId + "' is not configured");
+        }
+        this.activeKeyId = activeKeyId;
+    }
+
+    public String encrypt(String plainText) {
+        try {
+            byte[] nonce = new byte[NONCE_BYTES];
+            random.nextBytes(nonce);
+            String header = VERSION + ":" + activeKeyId + ":";
+
+            Cipher cipher = GCM.get();
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeKeyId), new GCMParameterSpec(TAG_BITS, nonce));
+            cipher.updateAAD(header.getBytes(StandardCharsets.US_ASCII));
+            byte[] sealed = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+            byte[] payload = new byte[NONCE_BYTES + sealed.length];
+            System.arraycopy(nonce, 0, payload, 0, NONCE_BYTES);
+            System.arraycopy(sealed, 0, payload, NONCE_BYTES, sealed.length);
+            return header + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Encryption failed", e);
+        }
+    }
+
+    public String decrypt(String stored) {
+        try {
+            if (!stored.startsWith(VERSION + ":")) {
+                return decryptLegacy(stored);
+            }
+            int keyEnd = stored.indexOf(':', VERSION.length() + 1);
+            String keyId = stored.substring(VERSION.length() + 1, keyEnd);
+            SecretKeySpec key = keys.get(keyId);
+            if (key == null) {
+                throw new IllegalStateException("Unknown encryption key '" + keyId + "'");
+            }
+            byte[] payload = Base64.getDecoder().decode(stored.substring(keyEnd + 1));
+
+            Cipher cipher = GCM.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, NONCE_BYTES));
+            cipher.updateAAD(stored.substring(0, keyEnd + 1).getBytes(StandardCharsets.US_ASCII));
+            byte[] plain = cipher.doFinal(payload, NONCE_BYTES, payload.length - NONCE_BYTES);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new RuntimeException("Decryption failed", e);
+        }
+    }
+
+    /** True for legacy values and values sealed under a key other than the active one. */
+    public boolean needsReencryption(String stored) {
+        return stored != null && !stored.startsWith(VERSION + ":" + activeKeyId + ":");
+    }
+
+    private String decryptLegacy(String stored) throws GeneralSecurityException {
+        Cipher cipher = ECB.get();
+        cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(stored)), StandardCharsets.UTF_8);
+    }
+
+    private static Cipher cipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(transformation + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.banquet.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records SQL statement count and time per request, and flags requests that
+ * go over the statement budget or latency threshold along with their SQL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JdbcMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql.statement-budget:20}")
+    private int statementBudget;
+
+    @Value("${app.sql.request-latency-threshold-ms:1000}")
+    private long latencyThresholdMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        request.setAttribute(RequestSqlStats.REQUEST_ATTRIBUTE, stats);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            record(request, stats, elapsedMs);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats, long elapsedMs) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        boolean overBudget = stats.statements() > statementBudget;
+        boolean slow = elapsedMs > latencyThresholdMs;
+
+        DistributionSummary.builder("banquet.http.jdbc.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("banquet.http.jdbc.time")
+                .description("Time spent in JDBC per HTTP request")
+                .baseUnit("milliseconds")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.elapsedMs());
+
+        if (overBudget || slow) {
+            meterRegistry.counter("banquet.http.sql.flagged",
+                    "method", request.getMethod(), "uri", uri,
+                    "reason", overBudget ? "statement_budget" : "latency").increment();
+            log.warn("{} {} took {} ms with {} SQL statements ({} ms in JDBC, budget {}):{}",
+                    request.getMethod(), request.getRequestURI(), elapsedMs,
+                    stats.statements(), stats.elapsedMs(), statementBudget, stats.summary(10));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
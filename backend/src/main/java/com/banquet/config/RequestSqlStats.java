@@ -0,0 +1,62 @@
+package com.banquet.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statements executed on the current thread while a request is being
+ * served. Bound by {@link JdbcMetricsFilter}; fed by {@link SqlStatsListener}.
+ */
+public final class RequestSqlStats {
+
+    /** Request attribute the filter leaves the stats under, so tests can assert on a call's SQL. */
+    public static final String REQUEST_ATTRIBUTE = RequestSqlStats.class.getName();
+
+    private static final int MAX_DISTINCT_STATEMENTS = 50;
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedMs;
+    private final Map<String, Integer> countsBySql = new LinkedHashMap<>();
+
+    public static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedMs) {
+        statements++;
+        this.elapsedMs += elapsedMs;
+        if (countsBySql.containsKey(sql) || countsBySql.size() < MAX_DISTINCT_STATEMENTS) {
+            countsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long elapsedMs() {
+        return elapsedMs;
+    }
+
+    /** Distinct statements, most frequent first; repeated ones are the N+1 suspects. */
+    public String summary(int limit) {
+        return countsBySql.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> e.getValue() + "x " + e.getKey())
+                .collect(Collectors.joining("\n  ", "\n  ", ""));
+    }
+}
@@ -0,0 +1,38 @@
+package com.banquet.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+@Slf4j
+public class SqlStatsListener implements QueryExecutionListener {
+
+    private final long slowQueryMs;
+
+    public SqlStatsListener(long slowQueryMs) {
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.size() + " statements, first: " + queryInfoList.get(0).getQuery();
+
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.record(sql, elapsed);
+        }
+        if (elapsed >= slowQueryMs) {
+            log.warn("Slow query ({} ms): {}", elapsed, sql);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.banquet.controller;
 import com.banquet.dto.*;
 import com.banquet.security.CustomUserDetails;
 import com.banquet.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,9 +22,17 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(authService.register(request)));
     }
 
+    @PostMapping("/otp/request")
+    public ResponseEntity<ApiResponse<Void>> requestOtp(@Valid @RequestBody OtpRequest request,
+                                                        HttpServletRequest httpRequest) {
+        authService.requestOtp(request, httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(ApiResponse.success("If the phone number is registered, a code has been sent", null));
+    }
+
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@RequestBody AuthRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(authService.login(request)));
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@RequestBody AuthRequest request,
+                                                           HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(ApiResponse.success(authService.login(request, httpRequest.getRemoteAddr())));
     }
 
     @PostMapping("/refresh")
@@ -1,17 +1,25 @@
 package com.banquet.controller;
 
 import com.banquet.dto.ApiResponse;
+import com.banquet.dto.BookingHistoryResponse;
 import com.banquet.dto.BookingRequest;
 import com.banquet.dto.BookingResponse;
+import com.banquet.dto.CompositeBookingRequest;
+import com.banquet.dto.CompositeBookingResponse;
+import com.banquet.dto.SlotHoldRequest;
+import com.banquet.dto.SlotHoldResponse;
 import com.banquet.security.CustomUserDetails;
+import com.banquet.service.BookingArchiveService;
 import com.banquet.service.BookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +29,7 @@ import java.util.Map;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingArchiveService bookingArchiveService;
 
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
@@ -30,6 +39,32 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(bookingService.createBooking(userDetails.getId(), request)));
     }
 
+    @PostMapping("/composite")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<CompositeBookingResponse>> createCompositeBooking(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody CompositeBookingRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                bookingService.createCompositeBooking(userDetails.getId(), request)));
+    }
+
+    @PostMapping("/holds")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<SlotHoldResponse>> createHold(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody SlotHoldRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(bookingService.createHold(userDetails.getId(), request)));
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @PathVariable String holdId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        bookingService.releaseHold(userDetails.getId(), holdId);
+        return ResponseEntity.ok(ApiResponse.success("Slot hold released", null));
+    }
+
     @GetMapping("/my")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getCustomerBookings(
@@ -37,6 +72,17 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(bookingService.getCustomerBookings(userDetails.getId())));
     }
 
+    @GetMapping("/my/history")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<BookingHistoryResponse>> getCustomerHistory(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                bookingArchiveService.getCustomerHistory(userDetails.getId(), beforeDate, beforeId, size)));
+    }
+
     @GetMapping("/hall/{hallId}")
     @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getHallBookings(
@@ -0,0 +1,71 @@
+package com.banquet.controller;
+
+import com.banquet.dto.ApiResponse;
+import com.banquet.dto.CalendarFeedResponse;
+import com.banquet.security.CustomUserDetails;
+import com.banquet.service.CalendarFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    @GetMapping("/links/venues/{venueId}")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<ApiResponse<CalendarFeedResponse>> getVenueFeedLink(
+            @PathVariable Long venueId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(
+                calendarFeedService.getVenueFeedLink(venueId, userDetails.getId())));
+    }
+
+    @GetMapping("/links/halls/{hallId}")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<ApiResponse<CalendarFeedResponse>> getHallFeedLink(
+            @PathVariable Long hallId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(
+                calendarFeedService.getHallFeedLink(hallId, userDetails.getId())));
+    }
+
+    @GetMapping("/feeds/venues/{venueId}.ics")
+    public ResponseEntity<String> getVenueFeed(
+            @PathVariable Long venueId,
+            @RequestParam String token,
+            ServletWebRequest request) {
+        return feed(calendarFeedService.getVenueFeedVersion(venueId, token), request);
+    }
+
+    @GetMapping("/feeds/halls/{hallId}.ics")
+    public ResponseEntity<String> getHallFeed(
+            @PathVariable Long hallId,
+            @RequestParam String token,
+            ServletWebRequest request) {
+        return feed(calendarFeedService.getHallFeedVersion(hallId, token), request);
+    }
+
+    private ResponseEntity<String> feed(CalendarFeedService.FeedVersion version, ServletWebRequest request) {
+        // Sets 304 and the validators on the response when the client's copy is current
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache())
+                .body(calendarFeedService.render(version));
+    }
+}
@@ -1,6 +1,8 @@
 package com.banquet.controller;
 
 import com.banquet.dto.ApiResponse;
+import com.banquet.dto.HallBulkStatusRequest;
+import com.banquet.dto.HallBulkStatusResponse;
 import com.banquet.dto.HallRequest;
 import com.banquet.dto.HallResponse;
 import com.banquet.dto.HallStatusUpdateRequest;
@@ -69,6 +71,13 @@ public class HallController {
         return ResponseEntity.ok(ApiResponse.success(hallService.getPendingHalls()));
     }
 
+    @PutMapping("/admin/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<HallBulkStatusResponse>> updateHallStatuses(
+            @Valid @RequestBody HallBulkStatusRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(hallService.updateHallStatuses(request)));
+    }
+
     @PutMapping("/admin/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<HallResponse>> updateHallStatus(
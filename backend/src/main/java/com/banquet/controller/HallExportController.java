@@ -0,0 +1,61 @@
+package com.banquet.controller;
+
+import com.banquet.enums.ExportFormat;
+import com.banquet.security.CustomUserDetails;
+import com.banquet.service.HallExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/halls/{hallId}/export")
+@RequiredArgsConstructor
+public class HallExportController {
+
+    private final HallExportService hallExportService;
+
+    @GetMapping("/bookings")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @PathVariable Long hallId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return attachment("hall-" + hallId + "-bookings", format, gzip,
+                hallExportService.exportBookings(hallId, userDetails.getId(), format, gzip));
+    }
+
+    @GetMapping("/payments")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @PathVariable Long hallId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return attachment("hall-" + hallId + "-payments", format, gzip,
+                hallExportService.exportPayments(hallId, userDetails.getId(), format, gzip));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, boolean gzip,
+                                                                    StreamingResponseBody body) {
+        String extension = format == ExportFormat.CSV ? ".csv" : ".ndjson";
+        MediaType type = format == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+        String filename = name + "-" + LocalDate.now() + extension + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : type)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,80 @@
+package com.banquet.controller;
+
+import com.banquet.dto.ApiResponse;
+import com.banquet.dto.PriceQuoteResponse;
+import com.banquet.dto.PricingRuleRequest;
+import com.banquet.dto.PricingRuleResponse;
+import com.banquet.security.CustomUserDetails;
+import com.banquet.service.PricingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/halls/{hallId}/venues/{venueId}")
+@RequiredArgsConstructor
+public class PricingRuleController {
+
+    private final PricingService pricingService;
+
+    @GetMapping("/pricing-rules")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<ApiResponse<List<PricingRuleResponse>>> getRules(
+            @PathVariable Long hallId,
+            @PathVariable Long venueId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(pricingService.getRules(hallId, venueId, userDetails.getId())));
+    }
+
+    @PostMapping("/pricing-rules")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> createRule(
+            @PathVariable Long hallId,
+            @PathVariable Long venueId,
+            @Valid @RequestBody PricingRuleRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(
+                pricingService.createRule(hallId, venueId, request, userDetails.getId())));
+    }
+
+    @PutMapping("/pricing-rules/{ruleId}")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> updateRule(
+            @PathVariable Long hallId,
+            @PathVariable Long venueId,
+            @PathVariable Long ruleId,
+            @Valid @RequestBody PricingRuleRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(
+                pricingService.updateRule(hallId, venueId, ruleId, request, userDetails.getId())));
+    }
+
+    @DeleteMapping("/pricing-rules/{ruleId}")
+    @PreAuthorize("hasAnyRole('OWNER','MANAGER')")
+    public ResponseEntity<ApiResponse<Void>> deleteRule(
+            @PathVariable Long hallId,
+            @PathVariable Long venueId,
+            @PathVariable Long ruleId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        pricingService.deleteRule(hallId, venueId, ruleId, userDetails.getId());
+        return ResponseEntity.ok(ApiResponse.success("Pricing rule deleted", null));
+    }
+
+    @GetMapping("/quote")
+    public ResponseEntity<ApiResponse<PriceQuoteResponse>> getQuote(
+            @PathVariable Long hallId,
+            @PathVariable Long venueId,
+            @RequestParam LocalDate date,
+            @RequestParam LocalTime startTime,
+            @RequestParam LocalTime endTime) {
+        return ResponseEntity.ok(ApiResponse.success(
+                pricingService.getQuote(hallId, venueId, date, startTime, endTime)));
+    }
+}
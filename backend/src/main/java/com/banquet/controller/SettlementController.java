@@ -0,0 +1,56 @@
+package com.banquet.controller;
+
+import com.banquet.dto.ApiResponse;
+import com.banquet.dto.OwnerPayoutResponse;
+import com.banquet.dto.SettlementRunResponse;
+import com.banquet.security.CustomUserDetails;
+import com.banquet.service.SettlementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/settlements")
+@RequiredArgsConstructor
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    @PostMapping("/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<SettlementRunResponse>> run() {
+        return settlementService.settle()
+                .map(run -> ResponseEntity.ok(ApiResponse.success(run)))
+                .orElseGet(() -> ResponseEntity.ok(ApiResponse.success("Nothing to settle", null)));
+    }
+
+    @GetMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Page<SettlementRunResponse>>> getRuns(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(settlementService.getRuns(page, size)));
+    }
+
+    @GetMapping("/runs/{runId}/payouts")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Page<OwnerPayoutResponse>>> getRunPayouts(
+            @PathVariable Long runId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(ApiResponse.success(settlementService.getRunPayouts(runId, page, size)));
+    }
+
+    @GetMapping("/my-payouts")
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<ApiResponse<Page<OwnerPayoutResponse>>> getMyPayouts(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                settlementService.getOwnerPayouts(userDetails.getId(), page, size)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.banquet.controller;
+
+import com.banquet.dto.ApiResponse;
+import com.banquet.service.StripeWebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/payments/webhook")
+@RequiredArgsConstructor
+public class StripeWebhookController {
+
+    private final StripeWebhookService webhookService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<Void>> handleEvent(
+            @RequestBody String payload,
+            @RequestHeader(value = "Stripe-Signature", required = false) String signature) {
+        return switch (webhookService.ingest(payload, signature)) {
+            case ACCEPTED -> ResponseEntity.ok(ApiResponse.success("Event accepted", null));
+            case DUPLICATE -> ResponseEntity.ok(ApiResponse.success("Duplicate event ignored", null));
+            case IGNORED -> ResponseEntity.ok(ApiResponse.success("Event type not handled", null));
+            case BUSY -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("Webhook queue is full, retry later"));
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.banquet.controller;
+
+import com.banquet.dto.ApiResponse;
+import com.banquet.dto.WaitlistEntryResponse;
+import com.banquet.dto.WaitlistRequest;
+import com.banquet.security.CustomUserDetails;
+import com.banquet.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> join(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody WaitlistRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(waitlistService.join(userDetails.getId(), request)));
+    }
+
+    @GetMapping("/my")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<List<WaitlistEntryResponse>>> getMyEntries(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success(waitlistService.getMyEntries(userDetails.getId())));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<ApiResponse<Void>> leave(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long id) {
+        waitlistService.leave(userDetails.getId(), id);
+        return ResponseEntity.ok(ApiResponse.success("Left the waitlist", null));
+    }
+}
@@ -0,0 +1,27 @@
+package com.banquet.dto;
+
+import com.banquet.enums.BookingStatus;
+import com.banquet.enums.PaymentMode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public record BookingExportRow(
+        Long id,
+        Long venueId,
+        String venueName,
+        Long customerId,
+        String customerName,
+        LocalDate bookingDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        BigDecimal totalAmount,
+        BigDecimal paidAmount,
+        BookingStatus status,
+        PaymentMode paymentMode,
+        String cancellationReason,
+        LocalDateTime createdAt
+) {
+}
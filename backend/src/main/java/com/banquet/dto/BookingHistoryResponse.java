@@ -0,0 +1,12 @@
+package com.banquet.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** One page of archived bookings; pass the next* values back to fetch the following page. */
+public record BookingHistoryResponse(
+        List<BookingResponse> bookings,
+        LocalDate nextBeforeDate,
+        Long nextBeforeId
+) {
+}
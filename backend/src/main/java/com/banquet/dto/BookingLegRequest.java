@@ -0,0 +1,23 @@
+package com.banquet.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record BookingLegRequest(
+        @NotNull(message = "Venue ID is required")
+        Long venueId,
+
+        @NotNull(message = "Booking date is required")
+        LocalDate bookingDate,
+
+        @NotNull(message = "Start time is required")
+        LocalTime startTime,
+
+        @NotNull(message = "End time is required")
+        LocalTime endTime,
+
+        String holdId
+) {
+}
@@ -20,6 +20,8 @@ public record BookingRequest(
         LocalTime endTime,
 
         @NotNull(message = "Payment mode is required")
-        PaymentMode paymentMode
+        PaymentMode paymentMode,
+
+        String holdId
 ) {
 }
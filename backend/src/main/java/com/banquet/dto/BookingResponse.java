@@ -23,6 +23,7 @@ public record BookingResponse(
         BookingStatus status,
         PaymentMode paymentMode,
         String cancellationReason,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        String groupRef
 ) {
 }
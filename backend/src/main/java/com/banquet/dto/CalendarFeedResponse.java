@@ -0,0 +1,7 @@
+package com.banquet.dto;
+
+public record CalendarFeedResponse(
+        String path,
+        String token
+) {
+}
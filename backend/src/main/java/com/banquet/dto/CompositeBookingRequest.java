@@ -0,0 +1,17 @@
+package com.banquet.dto;
+
+import com.banquet.enums.PaymentMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record CompositeBookingRequest(
+        @NotEmpty(message = "At least one booking leg is required")
+        List<@Valid BookingLegRequest> legs,
+
+        @NotNull(message = "Payment mode is required")
+        PaymentMode paymentMode
+) {
+}
@@ -0,0 +1,11 @@
+package com.banquet.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record CompositeBookingResponse(
+        String groupRef,
+        BigDecimal totalAmount,
+        List<BookingResponse> bookings
+) {
+}
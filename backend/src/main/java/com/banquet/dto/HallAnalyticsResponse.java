@@ -0,0 +1,16 @@
+package com.banquet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record HallAnalyticsResponse(
+        Long hallId,
+        LocalDate from,
+        LocalDate to,
+        long totalBookings,
+        long totalCancellations,
+        BigDecimal totalRevenue,
+        List<VenueMonthlyStats> venues
+) {
+}
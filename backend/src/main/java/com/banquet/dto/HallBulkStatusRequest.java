@@ -0,0 +1,18 @@
+package com.banquet.dto;
+
+import com.banquet.enums.HallStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record HallBulkStatusRequest(
+        @NotEmpty(message = "Hall IDs are required")
+        @Size(max = 1000, message = "At most 1000 halls per request")
+        List<Long> hallIds,
+        @NotNull(message = "Status is required")
+        HallStatus status,
+        String notes
+) {
+}
@@ -0,0 +1,14 @@
+package com.banquet.dto;
+
+import com.banquet.enums.HallStatus;
+
+import java.util.List;
+
+public record HallBulkStatusResponse(
+        HallStatus status,
+        int requested,
+        int updated,
+        int unchanged,
+        List<Long> notFound
+) {
+}
@@ -0,0 +1,9 @@
+package com.banquet.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record OtpRequest(
+        @NotBlank(message = "Phone is required")
+        String phone
+) {
+}
@@ -0,0 +1,23 @@
+package com.banquet.dto;
+
+import com.banquet.enums.PayoutStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OwnerPayoutResponse(
+        Long id,
+        Long runId,
+        Long hallId,
+        Long ownerId,
+        BigDecimal chargeTotal,
+        BigDecimal refundTotal,
+        BigDecimal amount,
+        long entryCount,
+        PayoutStatus status,
+        String bankAccountName,
+        String bankAccountLast4,
+        String holdReason,
+        LocalDateTime createdAt
+) {
+}
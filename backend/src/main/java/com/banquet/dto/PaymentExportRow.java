@@ -0,0 +1,22 @@
+package com.banquet.dto;
+
+import com.banquet.enums.PaymentStatus;
+import com.banquet.enums.PaymentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PaymentExportRow(
+        Long id,
+        Long bookingId,
+        Long venueId,
+        String venueName,
+        LocalDate bookingDate,
+        BigDecimal amount,
+        PaymentType paymentType,
+        PaymentStatus status,
+        String stripePaymentIntentId,
+        LocalDateTime createdAt
+) {
+}
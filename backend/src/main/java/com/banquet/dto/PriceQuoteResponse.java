@@ -0,0 +1,14 @@
+package com.banquet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record PriceQuoteResponse(
+        Long venueId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,39 @@
+package com.banquet.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record PricingRuleRequest(
+        @NotBlank(message = "Rule name is required")
+        @Size(max = 100, message = "Rule name must be at most 100 characters")
+        String name,
+
+        Integer priority,
+
+        Set<DayOfWeek> daysOfWeek,
+
+        LocalDate startDate,
+
+        LocalDate endDate,
+
+        Boolean recurringYearly,
+
+        LocalTime startTime,
+
+        LocalTime endTime,
+
+        @NotNull(message = "Price per hour is required")
+        @DecimalMin(value = "0.00", message = "Price per hour cannot be negative")
+        BigDecimal pricePerHour,
+
+        Boolean active
+) {
+}
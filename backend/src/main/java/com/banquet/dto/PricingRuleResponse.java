@@ -0,0 +1,23 @@
+package com.banquet.dto;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record PricingRuleResponse(
+        Long id,
+        Long venueId,
+        String name,
+        int priority,
+        Set<DayOfWeek> daysOfWeek,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean recurringYearly,
+        LocalTime startTime,
+        LocalTime endTime,
+        BigDecimal pricePerHour,
+        boolean active
+) {
+}
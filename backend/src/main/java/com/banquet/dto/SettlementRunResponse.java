@@ -0,0 +1,17 @@
+package com.banquet.dto;
+
+import com.banquet.enums.SettlementRunStatus;
+
+import java.time.LocalDateTime;
+
+public record SettlementRunResponse(
+        Long id,
+        SettlementRunStatus status,
+        Long fromLedgerId,
+        Long toLedgerId,
+        Long checkpointLedgerId,
+        long entryCount,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+}
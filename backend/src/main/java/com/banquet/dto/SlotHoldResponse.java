@@ -0,0 +1,15 @@
+package com.banquet.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record SlotHoldResponse(
+        String holdId,
+        Long venueId,
+        LocalDate bookingDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.banquet.dto;
+
+import java.time.LocalDateTime;
+
+public record VenueFeedState(
+        Long venueId,
+        Long hallId,
+        String venueName,
+        long bookingVersion,
+        LocalDateTime bookingsChangedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.banquet.dto;
+
+import java.math.BigDecimal;
+
+public record VenueMonthlyStats(
+        Long venueId,
+        String venueName,
+        String month,
+        long bookings,
+        long cancellations,
+        long bookedMinutes,
+        double occupancyRate,
+        BigDecimal revenue,
+        BigDecimal refundedAmount
+) {
+}
@@ -0,0 +1,21 @@
+package com.banquet.dto;
+
+import com.banquet.enums.WaitlistStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public record WaitlistEntryResponse(
+        Long id,
+        Long venueId,
+        String venueName,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        WaitlistStatus status,
+        String offerHoldId,
+        LocalDateTime offerExpiresAt,
+        LocalDateTime createdAt
+) {
+}
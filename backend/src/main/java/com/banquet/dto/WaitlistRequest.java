@@ -0,0 +1,21 @@
+package com.banquet.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record WaitlistRequest(
+        @NotNull(message = "Venue ID is required")
+        Long venueId,
+
+        @NotNull(message = "Date is required")
+        LocalDate date,
+
+        @NotNull(message = "Start time is required")
+        LocalTime startTime,
+
+        @NotNull(message = "End time is required")
+        LocalTime endTime
+) {
+}
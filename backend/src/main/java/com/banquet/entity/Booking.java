@@ -5,6 +5,7 @@ import com.banquet.enums.PaymentMode;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -17,7 +18,11 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "bookings")
+@DynamicUpdate
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_customer_created", columnList = "customer_id, created_at"),
+        @Index(name = "idx_bookings_group_ref", columnList = "group_ref")
+})
 public class Booking {
 
     @Id
@@ -60,6 +65,10 @@ public class Booking {
     @Column(name = "cancellation_reason", columnDefinition = "TEXT")
     private String cancellationReason;
 
+    /** Shared by the legs of one composite booking; null for a single booking. */
+    @Column(name = "group_ref", length = 36, updatable = false)
+    private String groupRef;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
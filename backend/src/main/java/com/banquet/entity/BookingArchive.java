@@ -0,0 +1,63 @@
+package com.banquet.entity;
+
+import com.banquet.enums.BookingStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A finished booking moved out of {@code bookings} by the archive job. Only
+ * the columns needed to page a customer's history are kept in the clear; the
+ * booking and its payments are stored as gzipped JSON in {@code payload}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "booking_archive", indexes = {
+        @Index(name = "idx_booking_archive_customer", columnList = "customer_id, booking_date, id")
+})
+public class BookingArchive implements Persistable<Long> {
+
+    /** The original booking id. */
+    @Id
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false, updatable = false)
+    private Long customerId;
+
+    @Column(name = "venue_id", nullable = false, updatable = false)
+    private Long venueId;
+
+    @Column(name = "booking_date", nullable = false, updatable = false)
+    private LocalDate bookingDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private BookingStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private byte[] payload;
+
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+
+    /** Ids are assigned, so tell Spring Data to insert instead of merging (which selects first). */
+    @Transient
+    @Builder.Default
+    private boolean fresh = true;
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        fresh = false;
+    }
+}
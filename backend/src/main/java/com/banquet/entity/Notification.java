@@ -0,0 +1,71 @@
+package com.banquet.entity;
+
+import com.banquet.enums.NotificationChannel;
+import com.banquet.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outgoing message queued for a channel. Rows are claimed by the dispatcher
+ * once {@code nextAttemptAt} has passed; failures push it further out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_due", columnList = "channel, status, next_attempt_at")
+})
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationChannel channel;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String template;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    /** The body is replaced with a placeholder once the message is sent or given up on. */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean sensitive = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,71 @@
+package com.banquet.entity;
+
+import com.banquet.enums.PayoutStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * What a hall's owner is owed from one settlement run: charges minus refunds
+ * recorded in the ledger during the run's id range. At most one row per run
+ * and hall. Bank details are checked when the run completes; only the last
+ * four digits of the account are kept here.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "owner_payouts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_owner_payouts_run_hall", columnNames = {"run_id", "hall_id"})
+}, indexes = {
+        @Index(name = "idx_owner_payouts_owner", columnList = "owner_id, run_id")
+})
+public class OwnerPayout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, updatable = false)
+    private Long runId;
+
+    @Column(name = "hall_id", nullable = false, updatable = false)
+    private Long hallId;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "charge_total", nullable = false)
+    private BigDecimal chargeTotal;
+
+    @Column(name = "refund_total", nullable = false)
+    private BigDecimal refundTotal;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private PayoutStatus status = PayoutStatus.PENDING;
+
+    @Column(name = "bank_account_name")
+    private String bankAccountName;
+
+    @Column(name = "bank_account_last4", length = 4)
+    private String bankAccountLast4;
+
+    @Column(name = "hold_reason")
+    private String holdReason;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_booking_status", columnList = "booking_id, status"),
+        @Index(name = "idx_payments_stripe_intent", columnList = "stripe_payment_intent_id")
+})
 public class Payment {
 
     @Id
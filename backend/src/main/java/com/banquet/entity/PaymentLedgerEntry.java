@@ -0,0 +1,49 @@
+package com.banquet.entity;
+
+import com.banquet.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of money moving for a booking. Rows are never updated;
+ * charges are positive and refunds negative, so the sum per booking equals
+ * {@code bookings.paid_amount}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "payment_ledger", indexes = {
+        @Index(name = "idx_payment_ledger_booking", columnList = "booking_id")
+})
+public class PaymentLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false, updatable = false)
+    private Long bookingId;
+
+    @Column(name = "venue_id", nullable = false, updatable = false)
+    private Long venueId;
+
+    @Column(name = "payment_id", nullable = false, updatable = false)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, updatable = false)
+    private LedgerEntryType entryType;
+
+    @Column(nullable = false, updatable = false)
+    private BigDecimal amount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,80 @@
+package com.banquet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A recurring hourly price for a venue. Every condition left null matches
+ * everything: no days means every day, no dates means all year, no times
+ * means the whole day. When {@code recurringYearly} is set only the month
+ * and day of the dates count, so a season can span the new year. Where
+ * rules overlap, the higher priority wins, then the newer rule.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "pricing_rules", indexes = {
+        @Index(name = "idx_pricing_rules_venue", columnList = "venue_id")
+})
+public class PricingRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "venue_id", nullable = false)
+    private Venue venue;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int priority = 0;
+
+    /** Bit {@code DayOfWeek.getValue() - 1} per matching day; 0 matches every day. */
+    @Column(name = "days_of_week", nullable = false)
+    @Builder.Default
+    private int daysOfWeek = 0;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "recurring_yearly", nullable = false)
+    @Builder.Default
+    private boolean recurringYearly = false;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @Column(name = "price_per_hour", nullable = false)
+    private BigDecimal pricePerHour;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean active = true;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,52 @@
+package com.banquet.entity;
+
+import com.banquet.enums.SettlementRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One pass of the settlement engine over {@code payment_ledger} ids in
+ * {@code (fromLedgerId, toLedgerId]}. {@code checkpointLedgerId} is advanced
+ * in the same transaction as the payout totals, so an interrupted run
+ * resumes exactly where it stopped.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "settlement_runs")
+public class SettlementRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private SettlementRunStatus status = SettlementRunStatus.RUNNING;
+
+    @Column(name = "from_ledger_id", nullable = false, updatable = false)
+    private Long fromLedgerId;
+
+    @Column(name = "to_ledger_id", nullable = false, updatable = false)
+    private Long toLedgerId;
+
+    @Column(name = "checkpoint_ledger_id", nullable = false)
+    private Long checkpointLedgerId;
+
+    @Column(name = "entry_count", nullable = false)
+    @Builder.Default
+    private long entryCount = 0;
+
+    @CreationTimestamp
+    @Column(name = "started_at", updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
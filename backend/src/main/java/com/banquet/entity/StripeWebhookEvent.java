@@ -0,0 +1,36 @@
+package com.banquet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "stripe_webhook_events")
+public class StripeWebhookEvent {
+
+    @Id
+    private String id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payment_intent_id")
+    private String paymentIntentId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean processed = false;
+
+    @CreationTimestamp
+    @Column(name = "received_at", updatable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "venues")
+@Table(name = "venues", indexes = {
+        @Index(name = "idx_venues_hall_active", columnList = "hall_id, active")
+})
 public class Venue {
 
     @Id
@@ -47,6 +49,17 @@ public class Venue {
     @Builder.Default
     private boolean active = true;
 
+    /** Maintained by {@code VenueRepository.bumpBookingVersion}, never by entity saves. */
+    @Column(name = "booking_version", insertable = false, updatable = false)
+    private Long bookingVersion;
+
+    @Column(name = "bookings_changed_at", insertable = false, updatable = false)
+    private LocalDateTime bookingsChangedAt;
+
+    /** Maintained by {@code VenueRepository.bumpPricingVersion}; keys the compiled price table. */
+    @Column(name = "pricing_version", insertable = false, updatable = false)
+    private Long pricingVersion;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,52 @@
+package com.banquet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated per-venue, per-day counters keyed by booking date. Rows are
+ * only ever adjusted with atomic increments from {@code AnalyticsService}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "venue_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"venue_id", "stat_date"})
+}, indexes = {
+        @Index(name = "idx_venue_daily_stats_hall_date", columnList = "hall_id, stat_date")
+})
+public class VenueDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "venue_id", nullable = false)
+    private Long venueId;
+
+    @Column(name = "hall_id", nullable = false)
+    private Long hallId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "cancellation_count", nullable = false)
+    private long cancellationCount;
+
+    @Column(name = "booked_minutes", nullable = false)
+    private long bookedMinutes;
+
+    @Column(nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "refunded_amount", nullable = false)
+    private BigDecimal refundedAmount;
+}
@@ -12,7 +12,9 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "venue_pricing")
+@Table(name = "venue_pricing", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_venue_pricing_slot", columnNames = {"venue_id", "effective_date", "slot_start"})
+})
 public class VenuePricing {
 
     @Id
@@ -0,0 +1,6 @@
+package com.banquet.enums;
+
+public enum LedgerEntryType {
+    CHARGE,
+    REFUND
+}
@@ -0,0 +1,6 @@
+package com.banquet.enums;
+
+public enum NotificationChannel {
+    SMS,
+    EMAIL
+}
@@ -0,0 +1,7 @@
+package com.banquet.enums;
+
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
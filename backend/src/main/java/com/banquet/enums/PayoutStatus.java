@@ -0,0 +1,7 @@
+package com.banquet.enums;
+
+public enum PayoutStatus {
+    PENDING,
+    READY,
+    HELD
+}
@@ -0,0 +1,9 @@
+package com.banquet.enums;
+
+public enum WaitlistStatus {
+    WAITING,
+    OFFERED,
+    BOOKED,
+    EXPIRED,
+    CANCELLED
+}
@@ -0,0 +1,29 @@
+package com.banquet.event;
+
+import com.banquet.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/** Keeps the daily venue rollups in step with bookings and payments. */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsEventListener {
+
+    private final AnalyticsService analyticsService;
+
+    @EventListener
+    public void onBookingCreated(DeliveredEvent<BookingCreatedEvent> delivered) {
+        analyticsService.recordBookingCreated(delivered.event());
+    }
+
+    @EventListener
+    public void onBookingCancelled(DeliveredEvent<BookingCancelledEvent> delivered) {
+        analyticsService.recordBookingsCancelled(delivered.event().bookings());
+    }
+
+    @EventListener
+    public void onPaymentRecorded(DeliveredEvent<PaymentRecordedEvent> delivered) {
+        analyticsService.recordPayment(delivered.event());
+    }
+}
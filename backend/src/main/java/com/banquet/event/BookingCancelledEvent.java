@@ -0,0 +1,22 @@
+package com.banquet.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/** One or more bookings cancelled in the same transaction (by a user or by hold expiry). */
+public record BookingCancelledEvent(
+        List<CancelledBooking> bookings
+) implements DomainEvent {
+
+    public record CancelledBooking(
+            Long bookingId,
+            Long customerId,
+            Long venueId,
+            Long hallId,
+            LocalDate bookingDate,
+            LocalTime startTime,
+            LocalTime endTime
+    ) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.banquet.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record BookingCreatedEvent(
+        Long bookingId,
+        Long customerId,
+        Long venueId,
+        Long hallId,
+        LocalDate bookingDate,
+        LocalTime startTime,
+        LocalTime endTime
+) implements DomainEvent {
+}
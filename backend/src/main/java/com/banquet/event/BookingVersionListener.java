@@ -0,0 +1,47 @@
+package com.banquet.event;
+
+import com.banquet.repository.VenueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Bumps {@code venues.booking_version} inside the transaction that changed a
+ * venue's bookings, so a feed can never see the new version before the
+ * booking rows it describes. Redelivered events run outside a transaction
+ * and are ignored here.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingVersionListener {
+
+    private final VenueRepository venueRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookingCreated(BookingCreatedEvent event) {
+        bump(Set.of(event.venueId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookingCancelled(BookingCancelledEvent event) {
+        Set<Long> venueIds = new TreeSet<>();
+        event.bookings().forEach(b -> venueIds.add(b.venueId()));
+        bump(venueIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPaymentRecorded(PaymentRecordedEvent event) {
+        bump(Set.of(event.venueId()));
+    }
+
+    private void bump(Set<Long> venueIds) {
+        if (!venueIds.isEmpty()) {
+            venueRepository.bumpBookingVersion(venueIds, LocalDateTime.now());
+        }
+    }
+}
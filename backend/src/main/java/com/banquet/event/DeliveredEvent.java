@@ -0,0 +1,18 @@
+package com.banquet.event;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * A {@link DomainEvent} as delivered by {@link DomainEventDispatcher} after
+ * its transaction committed. Side-effect listeners subscribe to
+ * {@code DeliveredEvent<SomeEvent>} rather than to the raw event, which
+ * Spring also hands to plain {@code @EventListener}s inline at publish time.
+ */
+public record DeliveredEvent<E extends DomainEvent>(E event) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(DeliveredEvent.class, ResolvableType.forInstance(event));
+    }
+}
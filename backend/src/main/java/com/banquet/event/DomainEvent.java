@@ -0,0 +1,10 @@
+package com.banquet.event;
+
+/**
+ * Marker for events that {@link DomainEventDispatcher} delivers after the
+ * publishing transaction commits. Publish them with Spring's
+ * {@code ApplicationEventPublisher} from inside a transaction, and consume
+ * them with {@code @EventListener} methods taking a {@link DeliveredEvent}.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,209 @@
+package com.banquet.event;
+
+import com.banquet.config.AsyncConfig;
+import com.banquet.entity.OutboxEvent;
+import com.banquet.repository.OutboxEventRepository;
+import com.banquet.service.LeaseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves {@link DomainEvent}s off the request path. Once the publishing
+ * transaction commits, the event is handed to the bounded event executor,
+ * which delivers it wrapped in a {@link DeliveredEvent}; listeners with
+ * side effects subscribe to that envelope, so they run exactly once and
+ * never inside the publishing transaction. When the executor is saturated
+ * the committing thread delivers it itself. Each listener is invoked on its
+ * own, so one that throws does not keep the others from running.
+ * <p>
+ * With {@code app.events.outbox.enabled} the event is also written to
+ * {@code outbox_events} before commit and only the relay delivers it, in id
+ * order. The row records which listeners have completed, and a retry only
+ * runs the ones that failed. Side effects then survive a crash between
+ * commit and delivery; a crash mid-delivery can still repeat a listener.
+ * <p>
+ * The envelope is not itself a {@link DomainEvent}, so the transactional
+ * listeners below never see it and nothing loops.
+ */
+@Slf4j
+@Component
+public class DomainEventDispatcher {
+
+    private static final String RELAY_LEASE = "outbox-relay";
+
+    private final DomainEventMulticaster multicaster;
+    private final TaskExecutor executor;
+    private final OutboxEventRepository outboxRepository;
+    private final LeaseService leaseService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean relaying = new AtomicBoolean();
+    private volatile LocalDateTime lastCleanup = LocalDateTime.MIN;
+
+    @Value("${app.events.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
+    @Value("${app.events.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.events.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.events.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    public DomainEventDispatcher(DomainEventMulticaster multicaster,
+                                 @Qualifier(AsyncConfig.EVENT_EXECUTOR) TaskExecutor executor,
+                                 OutboxEventRepository outboxRepository,
+                                 LeaseService leaseService,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.multicaster = multicaster;
+        this.executor = executor;
+        this.outboxRepository = outboxRepository;
+        this.leaseService = leaseService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void store(DomainEvent event) {
+        if (!outboxEnabled) {
+            return;
+        }
+        try {
+            outboxRepository.save(OutboxEvent.builder()
+                    .eventType(event.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void afterCommit(DomainEvent event) {
+        if (outboxEnabled) {
+            executor.execute(this::relayPending);
+        } else {
+            executor.execute(() -> deliver(event, new LinkedHashSet<>()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.outbox.relay-interval-ms:5000}")
+    public void relayPending() {
+        if (!outboxEnabled || !relaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!leaseService.tryAcquire(RELAY_LEASE, Duration.ofMinutes(1))) {
+                return;
+            }
+            try {
+                List<OutboxEvent> batch;
+                do {
+                    batch = outboxRepository.findByDispatchedAtIsNullAndAttemptsLessThanOrderByIdAsc(
+                            maxAttempts, PageRequest.of(0, batchSize));
+                    for (OutboxEvent row : batch) {
+                        relay(row);
+                    }
+                } while (batch.size() == batchSize);
+                cleanup();
+            } finally {
+                leaseService.release(RELAY_LEASE);
+            }
+        } finally {
+            relaying.set(false);
+        }
+    }
+
+    private void relay(OutboxEvent row) {
+        DomainEvent event;
+        try {
+            Class<?> type = Class.forName(row.getEventType());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                throw new IllegalStateException("Not a domain event: " + row.getEventType());
+            }
+            event = (DomainEvent) objectMapper.readValue(row.getPayload(), type);
+        } catch (Exception e) {
+            log.error("Unreadable outbox event {} ({})", row.getId(), row.getEventType(), e);
+            outboxRepository.recordFailedAttempt(row.getId(), row.getDeliveredListeners());
+            return;
+        }
+        Set<String> done = new LinkedHashSet<>();
+        if (row.getDeliveredListeners() != null && !row.getDeliveredListeners().isEmpty()) {
+            done.addAll(List.of(row.getDeliveredListeners().split("\n")));
+        }
+        if (deliver(event, done)) {
+            outboxRepository.markDispatched(row.getId(), LocalDateTime.now());
+        } else {
+            outboxRepository.recordFailedAttempt(row.getId(), String.join("\n", done));
+        }
+    }
+
+    /** Runs each listener not yet in {@code done}, adding it once it succeeds; false if any failed. */
+    @SuppressWarnings("unchecked")
+    private boolean deliver(DomainEvent event, Set<String> done) {
+        String type = event.getClass().getSimpleName();
+        ApplicationEvent envelope = new PayloadApplicationEvent<>(this, new DeliveredEvent<>(event));
+        boolean delivered = true;
+        for (ApplicationListener<?> listener : multicaster.listenersFor(envelope)) {
+            String listenerId = listenerId(listener);
+            if (done.contains(listenerId)) {
+                continue;
+            }
+            try {
+                ((ApplicationListener<ApplicationEvent>) listener).onApplicationEvent(envelope);
+                done.add(listenerId);
+            } catch (RuntimeException e) {
+                delivered = false;
+                meterRegistry.counter("banquet.events.failed", "type", type).increment();
+                log.error("Listener {} failed for {}", listenerId, type, e);
+            }
+        }
+        if (delivered) {
+            meterRegistry.counter("banquet.events.delivered", "type", type).increment();
+        }
+        return delivered;
+    }
+
+    private static String listenerId(ApplicationListener<?> listener) {
+        // @EventListener methods report their qualified method signature, which is stable across restarts
+        String id = listener instanceof SmartApplicationListener smart ? smart.getListenerId() : "";
+        return id.isEmpty() ? listener.getClass().getName() : id;
+    }
+
+    private void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastCleanup.isAfter(now.minusHours(1))) {
+            return;
+        }
+        lastCleanup = now;
+        int deleted = outboxRepository.deleteDispatchedBefore(now.minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Deleted {} dispatched outbox events", deleted);
+        }
+    }
+}
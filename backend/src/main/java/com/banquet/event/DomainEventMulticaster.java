@@ -0,0 +1,25 @@
+package com.banquet.event;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * The context's event multicaster, unchanged except that it exposes the
+ * listeners it would call for an event. {@link DomainEventDispatcher} uses
+ * that to invoke each listener on its own, so one failing listener neither
+ * skips the others nor makes them run again on retry.
+ */
+@Component(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+public class DomainEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    /** Matching listeners in invocation order, resolved the same way {@code multicastEvent} does. */
+    public Collection<ApplicationListener<?>> listenersFor(ApplicationEvent event) {
+        return getApplicationListeners(event, ResolvableType.forInstance(event));
+    }
+}
@@ -0,0 +1,36 @@
+package com.banquet.event;
+
+import com.banquet.enums.HallStatus;
+import com.banquet.repository.VenueRepository;
+import com.banquet.service.SlotHoldStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Refreshes state derived from hall status once the change has committed:
+ * halls that stop being bookable lose their outstanding slot holds.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HallStatusChangeListener {
+
+    private final VenueRepository venueRepository;
+    private final SlotHoldStore slotHoldStore;
+
+    @EventListener
+    public void onHallStatusChanged(DeliveredEvent<HallStatusChangedEvent> delivered) {
+        HallStatusChangedEvent event = delivered.event();
+        if (event.status() == HallStatus.APPROVED) {
+            return;
+        }
+        Set<Long> venueIds = new HashSet<>(venueRepository.findIdsByHallIdIn(event.hallIds()));
+        int released = slotHoldStore.releaseForVenues(venueIds);
+        log.info("{} halls moved to {}: released {} slot holds", event.hallIds().size(), event.status(), released);
+    }
+}
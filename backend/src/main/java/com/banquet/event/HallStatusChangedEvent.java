@@ -0,0 +1,12 @@
+package com.banquet.event;
+
+import com.banquet.enums.HallStatus;
+
+import java.util.List;
+
+/** Published inside the transaction that moved these halls to {@code status}. */
+public record HallStatusChangedEvent(
+        List<Long> hallIds,
+        HallStatus status
+) implements DomainEvent {
+}
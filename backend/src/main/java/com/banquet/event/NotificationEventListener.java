@@ -0,0 +1,67 @@
+package com.banquet.event;
+
+import com.banquet.entity.Venue;
+import com.banquet.enums.LedgerEntryType;
+import com.banquet.repository.VenueRepository;
+import com.banquet.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/** Queues customer notifications for booking and payment changes once they have committed. */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final NotificationService notificationService;
+    private final VenueRepository venueRepository;
+
+    @EventListener
+    public void onBookingCreated(DeliveredEvent<BookingCreatedEvent> delivered) {
+        BookingCreatedEvent event = delivered.event();
+        notificationService.notifyUser(event.customerId(), "BOOKING_RECEIVED",
+                String.format("Booking #%d at %s on %s %s-%s is reserved pending payment.",
+                        event.bookingId(), venueName(event.venueId()), event.bookingDate(),
+                        event.startTime(), event.endTime()));
+    }
+
+    /** A lifecycle sweep cancels up to a chunk of bookings at once, so venues and users load in bulk. */
+    @EventListener
+    public void onBookingCancelled(DeliveredEvent<BookingCancelledEvent> delivered) {
+        List<BookingCancelledEvent.CancelledBooking> bookings = delivered.event().bookings();
+        Map<Long, String> venueNames = venueRepository.findAllById(bookings.stream()
+                        .map(BookingCancelledEvent.CancelledBooking::venueId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Venue::getId, Venue::getName));
+        List<NotificationService.UserMessage> messages = new ArrayList<>(bookings.size());
+        for (BookingCancelledEvent.CancelledBooking booking : bookings) {
+            messages.add(new NotificationService.UserMessage(booking.customerId(), "BOOKING_CANCELLED",
+                    String.format("Booking #%d at %s on %s %s-%s has been cancelled.",
+                            booking.bookingId(), venueNames.getOrDefault(booking.venueId(), "your venue"),
+                            booking.bookingDate(), booking.startTime(), booking.endTime())));
+        }
+        notificationService.notifyUsers(messages);
+    }
+
+    @EventListener
+    public void onPaymentRecorded(DeliveredEvent<PaymentRecordedEvent> delivered) {
+        PaymentRecordedEvent event = delivered.event();
+        if (event.entryType() == LedgerEntryType.REFUND) {
+            notificationService.notifyUser(event.customerId(), "REFUND_ISSUED",
+                    String.format("A refund of %s for booking #%d has been issued.",
+                            event.amount().negate(), event.bookingId()));
+        } else {
+            notificationService.notifyUser(event.customerId(), "PAYMENT_RECEIVED",
+                    String.format("Payment of %s received for booking #%d at %s on %s.",
+                            event.amount(), event.bookingId(), venueName(event.venueId()), event.bookingDate()));
+        }
+    }
+
+    private String venueName(Long venueId) {
+        return venueRepository.findById(venueId).map(Venue::getName).orElse("your venue");
+    }
+}
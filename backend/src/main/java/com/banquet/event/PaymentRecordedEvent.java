@@ -0,0 +1,19 @@
+package com.banquet.event;
+
+import com.banquet.enums.LedgerEntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** A ledger entry was written: charges carry a positive amount, refunds a negative one. */
+public record PaymentRecordedEvent(
+        Long paymentId,
+        Long bookingId,
+        Long customerId,
+        Long venueId,
+        Long hallId,
+        LocalDate bookingDate,
+        LedgerEntryType entryType,
+        BigDecimal amount
+) implements DomainEvent {
+}
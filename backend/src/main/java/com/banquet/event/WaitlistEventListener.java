@@ -0,0 +1,24 @@
+package com.banquet.event;
+
+import com.banquet.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/** Offers freed slots to waiting customers and retires entries their owners booked. */
+@Component
+@RequiredArgsConstructor
+public class WaitlistEventListener {
+
+    private final WaitlistService waitlistService;
+
+    @EventListener
+    public void onBookingCancelled(DeliveredEvent<BookingCancelledEvent> delivered) {
+        waitlistService.onSlotsFreed(delivered.event().bookings());
+    }
+
+    @EventListener
+    public void onBookingCreated(DeliveredEvent<BookingCreatedEvent> delivered) {
+        waitlistService.onBooked(delivered.event());
+    }
+}
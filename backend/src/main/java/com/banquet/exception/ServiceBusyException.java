@@ -0,0 +1,9 @@
+package com.banquet.exception;
+
+/** A bounded resource is saturated and the request was shed; mapped to HTTP 503. */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
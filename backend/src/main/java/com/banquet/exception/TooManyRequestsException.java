@@ -0,0 +1,9 @@
+package com.banquet.exception;
+
+/** Rejected by a rate limit; mapped to HTTP 429. */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -2,19 +2,45 @@ package com.banquet.repository;
 
 import com.banquet.entity.BanquetHall;
 import com.banquet.enums.HallStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BanquetHallRepository extends JpaRepository<BanquetHall, Long>,
         JpaSpecificationExecutor<BanquetHall> {
 
+    @EntityGraph(attributePaths = "owner")
     List<BanquetHall> findByOwnerId(Long ownerId);
 
+    @Query("SELECT h.id FROM BanquetHall h WHERE h.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    @EntityGraph(attributePaths = "owner")
     List<BanquetHall> findByStatus(HallStatus status);
 
+    @Query("SELECT h.id, h.status FROM BanquetHall h WHERE h.id IN :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT h.id, h.owner.id FROM BanquetHall h WHERE h.id IN :ids")
+    List<Object[]> findOwnerIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE BanquetHall h SET h.status = :status, h.updatedAt = CURRENT_TIMESTAMP WHERE h.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") HallStatus status);
+
+    @Modifying
+    @Query("UPDATE BanquetHall h SET h.status = :status, h.adminNotes = :notes, h.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE h.id IN :ids")
+    int updateStatusAndNotes(@Param("ids") Collection<Long> ids, @Param("status") HallStatus status,
+                             @Param("notes") String notes);
+
     List<BanquetHall> findByStatusAndCityIgnoreCase(HallStatus status, String city);
 }
@@ -0,0 +1,25 @@
+package com.banquet.repository;
+
+import com.banquet.entity.BookingArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BookingArchiveRepository extends JpaRepository<BookingArchive, Long> {
+
+    List<BookingArchive> findByCustomerIdOrderByBookingDateDescIdDesc(Long customerId, Pageable pageable);
+
+    @Query("SELECT a FROM BookingArchive a WHERE a.customerId = :customerId " +
+            "AND (a.bookingDate < :beforeDate OR (a.bookingDate = :beforeDate AND a.id < :beforeId)) " +
+            "ORDER BY a.bookingDate DESC, a.id DESC")
+    List<BookingArchive> findPageBefore(@Param("customerId") Long customerId,
+                                        @Param("beforeDate") LocalDate beforeDate,
+                                        @Param("beforeId") Long beforeId,
+                                        Pageable pageable);
+}
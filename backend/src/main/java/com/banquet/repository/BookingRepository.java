@@ -1,26 +1,73 @@
 package com.banquet.repository;
 
+import com.banquet.dto.BookingExportRow;
 import com.banquet.entity.Booking;
+import com.banquet.enums.BookingStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByCustomerId(Long customerId);
+    // Filters on the foreign key column; the derived query joins users and scans bookings
+    @Query("SELECT b FROM Booking b WHERE b.customer.id = :customerId ORDER BY b.createdAt DESC")
+    List<Booking> findByCustomerIdOrderByCreatedAtDesc(@Param("customerId") Long customerId);
 
     List<Booking> findByVenueId(Long venueId);
 
     List<Booking> findByVenueHallId(Long hallId);
 
+    @EntityGraph(attributePaths = {"customer", "venue", "venue.hall"})
+    List<Booking> findByIdIn(Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.banquet.dto.BookingExportRow(b.id, v.id, v.name, c.id, c.fullName, b.bookingDate, " +
+            "b.startTime, b.endTime, b.totalAmount, b.paidAmount, b.status, b.paymentMode, b.cancellationReason, " +
+            "b.createdAt) FROM Booking b JOIN b.venue v JOIN b.customer c WHERE v.hall.id = :hallId " +
+            "ORDER BY b.bookingDate, b.id")
+    Stream<BookingExportRow> streamExportRowsByHallId(@Param("hallId") Long hallId);
+
+    @EntityGraph(attributePaths = "customer")
+    @Query("SELECT b FROM Booking b WHERE b.venue.id = :venueId AND b.bookingDate >= :from")
+    List<Booking> findForFeed(@Param("venueId") Long venueId, @Param("from") LocalDate from);
+
+    @EntityGraph(attributePaths = "customer")
+    @Query("SELECT b FROM Booking b WHERE b.venue.id = :venueId AND b.bookingDate >= :from " +
+            "AND b.updatedAt >= :since")
+    List<Booking> findChangedForFeed(@Param("venueId") Long venueId, @Param("from") LocalDate from,
+                                     @Param("since") LocalDateTime since);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.status IN :statuses AND b.bookingDate < :cutoff " +
+            "ORDER BY b.bookingDate, b.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<BookingStatus> statuses,
+                                 @Param("cutoff") LocalDate cutoff,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.venue.id = :venueId " +
             "AND b.bookingDate = :date " +
             "AND (b.status = com.banquet.enums.BookingStatus.PENDING OR b.status = com.banquet.enums.BookingStatus.CONFIRMED) " +
@@ -30,4 +77,61 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                           @Param("date") LocalDate date,
                           @Param("startTime") LocalTime startTime,
                           @Param("endTime") LocalTime endTime);
+
+    @Query("SELECT b.venue.id, b.bookingDate, b.startTime, b.endTime FROM Booking b " +
+            "WHERE b.venue.id IN :venueIds AND b.bookingDate IN :dates " +
+            "AND (b.status = com.banquet.enums.BookingStatus.PENDING OR b.status = com.banquet.enums.BookingStatus.CONFIRMED)")
+    List<Object[]> findActiveSlots(@Param("venueIds") Collection<Long> venueIds,
+                                   @Param("dates") Collection<LocalDate> dates);
+
+    // Native so the amount is not rendered as CAST(? AS numeric($p,$s)), which H2 rejects
+    @Modifying
+    @Query(value = "UPDATE bookings SET paid_amount = paid_amount + :amount, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = :id", nativeQuery = true)
+    int addPaidAmount(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = "UPDATE bookings SET paid_amount = paid_amount - :amount, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = :id AND paid_amount >= :amount", nativeQuery = true)
+    int deductPaidAmount(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.banquet.enums.BookingStatus.CONFIRMED, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.id = :id AND b.status = com.banquet.enums.BookingStatus.PENDING " +
+            "AND (:force = true OR b.paidAmount >= b.totalAmount)")
+    int confirmIfPending(@Param("id") Long id, @Param("force") boolean force);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.status = com.banquet.enums.BookingStatus.PENDING " +
+            "AND b.paidAmount = 0 " +
+            "AND b.createdAt < :cutoff " +
+            "AND MOD(b.venue.id, :partitions) = :partition " +
+            "AND NOT EXISTS (SELECT p FROM Payment p WHERE p.booking = b " +
+            "AND p.status IN (com.banquet.enums.PaymentStatus.SUCCESS, com.banquet.enums.PaymentStatus.PENDING)) " +
+            "ORDER BY b.id")
+    List<Booking> lockExpiredHolds(@Param("cutoff") LocalDateTime cutoff,
+                                   @Param("partitions") int partitions,
+                                   @Param("partition") int partition,
+                                   Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.banquet.enums.BookingStatus.CANCELLED, " +
+            "b.cancellationReason = :reason, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.id IN :ids AND b.status = com.banquet.enums.BookingStatus.PENDING")
+    int expireByIds(@Param("ids") Collection<Long> ids, @Param("reason") String reason);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.status = com.banquet.enums.BookingStatus.CONFIRMED " +
+            "AND (b.bookingDate < :today OR (b.bookingDate = :today AND b.endTime <= :now)) " +
+            "AND MOD(b.venue.id, :partitions) = :partition " +
+            "ORDER BY b.id")
+    List<Long> findCompletableIds(@Param("today") LocalDate today,
+                                  @Param("now") LocalTime now,
+                                  @Param("partitions") int partitions,
+                                  @Param("partition") int partition,
+                                  Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = com.banquet.enums.BookingStatus.COMPLETED, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.id IN :ids AND b.status = com.banquet.enums.BookingStatus.CONFIRMED")
+    int completeByIds(@Param("ids") Collection<Long> ids);
 }
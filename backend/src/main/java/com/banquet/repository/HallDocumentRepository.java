@@ -4,6 +4,7 @@ import com.banquet.entity.HallDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,5 +12,7 @@ public interface HallDocumentRepository extends JpaRepository<HallDocument, Long
 
     List<HallDocument> findByHallId(Long hallId);
 
+    List<HallDocument> findByHallIdIn(Collection<Long> hallIds);
+
     void deleteByHallId(Long hallId);
 }
@@ -2,6 +2,8 @@ package com.banquet.repository;
 
 import com.banquet.entity.HallStaff;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,10 +12,14 @@ import java.util.Optional;
 @Repository
 public interface HallStaffRepository extends JpaRepository<HallStaff, Long> {
 
-    List<HallStaff> findByHallId(Long hallId);
+    @Query("SELECT s FROM HallStaff s WHERE s.hall.id = :hallId")
+    List<HallStaff> findByHallId(@Param("hallId") Long hallId);
 
     List<HallStaff> findByUserId(Long userId);
 
+    @Query("SELECT s.hall.id FROM HallStaff s WHERE s.user.id = :userId")
+    List<Long> findHallIdsByUserId(@Param("userId") Long userId);
+
     Optional<HallStaff> findByHallIdAndUserId(Long hallId, Long userId);
 
     boolean existsByHallIdAndUserId(Long hallId, Long userId);
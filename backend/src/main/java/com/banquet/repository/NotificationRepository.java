@@ -0,0 +1,47 @@
+package com.banquet.repository;
+
+import com.banquet.entity.Notification;
+import com.banquet.enums.NotificationChannel;
+import com.banquet.enums.NotificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Query("SELECT n FROM Notification n WHERE n.channel = :channel AND n.status = 'PENDING' " +
+            "AND n.nextAttemptAt <= :now ORDER BY n.nextAttemptAt ASC")
+    List<Notification> findDue(@Param("channel") NotificationChannel channel,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'SENT', n.sentAt = :sentAt, n.attempts = n.attempts + 1, " +
+            "n.body = CASE WHEN n.sensitive = true THEN '[redacted]' ELSE n.body END " +
+            "WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :status, n.attempts = n.attempts + 1, " +
+            "n.nextAttemptAt = :nextAttemptAt, n.lastError = :error, " +
+            "n.body = CASE WHEN n.sensitive = true AND :status = com.banquet.enums.NotificationStatus.FAILED " +
+            "THEN '[redacted]' ELSE n.body END " +
+            "WHERE n.id IN :ids")
+    int recordFailure(@Param("ids") Collection<Long> ids,
+                      @Param("status") NotificationStatus status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    long countByChannelAndStatus(NotificationChannel channel, NotificationStatus status);
+}
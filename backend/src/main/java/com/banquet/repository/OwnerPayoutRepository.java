@@ -0,0 +1,35 @@
+package com.banquet.repository;
+
+import com.banquet.entity.OwnerPayout;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface OwnerPayoutRepository extends JpaRepository<OwnerPayout, Long> {
+
+    // Native so the amounts are not rendered as CAST(? AS numeric($p,$s)), which H2 rejects
+    @Modifying
+    @Query(value = "UPDATE owner_payouts SET charge_total = charge_total + :charges, " +
+            "refund_total = refund_total + :refunds, amount = amount + :charges + :refunds, " +
+            "entry_count = entry_count + :entries WHERE run_id = :runId AND hall_id = :hallId",
+            nativeQuery = true)
+    int addToTotals(@Param("runId") Long runId,
+                    @Param("hallId") Long hallId,
+                    @Param("charges") BigDecimal charges,
+                    @Param("refunds") BigDecimal refunds,
+                    @Param("entries") long entries);
+
+    List<OwnerPayout> findByRunIdAndIdGreaterThanOrderByIdAsc(Long runId, Long afterId, Pageable pageable);
+
+    Page<OwnerPayout> findByRunIdOrderByHallIdAsc(Long runId, Pageable pageable);
+
+    Page<OwnerPayout> findByOwnerIdOrderByIdDesc(Long ownerId, Pageable pageable);
+}
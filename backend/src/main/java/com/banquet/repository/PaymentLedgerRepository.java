@@ -0,0 +1,19 @@
+package com.banquet.repository;
+
+import com.banquet.entity.PaymentLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface PaymentLedgerRepository extends JpaRepository<PaymentLedgerEntry, Long> {
+
+    List<PaymentLedgerEntry> findByBookingIdOrderByIdAsc(Long bookingId);
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM PaymentLedgerEntry e WHERE e.bookingId = :bookingId")
+    BigDecimal sumByBookingId(@Param("bookingId") Long bookingId);
+}
@@ -1,16 +1,76 @@
 package com.banquet.repository;
 
+import com.banquet.dto.PaymentExportRow;
 import com.banquet.entity.Payment;
+import com.banquet.enums.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     List<Payment> findByBookingId(Long bookingId);
 
-    Optional<Payment> findByStripePaymentIntentId(String stripeId);
+    List<Payment> findByBookingIdInOrderByIdAsc(Collection<Long> bookingIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.banquet.dto.PaymentExportRow(p.id, b.id, v.id, v.name, b.bookingDate, p.amount, " +
+            "p.paymentType, p.status, p.stripePaymentIntentId, p.createdAt) " +
+            "FROM Payment p JOIN p.booking b JOIN b.venue v WHERE v.hall.id = :hallId ORDER BY p.id")
+    Stream<PaymentExportRow> streamExportRowsByHallId(@Param("hallId") Long hallId);
+
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.booking.id IN :bookingIds")
+    int deleteByBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
+
+    Optional<Payment> findFirstByBookingIdAndStatusOrderByIdAsc(Long bookingId, PaymentStatus status);
+
+    boolean existsByStripePaymentIntentId(String stripePaymentIntentId);
+
+    /** PENDING payments older than the hold window on unpaid holds the lifecycle job is about to expire. */
+    @Query("SELECT p FROM Payment p JOIN p.booking b WHERE p.status = com.banquet.enums.PaymentStatus.PENDING " +
+            "AND p.createdAt < :cutoff AND p.id > :afterId " +
+            "AND b.status = com.banquet.enums.BookingStatus.PENDING AND b.paidAmount = 0 AND b.createdAt < :cutoff " +
+            "AND MOD(b.venue.id, :partitions) = :partition " +
+            "ORDER BY p.id")
+    List<Payment> findStalePendingOnHolds(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("partitions") int partitions,
+                                          @Param("partition") int partition,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    @Query("SELECT p FROM Payment p WHERE p.stripePaymentIntentId = :stripeId " +
+            "AND p.status <> com.banquet.enums.PaymentStatus.REFUNDED")
+    Optional<Payment> findByStripePaymentIntentId(@Param("stripeId") String stripeId);
+
+    // A payment voided with its hold is never revived onto the cancelled booking
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.banquet.enums.PaymentStatus.SUCCESS " +
+            "WHERE p.stripePaymentIntentId = :stripeId " +
+            "AND (p.status = com.banquet.enums.PaymentStatus.PENDING " +
+            "OR (p.status = com.banquet.enums.PaymentStatus.FAILED AND EXISTS (SELECT b.id FROM Booking b " +
+            "WHERE b.id = p.booking.id AND b.status <> com.banquet.enums.BookingStatus.CANCELLED)))")
+    int markSucceeded(@Param("stripeId") String stripeId);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.banquet.enums.PaymentStatus.FAILED " +
+            "WHERE p.stripePaymentIntentId = :stripeId " +
+            "AND p.status = com.banquet.enums.PaymentStatus.PENDING")
+    int markFailed(@Param("stripeId") String stripeId);
 }
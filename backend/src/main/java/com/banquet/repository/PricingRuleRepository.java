@@ -0,0 +1,16 @@
+package com.banquet.repository;
+
+import com.banquet.entity.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+
+    List<PricingRule> findByVenueIdOrderByPriorityDescIdDesc(Long venueId);
+
+    List<PricingRule> findByVenueIdInAndActiveTrue(Collection<Long> venueIds);
+}
@@ -0,0 +1,29 @@
+package com.banquet.repository;
+
+import com.banquet.entity.SettlementRun;
+import com.banquet.enums.SettlementRunStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+
+    Optional<SettlementRun> findFirstByStatusOrderByIdAsc(SettlementRunStatus status);
+
+    Optional<SettlementRun> findFirstByStatusOrderByIdDesc(SettlementRunStatus status);
+
+    Page<SettlementRun> findAllByOrderByIdDesc(Pageable pageable);
+
+    /** Only moves forward, so a chunk counted by another node is not counted again; 0 means it was. */
+    @Modifying
+    @Query("UPDATE SettlementRun r SET r.checkpointLedgerId = :checkpoint, r.entryCount = r.entryCount + :entries " +
+            "WHERE r.id = :id AND r.checkpointLedgerId < :checkpoint")
+    int advanceCheckpoint(@Param("id") Long id, @Param("checkpoint") Long checkpoint, @Param("entries") long entries);
+}
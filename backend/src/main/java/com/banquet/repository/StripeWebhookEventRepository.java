@@ -0,0 +1,39 @@
+package com.banquet.repository;
+
+import com.banquet.entity.StripeWebhookEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, String> {
+
+    List<StripeWebhookEvent> findByProcessedFalseAndReceivedAtBeforeOrderByReceivedAtAsc(LocalDateTime before,
+                                                                                        Pageable pageable);
+
+    /** Records the event unless a concurrent or earlier delivery already did; 0 means duplicate. */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stripe_webhook_events (id, event_type, payment_intent_id, processed) " +
+            "VALUES (:id, :eventType, :paymentIntentId, :processed) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("eventType") String eventType,
+                       @Param("paymentIntentId") String paymentIntentId,
+                       @Param("processed") boolean processed);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StripeWebhookEvent e SET e.processed = true, e.processedAt = :processedAt " +
+            "WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<String> ids,
+                      @Param("processedAt") LocalDateTime processedAt);
+}
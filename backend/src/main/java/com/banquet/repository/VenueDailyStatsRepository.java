@@ -0,0 +1,45 @@
+package com.banquet.repository;
+
+import com.banquet.entity.VenueDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface VenueDailyStatsRepository extends JpaRepository<VenueDailyStats, Long> {
+
+    List<VenueDailyStats> findByHallIdAndStatDateBetweenOrderByStatDateAsc(Long hallId, LocalDate from, LocalDate to);
+
+    // Native so the decimal parameters are not rendered as CAST(? AS numeric($p,$s)), which H2 rejects
+    @Modifying
+    @Query(value = "UPDATE venue_daily_stats SET " +
+            "booking_count = booking_count + :bookings, " +
+            "cancellation_count = cancellation_count + :cancellations, " +
+            "booked_minutes = booked_minutes + :minutes, " +
+            "revenue = revenue + :revenue, " +
+            "refunded_amount = refunded_amount + :refunded " +
+            "WHERE venue_id = :venueId AND stat_date = :date",
+            nativeQuery = true)
+    int increment(@Param("venueId") Long venueId,
+                  @Param("date") LocalDate date,
+                  @Param("bookings") long bookings,
+                  @Param("cancellations") long cancellations,
+                  @Param("minutes") long minutes,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("refunded") BigDecimal refunded);
+
+    @Modifying
+    @Query(value = "INSERT INTO venue_daily_stats " +
+            "(venue_id, hall_id, stat_date, booking_count, cancellation_count, booked_minutes, revenue, refunded_amount) " +
+            "VALUES (:venueId, :hallId, :date, 0, 0, 0, 0, 0) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("venueId") Long venueId,
+                       @Param("hallId") Long hallId,
+                       @Param("date") LocalDate date);
+}
@@ -2,15 +2,27 @@ package com.banquet.repository;
 
 import com.banquet.entity.VenuePricing;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface VenuePricingRepository extends JpaRepository<VenuePricing, Long> {
 
-    List<VenuePricing> findByVenueIdAndEffectiveDate(Long venueId, LocalDate date);
+    @Query("SELECT p FROM VenuePricing p WHERE p.venue.id = :venueId AND p.effectiveDate = :date")
+    List<VenuePricing> findByVenueIdAndEffectiveDate(@Param("venueId") Long venueId, @Param("date") LocalDate date);
 
-    void deleteByVenueIdAndEffectiveDate(Long venueId, LocalDate date);
+    @Query("SELECT p FROM VenuePricing p WHERE p.venue.id IN :venueIds AND p.effectiveDate >= :from")
+    List<VenuePricing> findByVenueIdInAndEffectiveDateGreaterThanEqual(@Param("venueIds") Collection<Long> venueIds,
+                                                                     @Param("from") LocalDate from);
+
+    @Modifying
+    @Query("DELETE FROM VenuePricing p WHERE p.venue.id = :venueId AND p.effectiveDate IN :dates")
+    int deleteByVenueIdAndEffectiveDateIn(@Param("venueId") Long venueId,
+                                          @Param("dates") Collection<LocalDate> dates);
 }
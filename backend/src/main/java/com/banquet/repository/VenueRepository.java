@@ -1,15 +1,54 @@
 package com.banquet.repository;
 
+import com.banquet.dto.VenueFeedState;
 import com.banquet.entity.Venue;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VenueRepository extends JpaRepository<Venue, Long> {
 
-    List<Venue> findByHallId(Long hallId);
+    @Query("SELECT v FROM Venue v WHERE v.hall.id = :hallId")
+    List<Venue> findByHallId(@Param("hallId") Long hallId);
 
-    List<Venue> findByHallIdAndActiveTrue(Long hallId);
+    @Query("SELECT v FROM Venue v WHERE v.hall.id = :hallId AND v.active = true")
+    List<Venue> findByHallIdAndActiveTrue(@Param("hallId") Long hallId);
+
+    /** Locks in id order, so requests claiming overlapping venue sets queue instead of deadlocking. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
+    @Query("SELECT v FROM Venue v WHERE v.id IN :ids ORDER BY v.id")
+    List<Venue> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT v.id FROM Venue v WHERE v.hall.id IN :hallIds")
+    List<Long> findIdsByHallIdIn(@Param("hallIds") Collection<Long> hallIds);
+
+    @Modifying
+    @Query("UPDATE Venue v SET v.bookingVersion = v.bookingVersion + 1, v.bookingsChangedAt = :now " +
+            "WHERE v.id IN :ids")
+    int bumpBookingVersion(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Venue v SET v.pricingVersion = v.pricingVersion + 1 WHERE v.id = :id")
+    int bumpPricingVersion(@Param("id") Long id);
+
+    @Query("SELECT new com.banquet.dto.VenueFeedState(v.id, v.hall.id, v.name, v.bookingVersion, " +
+            "v.bookingsChangedAt) FROM Venue v WHERE v.id = :id")
+    Optional<VenueFeedState> findFeedState(@Param("id") Long id);
+
+    @Query("SELECT new com.banquet.dto.VenueFeedState(v.id, v.hall.id, v.name, v.bookingVersion, " +
+            "v.bookingsChangedAt) FROM Venue v WHERE v.hall.id = :hallId ORDER BY v.id")
+    List<VenueFeedState> findFeedStatesByHallId(@Param("hallId") Long hallId);
 }
@@ -0,0 +1,65 @@
+package com.banquet.repository;
+
+import com.banquet.entity.WaitlistEntry;
+import com.banquet.enums.WaitlistStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    @EntityGraph(attributePaths = "venue")
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.customer.id = :customerId ORDER BY w.createdAt DESC")
+    List<WaitlistEntry> findByCustomerIdOrderByCreatedAtDesc(@Param("customerId") Long customerId);
+
+    long countByCustomerIdAndStatusIn(Long customerId, Collection<WaitlistStatus> statuses);
+
+    List<WaitlistEntry> findByVenueIdAndWaitDateAndStatus(Long venueId, LocalDate waitDate, WaitlistStatus status);
+
+    List<WaitlistEntry> findByVenueIdAndWaitDateAndStatusAndCreatedAtAfter(Long venueId, LocalDate waitDate,
+                                                                         WaitlistStatus status,
+                                                                         LocalDateTime createdAfter);
+
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.status = com.banquet.enums.WaitlistStatus.OFFERED " +
+            "AND w.offerExpiresAt < :now")
+    List<WaitlistEntry> findExpiredOffers(@Param("now") LocalDateTime now);
+
+    @Query("SELECT w.id FROM WaitlistEntry w WHERE w.customer.id = :customerId AND w.venue.id = :venueId " +
+            "AND w.waitDate = :date AND w.startTime < :endTime AND w.endTime > :startTime " +
+            "AND w.status IN :statuses")
+    List<Long> findOverlappingIds(@Param("customerId") Long customerId,
+                                  @Param("venueId") Long venueId,
+                                  @Param("date") LocalDate date,
+                                  @Param("startTime") LocalTime startTime,
+                                  @Param("endTime") LocalTime endTime,
+                                  @Param("statuses") Collection<WaitlistStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = com.banquet.enums.WaitlistStatus.OFFERED, " +
+            "w.offerHoldId = :holdId, w.offerExpiresAt = :expiresAt, w.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE w.id = :id AND w.status = com.banquet.enums.WaitlistStatus.WAITING")
+    int markOffered(@Param("id") Long id, @Param("holdId") String holdId,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = :status, w.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE w.id IN :ids AND w.status IN :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") WaitlistStatus status,
+                     @Param("from") Collection<WaitlistStatus> from);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = com.banquet.enums.WaitlistStatus.EXPIRED, " +
+            "w.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE w.waitDate < :today AND w.status = com.banquet.enums.WaitlistStatus.WAITING")
+    int expirePast(@Param("today") LocalDate today);
+}
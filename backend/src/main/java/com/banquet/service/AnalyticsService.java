@@ -0,0 +1,157 @@
+package com.banquet.service;
+
+import com.banquet.dto.HallAnalyticsResponse;
+import com.banquet.dto.VenueMonthlyStats;
+import com.banquet.entity.Venue;
+import com.banquet.entity.VenueDailyStats;
+import com.banquet.event.BookingCancelledEvent.CancelledBooking;
+import com.banquet.event.BookingCreatedEvent;
+import com.banquet.event.PaymentRecordedEvent;
+import com.banquet.repository.VenueDailyStatsRepository;
+import com.banquet.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Timed("banquet.service")
+public class AnalyticsService {
+
+    private static final long MAX_RANGE_DAYS = 3 * 366;
+
+    private final VenueDailyStatsRepository statsRepository;
+    private final VenueRepository venueRepository;
+    private final HallAccessService hallAccessService;
+
+    @Value("${app.analytics.operating-minutes-per-day:1440}")
+    private long operatingMinutesPerDay;
+
+    @Transactional
+    public void recordBookingCreated(BookingCreatedEvent booking) {
+        apply(booking.venueId(), booking.hallId(), booking.bookingDate(), 1, 0,
+                minutesBetween(booking.startTime(), booking.endTime()), BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public void recordBookingsCancelled(List<CancelledBooking> bookings) {
+        // One increment per (venue, date) rather than per booking.
+        Map<String, CancelledBooking> representatives = new LinkedHashMap<>();
+        Map<String, long[]> totals = new HashMap<>();
+        for (CancelledBooking booking : bookings) {
+            String key = booking.venueId() + ":" + booking.bookingDate();
+            representatives.putIfAbsent(key, booking);
+            long[] counts = totals.computeIfAbsent(key, k -> new long[2]);
+            counts[0]++;
+            counts[1] += minutesBetween(booking.startTime(), booking.endTime());
+        }
+        representatives.forEach((key, booking) -> {
+            long[] counts = totals.get(key);
+            apply(booking.venueId(), booking.hallId(), booking.bookingDate(), 0, counts[0], -counts[1],
+                    BigDecimal.ZERO, BigDecimal.ZERO);
+        });
+    }
+
+    @Transactional
+    public void recordPayment(PaymentRecordedEvent payment) {
+        BigDecimal amount = payment.amount();
+        BigDecimal refunded = amount.signum() >= 0 ? BigDecimal.ZERO : amount.negate();
+        apply(payment.venueId(), payment.hallId(), payment.bookingDate(), 0, 0, 0, amount, refunded);
+    }
+
+    public HallAnalyticsResponse getHallAnalytics(Long hallId, Long userId, LocalDate from, LocalDate to) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to view analytics for this hall");
+
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusMonths(12).withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > MAX_RANGE_DAYS) {
+            throw new RuntimeException("Date range must not exceed 3 years");
+        }
+
+        Map<Long, String> venueNames = venueRepository.findByHallId(hallId).stream()
+                .collect(Collectors.toMap(Venue::getId, Venue::getName));
+
+        Map<Long, Map<YearMonth, List<VenueDailyStats>>> grouped = statsRepository
+                .findByHallIdAndStatDateBetweenOrderByStatDateAsc(hallId, start, end).stream()
+                .collect(Collectors.groupingBy(VenueDailyStats::getVenueId, TreeMap::new,
+                        Collectors.groupingBy(s -> YearMonth.from(s.getStatDate()), TreeMap::new,
+                                Collectors.toList())));
+
+        List<VenueMonthlyStats> rows = new ArrayList<>();
+        grouped.forEach((venueId, months) -> months.forEach((month, days) ->
+                rows.add(toMonthlyStats(venueId, venueNames.get(venueId), month, days, start, end))));
+        rows.sort(Comparator.comparing(VenueMonthlyStats::month).thenComparing(VenueMonthlyStats::venueId));
+
+        return new HallAnalyticsResponse(
+                hallId,
+                start,
+                end,
+                rows.stream().mapToLong(VenueMonthlyStats::bookings).sum(),
+                rows.stream().mapToLong(VenueMonthlyStats::cancellations).sum(),
+                rows.stream().map(VenueMonthlyStats::revenue).reduce(BigDecimal.ZERO, BigDecimal::add),
+                rows
+        );
+    }
+
+    private VenueMonthlyStats toMonthlyStats(Long venueId, String venueName, YearMonth month,
+                                             List<VenueDailyStats> days, LocalDate from, LocalDate to) {
+        long bookings = sum(days, VenueDailyStats::getBookingCount);
+        long cancellations = sum(days, VenueDailyStats::getCancellationCount);
+        long minutes = sum(days, VenueDailyStats::getBookedMinutes);
+        BigDecimal revenue = days.stream().map(VenueDailyStats::getRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal refunded = days.stream().map(VenueDailyStats::getRefundedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        LocalDate periodStart = month.atDay(1).isBefore(from) ? from : month.atDay(1);
+        LocalDate periodEnd = month.atEndOfMonth().isAfter(to) ? to : month.atEndOfMonth();
+        long availableMinutes = (ChronoUnit.DAYS.between(periodStart, periodEnd) + 1) * operatingMinutesPerDay;
+        double occupancy = availableMinutes > 0
+                ? BigDecimal.valueOf(minutes)
+                        .divide(BigDecimal.valueOf(availableMinutes), 4, RoundingMode.HALF_UP)
+                        .doubleValue()
+                : 0.0;
+
+        return new VenueMonthlyStats(venueId, venueName, month.toString(), bookings, cancellations,
+                minutes, occupancy, revenue, refunded);
+    }
+
+    private long sum(List<VenueDailyStats> days, ToLongFunction<VenueDailyStats> field) {
+        return days.stream().mapToLong(field).sum();
+    }
+
+    private void apply(Long venueId, Long hallId, LocalDate date, long bookings, long cancellations,
+                       long minutes, BigDecimal revenue, BigDecimal refunded) {
+        int updated = statsRepository.increment(venueId, date, bookings, cancellations, minutes, revenue, refunded);
+        if (updated == 0) {
+            statsRepository.insertIfAbsent(venueId, hallId, date);
+            statsRepository.increment(venueId, date, bookings, cancellations, minutes, revenue, refunded);
+        }
+    }
+
+    private long minutesBetween(LocalTime start, LocalTime end) {
+        return Duration.between(start, end).toMinutes();
+    }
+}
@@ -5,17 +5,19 @@ import com.banquet.entity.User;
 import com.banquet.enums.UserRole;
 import com.banquet.repository.UserRepository;
 import com.banquet.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final OtpService otpService;
 
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByPhone(request.phone())) {
@@ -31,7 +33,7 @@ public class AuthService {
         User user = User.builder()
                 .phone(request.phone())
                 .email(request.email())
-                .passwordHash(passwordEncoder.encode(request.password()))
+                .passwordHash(passwordHashingService.encode(request.password()))
                 .fullName(request.fullName())
                 .role(request.role())
                 .phoneVerified(false)
@@ -44,18 +46,31 @@ public class AuthService {
         return new AuthResponse(accessToken, refreshToken, toUserDTO(user));
     }
 
-    public AuthResponse login(AuthRequest request) {
+    public void requestOtp(OtpRequest request, String clientIp) {
+        otpService.requestOtp(request.phone(), clientIp);
+    }
+
+    public AuthResponse login(AuthRequest request, String clientIp) {
+        if (request.otp() != null) {
+            // Verified before the user lookup so that failed guesses never reach the database.
+            otpService.verify(request.phone(), request.otp(), clientIp);
+        }
         User user = userRepository.findByPhone(request.phone())
                 .orElseThrow(() -> new RuntimeException("Invalid credentials"));
 
         if (request.otp() != null) {
-            if (!"123456".equals(request.otp())) {
-                throw new RuntimeException("Invalid OTP");
+            if (!user.isPhoneVerified()) {
+                user.setPhoneVerified(true);
+                user = userRepository.save(user);
             }
         } else {
-            if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+            if (!passwordHashingService.matches(request.password(), user.getPasswordHash())) {
                 throw new RuntimeException("Invalid credentials");
             }
+            if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+                user.setPasswordHash(passwordHashingService.encode(request.password()));
+                user = userRepository.save(user);
+            }
         }
 
         String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getRole().name());
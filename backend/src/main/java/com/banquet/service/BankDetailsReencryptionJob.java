@@ -0,0 +1,151 @@
+package com.banquet.service;
+
+import com.banquet.config.FieldEncryptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-seals hall bank details that are still legacy ECB ciphertext or sit
+ * under a retired key. Walks {@code banquet_halls} by id in small batches,
+ * each in its own short transaction, and updates a row only if its stored
+ * values are unchanged since they were read, so concurrent hall edits win
+ * and no table or long-lived row locks are taken. A row that cannot be
+ * decrypted (unknown key id, corrupt ciphertext) is logged and skipped so it
+ * does not hold up the rows after it. Once a full pass migrates everything
+ * it can without failures it stops until the next restart; a pass that hit
+ * failures retries them on the next run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BankDetailsReencryptionJob {
+
+    private static final String LEASE = "bank-details-reencryption";
+
+    private record Row(long id, String account, String routing) {
+    }
+
+    private record Resealed(Row row, String account, String routing) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FieldEncryptor fieldEncryptor;
+    private final LeaseService leaseService;
+
+    private volatile boolean complete;
+
+    @Value("${app.encryption.reencrypt.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.encryption.reencrypt.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.encryption.reencrypt.pause-ms:50}")
+    private long pauseMs;
+
+    @Value("${app.encryption.reencrypt.lease-seconds:600}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${app.encryption.reencrypt.interval-ms:300000}",
+            initialDelayString = "${app.encryption.reencrypt.initial-delay-ms:60000}")
+    public void run() {
+        if (!enabled || complete || !leaseService.tryAcquire(LEASE, Duration.ofSeconds(leaseSeconds))) {
+            return;
+        }
+        try {
+            long lastId = 0;
+            int migrated = 0;
+            int failed = 0;
+            List<Row> batch;
+            do {
+                batch = fetchBatch(lastId);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).id();
+                List<Resealed> stale = new ArrayList<>();
+                for (Row row : batch) {
+                    if (!fieldEncryptor.needsReencryption(row.account())
+                            && !fieldEncryptor.needsReencryption(row.routing())) {
+                        continue;
+                    }
+                    try {
+                        stale.add(new Resealed(row, reseal(row.account()), reseal(row.routing())));
+                    } catch (RuntimeException e) {
+                        failed++;
+                        log.warn("Could not re-encrypt bank details for hall {}: {}", row.id(), e.getMessage());
+                    }
+                }
+                if (!stale.isEmpty()) {
+                    Integer updated = transactionTemplate.execute(status -> reencrypt(stale));
+                    migrated += updated != null ? updated : 0;
+                    Thread.sleep(pauseMs);
+                }
+            } while (batch.size() == batchSize);
+            if (failed == 0) {
+                complete = true;
+                log.info("Bank detail re-encryption finished, {} halls migrated", migrated);
+            } else {
+                log.warn("Bank detail re-encryption pass migrated {} halls, {} could not be decrypted "
+                        + "and will be retried on the next run", migrated, failed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Bank detail re-encryption failed, will resume on the next run", e);
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    private List<Row> fetchBatch(long afterId) {
+        return jdbcTemplate.query(
+                "SELECT id, bank_account_number, bank_routing_number FROM banquet_halls "
+                        + "WHERE id > ? AND (bank_account_number IS NOT NULL OR bank_routing_number IS NOT NULL) "
+                        + "ORDER BY id LIMIT ?",
+                (rs, i) -> new Row(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                afterId, batchSize);
+    }
+
+    private int reencrypt(List<Resealed> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Resealed resealed : rows) {
+            Row row = resealed.row();
+            args.add(new Object[]{resealed.account(), resealed.routing(),
+                    row.id(), row.account(), row.routing()});
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE banquet_halls SET bank_account_number = ?, bank_routing_number = ? "
+                        + "WHERE id = ? AND bank_account_number IS NOT DISTINCT FROM ? "
+                        + "AND bank_routing_number IS NOT DISTINCT FROM ?",
+                args, args.size(), (ps, a) -> {
+                    for (int i = 0; i < a.length; i++) {
+                        ps.setObject(i + 1, a[i]);
+                    }
+                });
+        int updated = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                updated += count > 0 ? 1 : 0;
+            }
+        }
+        return updated;
+    }
+
+    private String reseal(String stored) {
+        if (stored == null || !fieldEncryptor.needsReencryption(stored)) {
+            return stored;
+        }
+        return fieldEncryptor.encrypt(fieldEncryptor.decrypt(stored));
+    }
+}
@@ -0,0 +1,166 @@
+package com.banquet.service;
+
+import com.banquet.dto.BookingHistoryResponse;
+import com.banquet.dto.BookingResponse;
+import com.banquet.dto.PaymentResponse;
+import com.banquet.entity.Booking;
+import com.banquet.entity.BookingArchive;
+import com.banquet.entity.Payment;
+import com.banquet.enums.BookingStatus;
+import com.banquet.repository.BookingArchiveRepository;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves completed and cancelled bookings older than
+ * {@code app.archive.retention-months}, with their payments, into
+ * {@code booking_archive} as gzipped JSON, one chunk per transaction. The
+ * payment ledger is left untouched, so settlement and analytics still see
+ * the money. Customers page through archived bookings with
+ * {@link #getCustomerHistory}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed("banquet.service")
+public class BookingArchiveService {
+
+    private static final String LEASE = "booking-archive";
+    private static final List<BookingStatus> ARCHIVABLE = List.of(BookingStatus.COMPLETED, BookingStatus.CANCELLED);
+    private static final int MAX_HISTORY_PAGE = 100;
+
+    /** What gets compressed into {@code booking_archive.payload}. */
+    public record ArchivedBooking(BookingResponse booking, List<PaymentResponse> payments) {
+    }
+
+    private final BookingRepository bookingRepository;
+    private final PaymentRepository paymentRepository;
+    private final BookingArchiveRepository archiveRepository;
+    private final BookingService bookingService;
+    private final PaymentService paymentService;
+    private final LeaseService leaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${app.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.archive.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void archive() {
+        if (!enabled || !leaseService.tryAcquire(LEASE, Duration.ofHours(1))) {
+            return;
+        }
+        try {
+            LocalDate cutoff = LocalDate.now().minusMonths(retentionMonths);
+            int archived = 0;
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int count = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                archived += count;
+                if (count < chunkSize) {
+                    break;
+                }
+            }
+            if (archived > 0) {
+                log.info("Archived {} bookings dated before {}", archived, cutoff);
+            }
+        } catch (RuntimeException e) {
+            log.error("Booking archive run failed", e);
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    public BookingHistoryResponse getCustomerHistory(Long customerId, LocalDate beforeDate, Long beforeId, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_HISTORY_PAGE)));
+        List<BookingArchive> rows = (beforeDate == null || beforeId == null)
+                ? archiveRepository.findByCustomerIdOrderByBookingDateDescIdDesc(customerId, page)
+                : archiveRepository.findPageBefore(customerId, beforeDate, beforeId, page);
+
+        List<BookingResponse> bookings = rows.stream().map(row -> unpack(row.getPayload()).booking()).toList();
+        if (rows.size() < page.getPageSize()) {
+            return new BookingHistoryResponse(bookings, null, null);
+        }
+        BookingArchive last = rows.get(rows.size() - 1);
+        return new BookingHistoryResponse(bookings, last.getBookingDate(), last.getId());
+    }
+
+    private int archiveChunk(LocalDate cutoff) {
+        List<Long> ids = bookingRepository.findArchivableIds(ARCHIVABLE, cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<PaymentResponse>> payments = paymentRepository.findByBookingIdInOrderByIdAsc(ids).stream()
+                .collect(Collectors.groupingBy(p -> p.getBooking().getId(),
+                        Collectors.mapping(paymentService::toPaymentResponse, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingArchive> rows = bookingRepository.findByIdIn(ids).stream()
+                .map(booking -> BookingArchive.builder()
+                        .id(booking.getId())
+                        .customerId(booking.getCustomer().getId())
+                        .venueId(booking.getVenue().getId())
+                        .bookingDate(booking.getBookingDate())
+                        .status(booking.getStatus())
+                        .payload(pack(new ArchivedBooking(bookingService.toBookingResponse(booking),
+                                payments.getOrDefault(booking.getId(), List.of()))))
+                        .archivedAt(now)
+                        .build())
+                .toList();
+        archiveRepository.saveAll(rows);
+        archiveRepository.flush();
+
+        paymentRepository.deleteByBookingIds(ids);
+        bookingRepository.deleteByIds(ids);
+        return ids.size();
+    }
+
+    private byte[] pack(ArchivedBooking archived) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, archived);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to archive booking " + archived.booking().id(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private ArchivedBooking unpack(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, ArchivedBooking.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read archived booking", e);
+        }
+    }
+}
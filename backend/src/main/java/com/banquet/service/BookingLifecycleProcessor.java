@@ -0,0 +1,169 @@
+package com.banquet.service;
+
+import com.banquet.entity.Booking;
+import com.banquet.entity.Payment;
+import com.banquet.event.BookingCancelledEvent;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Moves bookings through their time-driven states: unpaid PENDING holds are
+ * cancelled once the hold window passes and CONFIRMED bookings become
+ * COMPLETED after their end time. Venues are split into partitions by id and
+ * each partition is guarded by a lease, renewed before every chunk, so
+ * several nodes can run this job at once and divide the work.
+ * <p>
+ * A hold is only expired once none of its payments is still PENDING. Intents
+ * started before the hold window are cancelled first; one Stripe can no
+ * longer cancel keeps its booking alive until the webhook settles it, so no
+ * payment can succeed against a booking this job cancelled.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingLifecycleProcessor {
+
+    static final String EXPIRY_REASON = "Payment not received within the hold window";
+
+    private final BookingRepository bookingRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LeaseService leaseService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.booking.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.booking.lifecycle.hold-minutes:30}")
+    private long holdMinutes;
+
+    @Value("${app.booking.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.booking.lifecycle.partitions:8}")
+    private int partitions;
+
+    @Value("${app.booking.lifecycle.max-chunks-per-partition:20}")
+    private int maxChunksPerPartition;
+
+    @Value("${app.booking.lifecycle.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${app.booking.lifecycle.interval-ms:60000}",
+            initialDelayString = "${app.booking.lifecycle.initial-delay-ms:30000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        // Start at a random partition so concurrent nodes don't all queue on partition 0.
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            String lease = "booking-lifecycle-" + partition;
+            if (!leaseService.tryAcquire(lease, Duration.ofSeconds(leaseSeconds))) {
+                continue;
+            }
+            try {
+                processPartition(partition, lease);
+            } catch (RuntimeException e) {
+                log.error("Booking lifecycle run failed for partition {}", partition, e);
+            } finally {
+                leaseService.release(lease);
+            }
+        }
+    }
+
+    private void processPartition(int partition, String lease) {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(holdMinutes);
+        int[] voided = cancelStalePayments(cutoff, partition, lease);
+
+        int expired = 0;
+        for (int chunk = 0; chunk < maxChunksPerPartition && renew(lease); chunk++) {
+            int count = transactionTemplate.execute(status -> expireChunk(cutoff, partition));
+            expired += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+        int completed = 0;
+        for (int chunk = 0; chunk < maxChunksPerPartition && renew(lease); chunk++) {
+            int count = transactionTemplate.execute(status -> completeChunk(today, now, partition));
+            completed += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+
+        if (voided[0] > 0 || voided[1] > 0 || expired > 0 || completed > 0) {
+            log.info("Booking lifecycle partition {}: voided {} payments ({} still in flight), expired {}, "
+                    + "completed {}", partition, voided[0], voided[1], expired, completed);
+        }
+    }
+
+    /** Returns the number of payments cancelled and the number Stripe would not cancel. */
+    private int[] cancelStalePayments(LocalDateTime cutoff, int partition, String lease) {
+        int[] counts = new int[2];
+        long afterId = 0;
+        for (int chunk = 0; chunk < maxChunksPerPartition && renew(lease); chunk++) {
+            List<Payment> stale = paymentRepository.findStalePendingOnHolds(
+                    cutoff, partitions, partition, afterId, PageRequest.of(0, chunkSize));
+            for (Payment payment : stale) {
+                counts[paymentService.cancelPendingPayment(payment.getStripePaymentIntentId()) ? 0 : 1]++;
+                afterId = payment.getId();
+            }
+            if (stale.size() < chunkSize) {
+                break;
+            }
+        }
+        return counts;
+    }
+
+    private boolean renew(String lease) {
+        if (leaseService.renew(lease, Duration.ofSeconds(leaseSeconds))) {
+            return true;
+        }
+        log.warn("Lost lease {} mid-run; leaving the rest of the partition to its new holder", lease);
+        return false;
+    }
+
+    private int expireChunk(LocalDateTime cutoff, int partition) {
+        List<Booking> holds = bookingRepository.lockExpiredHolds(
+                cutoff, partitions, partition, PageRequest.of(0, chunkSize));
+        if (holds.isEmpty()) {
+            return 0;
+        }
+        bookingRepository.expireByIds(holds.stream().map(Booking::getId).toList(), EXPIRY_REASON);
+        eventPublisher.publishEvent(new BookingCancelledEvent(
+                holds.stream().map(BookingService::toCancelledBooking).toList()));
+        return holds.size();
+    }
+
+    private int completeChunk(LocalDate today, LocalTime now, int partition) {
+        List<Long> ids = bookingRepository.findCompletableIds(
+                today, now, partitions, partition, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        bookingRepository.completeByIds(ids);
+        return ids.size();
+    }
+}
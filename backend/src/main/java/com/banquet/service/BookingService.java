@@ -1,48 +1,175 @@
 package com.banquet.service;
 
+import com.banquet.dto.BookingLegRequest;
 import com.banquet.dto.BookingRequest;
 import com.banquet.dto.BookingResponse;
-import com.banquet.entity.BanquetHall;
+import com.banquet.dto.CompositeBookingRequest;
+import com.banquet.dto.CompositeBookingResponse;
+import com.banquet.dto.SlotHoldRequest;
+import com.banquet.dto.SlotHoldResponse;
 import com.banquet.entity.Booking;
 import com.banquet.entity.User;
 import com.banquet.entity.Venue;
-import com.banquet.entity.VenuePricing;
 import com.banquet.enums.BookingStatus;
+import com.banquet.enums.PaymentMode;
+import com.banquet.event.BookingCancelledEvent;
+import com.banquet.event.BookingCancelledEvent.CancelledBooking;
+import com.banquet.event.BookingCreatedEvent;
 import com.banquet.repository.BookingRepository;
-import com.banquet.repository.HallStaffRepository;
 import com.banquet.repository.UserRepository;
-import com.banquet.repository.VenuePricingRepository;
 import com.banquet.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final VenueRepository venueRepository;
     private final UserRepository userRepository;
-    private final VenuePricingRepository venuePricingRepository;
-    private final HallStaffRepository hallStaffRepository;
+    private final HallAccessService hallAccessService;
+    private final PricingService pricingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotHoldStore slotHoldStore;
+
+    @Value("${app.booking.max-legs:10}")
+    private int maxLegs;
 
     @Transactional
     public BookingResponse createBooking(Long customerId, BookingRequest request) {
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new RuntimeException("Customer not found"));
 
+        BookingLegRequest leg = new BookingLegRequest(request.venueId(), request.bookingDate(),
+                request.startTime(), request.endTime(), request.holdId());
+        return toBookingResponse(claimLegs(customer, List.of(leg), request.paymentMode(), null).get(0));
+    }
+
+    /**
+     * Books every leg or none: each leg is validated and claimed in this one
+     * transaction and any failure rolls all of them back.
+     */
+    @Transactional
+    public CompositeBookingResponse createCompositeBooking(Long customerId, CompositeBookingRequest request) {
+        if (request.legs().size() > maxLegs) {
+            throw new RuntimeException("A booking can have at most " + maxLegs + " legs");
+        }
+        User customer = userRepository.findById(customerId)
+                .orElseThrow(() -> new RuntimeException("Customer not found"));
+
+        String groupRef = UUID.randomUUID().toString();
+        List<Booking> bookings = claimLegs(customer, request.legs(), request.paymentMode(), groupRef);
+        BigDecimal total = bookings.stream().map(Booking::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CompositeBookingResponse(groupRef, total, bookings.stream().map(this::toBookingResponse).toList());
+    }
+
+    private List<Booking> claimLegs(User customer, List<BookingLegRequest> legs, PaymentMode paymentMode,
+                                    String groupRef) {
+        rejectOverlappingLegs(legs);
+
+        // Venue rows are locked in id order; requests for any venue in the set
+        // queue here instead of both passing the overlap check below.
+        Map<Long, Venue> venues = new HashMap<>();
+        for (Venue venue : venueRepository.lockByIdIn(
+                legs.stream().map(BookingLegRequest::venueId).collect(Collectors.toCollection(TreeSet::new)))) {
+            venues.put(venue.getId(), venue);
+        }
+
+        for (BookingLegRequest leg : legs) {
+            Venue venue = venues.get(leg.venueId());
+            if (venue == null || !venue.isActive()) {
+                throw new RuntimeException("Venue not found");
+            }
+            validateDuration(venue, leg.startTime(), leg.endTime());
+            claimSlotHold(customer.getId(), leg.holdId(), venue.getId(),
+                    leg.bookingDate(), leg.startTime(), leg.endTime());
+        }
+
+        List<Object[]> taken = bookingRepository.findActiveSlots(venues.keySet(),
+                legs.stream().map(BookingLegRequest::bookingDate).collect(Collectors.toSet()));
+        for (BookingLegRequest leg : legs) {
+            for (Object[] slot : taken) {
+                if (slot[0].equals(leg.venueId()) && slot[1].equals(leg.bookingDate())
+                        && ((LocalTime) slot[2]).isBefore(leg.endTime())
+                        && ((LocalTime) slot[3]).isAfter(leg.startTime())) {
+                    throw new RuntimeException(legs.size() == 1 ? "The selected time slot is not available"
+                            : "The selected time slot is not available for " + venues.get(leg.venueId()).getName()
+                            + " on " + leg.bookingDate());
+                }
+            }
+        }
+
+        List<BigDecimal> amounts = pricingService.calculateAmounts(legs.stream()
+                .map(leg -> new PricingService.QuoteRequest(venues.get(leg.venueId()), leg.bookingDate(),
+                        leg.startTime(), leg.endTime()))
+                .toList());
+
+        List<Booking> bookings = new ArrayList<>(legs.size());
+        for (int i = 0; i < legs.size(); i++) {
+            BookingLegRequest leg = legs.get(i);
+            bookings.add(Booking.builder()
+                    .customer(customer)
+                    .venue(venues.get(leg.venueId()))
+                    .bookingDate(leg.bookingDate())
+                    .startTime(leg.startTime())
+                    .endTime(leg.endTime())
+                    .totalAmount(amounts.get(i))
+                    .paidAmount(BigDecimal.ZERO)
+                    .status(BookingStatus.PENDING)
+                    .paymentMode(paymentMode)
+                    .groupRef(groupRef)
+                    .build());
+        }
+        bookings = bookingRepository.saveAll(bookings);
+
+        for (Booking booking : bookings) {
+            Venue venue = booking.getVenue();
+            eventPublisher.publishEvent(new BookingCreatedEvent(booking.getId(), customer.getId(), venue.getId(),
+                    venue.getHall().getId(), booking.getBookingDate(), booking.getStartTime(), booking.getEndTime()));
+        }
+        return bookings;
+    }
+
+    private void rejectOverlappingLegs(List<BookingLegRequest> legs) {
+        for (int i = 0; i < legs.size(); i++) {
+            BookingLegRequest a = legs.get(i);
+            for (int j = i + 1; j < legs.size(); j++) {
+                BookingLegRequest b = legs.get(j);
+                if (a.venueId().equals(b.venueId()) && a.bookingDate().equals(b.bookingDate())
+                        && a.startTime().isBefore(b.endTime()) && b.startTime().isBefore(a.endTime())) {
+                    throw new RuntimeException("Booking legs for the same venue must not overlap");
+                }
+            }
+        }
+    }
+
+    public SlotHoldResponse createHold(Long customerId, SlotHoldRequest request) {
         Venue venue = venueRepository.findById(request.venueId())
+                .filter(Venue::isActive)
                 .orElseThrow(() -> new RuntimeException("Venue not found"));
 
+        validateDuration(venue, request.startTime(), request.endTime());
+
         long overlapping = bookingRepository.countOverlapping(
                 venue.getId(),
                 request.bookingDate(),
@@ -53,38 +180,27 @@ public class BookingService {
             throw new RuntimeException("The selected time slot is not available");
         }
 
-        long durationHours = Duration.between(request.startTime(), request.endTime()).toHours();
-        if (durationHours < venue.getMinBookingDurationHours()) {
-            throw new RuntimeException("Minimum booking duration is " + venue.getMinBookingDurationHours() + " hours");
-        }
-
-        BigDecimal totalAmount = calculateAmount(venue, request.bookingDate(),
-                request.startTime(), request.endTime());
-
-        Booking booking = Booking.builder()
-                .customer(customer)
-                .venue(venue)
-                .bookingDate(request.bookingDate())
-                .startTime(request.startTime())
-                .endTime(request.endTime())
-                .totalAmount(totalAmount)
-                .paidAmount(BigDecimal.ZERO)
-                .status(BookingStatus.PENDING)
-                .paymentMode(request.paymentMode())
-                .build();
+        SlotHold hold = slotHoldStore.tryHold(customerId, venue.getId(), request.bookingDate(),
+                        request.startTime(), request.endTime())
+                .orElseThrow(() -> new RuntimeException("The selected time slot is being booked by another customer"));
+        return toSlotHoldResponse(hold);
+    }
 
-        booking = bookingRepository.save(booking);
-        return toBookingResponse(booking);
+    public void releaseHold(Long customerId, String holdId) {
+        slotHoldStore.find(holdId)
+                .filter(hold -> hold.customerId().equals(customerId))
+                .orElseThrow(() -> new RuntimeException("Slot hold not found"));
+        slotHoldStore.release(holdId);
     }
 
     public List<BookingResponse> getCustomerBookings(Long customerId) {
-        return bookingRepository.findByCustomerId(customerId).stream()
+        return bookingRepository.findByCustomerIdOrderByCreatedAtDesc(customerId).stream()
                 .map(this::toBookingResponse)
                 .collect(Collectors.toList());
     }
 
     public List<BookingResponse> getHallBookings(Long hallId, Long userId) {
-        verifyHallAccess(hallId, userId);
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to view bookings for this hall");
         return bookingRepository.findByVenueHallId(hallId).stream()
                 .map(this::toBookingResponse)
                 .collect(Collectors.toList());
@@ -95,11 +211,7 @@ public class BookingService {
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
 
         boolean isCustomer = booking.getCustomer().getId().equals(userId);
-        boolean isHallOwner = booking.getVenue().getHall().getOwner().getId().equals(userId);
-        boolean isStaff = hallStaffRepository.existsByHallIdAndUserId(
-                booking.getVenue().getHall().getId(), userId);
-
-        if (!isCustomer && !isHallOwner && !isStaff) {
+        if (!isCustomer && !hallAccessService.canManage(booking.getVenue().getHall().getId(), userId)) {
             throw new RuntimeException("Not authorized to view this booking");
         }
 
@@ -112,11 +224,7 @@ public class BookingService {
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
 
         boolean isCustomer = booking.getCustomer().getId().equals(userId);
-        boolean isHallOwner = booking.getVenue().getHall().getOwner().getId().equals(userId);
-        boolean isStaff = hallStaffRepository.existsByHallIdAndUserId(
-                booking.getVenue().getHall().getId(), userId);
-
-        if (!isCustomer && !isHallOwner && !isStaff) {
+        if (!isCustomer && !hallAccessService.canManage(booking.getVenue().getHall().getId(), userId)) {
             throw new RuntimeException("Not authorized to cancel this booking");
         }
 
@@ -130,9 +238,16 @@ public class BookingService {
         booking.setStatus(BookingStatus.CANCELLED);
         booking.setCancellationReason(reason);
         booking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingCancelledEvent(List.of(toCancelledBooking(booking))));
         return toBookingResponse(booking);
     }
 
+    public static CancelledBooking toCancelledBooking(Booking booking) {
+        return new CancelledBooking(booking.getId(), booking.getCustomer().getId(), booking.getVenue().getId(),
+                booking.getVenue().getHall().getId(), booking.getBookingDate(),
+                booking.getStartTime(), booking.getEndTime());
+    }
+
     public BookingResponse toBookingResponse(Booking booking) {
         return new BookingResponse(
                 booking.getId(),
@@ -149,57 +264,51 @@ public class BookingService {
                 booking.getStatus(),
                 booking.getPaymentMode(),
                 booking.getCancellationReason(),
-                booking.getCreatedAt()
+                booking.getCreatedAt(),
+                booking.getGroupRef()
         );
     }
 
-    public BigDecimal calculateAmount(Venue venue, LocalDate date, LocalTime start, LocalTime end) {
-        List<VenuePricing> pricingSlots = venuePricingRepository
-                .findByVenueIdAndEffectiveDate(venue.getId(), date);
+    private SlotHoldResponse toSlotHoldResponse(SlotHold hold) {
+        return new SlotHoldResponse(
+                hold.id(),
+                hold.venueId(),
+                hold.date(),
+                hold.startTime(),
+                hold.endTime(),
+                hold.expiresAt()
+        );
+    }
 
-        if (pricingSlots.isEmpty()) {
-            long minutes = Duration.between(start, end).toMinutes();
-            BigDecimal hours = BigDecimal.valueOf(minutes)
-                    .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
-            return venue.getBasePricePerHour().multiply(hours)
-                    .setScale(2, RoundingMode.HALF_UP);
+    private void validateDuration(Venue venue, LocalTime start, LocalTime end) {
+        long durationHours = Duration.between(start, end).toHours();
+        if (durationHours < venue.getMinBookingDurationHours()) {
+            throw new RuntimeException("Minimum booking duration is " + venue.getMinBookingDurationHours() + " hours");
         }
+    }
 
-        BigDecimal total = BigDecimal.ZERO;
-        for (VenuePricing slot : pricingSlots) {
-            LocalTime overlapStart = start.isBefore(slot.getSlotStart()) ? slot.getSlotStart() : start;
-            LocalTime overlapEnd = end.isAfter(slot.getSlotEnd()) ? slot.getSlotEnd() : end;
-
-            if (overlapStart.isBefore(overlapEnd)) {
-                long overlapMinutes = Duration.between(overlapStart, overlapEnd).toMinutes();
-                BigDecimal overlapHours = BigDecimal.valueOf(overlapMinutes)
-                        .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
-                total = total.add(slot.getPrice().multiply(overlapHours));
+    private void claimSlotHold(Long customerId, String holdId, Long venueId,
+                               LocalDate date, LocalTime start, LocalTime end) {
+        if (holdId == null) {
+            if (slotHoldStore.hasConflict(venueId, date, start, end, customerId)) {
+                throw new RuntimeException("The selected time slot is being booked by another customer");
             }
+            return;
         }
 
-        if (total.compareTo(BigDecimal.ZERO) == 0) {
-            long minutes = Duration.between(start, end).toMinutes();
-            BigDecimal hours = BigDecimal.valueOf(minutes)
-                    .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
-            return venue.getBasePricePerHour().multiply(hours)
-                    .setScale(2, RoundingMode.HALF_UP);
+        SlotHold hold = slotHoldStore.find(holdId)
+                .filter(h -> h.customerId().equals(customerId))
+                .orElseThrow(() -> new RuntimeException("Slot hold has expired, please select the slot again"));
+        if (!hold.matches(venueId, date, start, end)) {
+            throw new RuntimeException("Slot hold does not match the requested booking");
         }
 
-        return total.setScale(2, RoundingMode.HALF_UP);
-    }
-
-    private void verifyHallAccess(Long hallId, Long userId) {
-        BanquetHall hall = venueRepository.findByHallId(hallId).stream()
-                .findFirst()
-                .map(Venue::getHall)
-                .orElseThrow(() -> new RuntimeException("Hall not found or has no venues"));
-
-        boolean isOwner = hall.getOwner().getId().equals(userId);
-        boolean isStaff = hallStaffRepository.existsByHallIdAndUserId(hallId, userId);
-
-        if (!isOwner && !isStaff) {
-            throw new RuntimeException("Not authorized to view bookings for this hall");
-        }
+        // The hold keeps protecting the slot until the booking row is actually committed.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                slotHoldStore.release(holdId);
+            }
+        });
     }
 }
@@ -0,0 +1,269 @@
+package com.banquet.service;
+
+import com.banquet.dto.CalendarFeedResponse;
+import com.banquet.dto.VenueFeedState;
+import com.banquet.entity.Booking;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Serves per-venue and per-hall iCalendar feeds to calendar apps that poll
+ * every few minutes. Each venue's ETag is derived from
+ * {@code venues.booking_version}, which every booking or payment change bumps
+ * in its own transaction, so an unchanged feed is answered with 304 after a
+ * single primary-key lookup. Rendered events are cached per venue and
+ * refreshed incrementally: a version change only re-reads bookings updated
+ * since the previous refresh.
+ */
+@Slf4j
+@Service
+@Timed("banquet.service")
+public class CalendarFeedService {
+
+    private static final String CRLF = "\r\n";
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /** What the controller needs to answer a conditional GET before any booking is read. */
+    public record FeedVersion(String name, String etag, long lastModified, List<VenueFeedState> venues) {
+    }
+
+    private record Event(LocalDate date, String text) {
+    }
+
+    private record VenueSnapshot(long version, String venueName, LocalDate from, LocalDateTime watermark,
+                                 TreeMap<Long, Event> events, String body) {
+    }
+
+    private final BookingRepository bookingRepository;
+    private final VenueRepository venueRepository;
+    private final HallAccessService hallAccessService;
+    private final SecretKeySpec feedKey;
+    private final Map<Long, VenueSnapshot> cache;
+
+    @Value("${app.calendar.past-days:30}")
+    private int pastDays;
+
+    @Value("${app.calendar.change-overlap-seconds:300}")
+    private long changeOverlapSeconds;
+
+    public CalendarFeedService(BookingRepository bookingRepository,
+                               VenueRepository venueRepository,
+                               HallAccessService hallAccessService,
+                               @Value("${app.calendar.feed-secret}") String feedSecret,
+                               @Value("${app.calendar.cache-max-venues:2000}") int cacheMaxVenues) {
+        this.bookingRepository = bookingRepository;
+        this.venueRepository = venueRepository;
+        this.hallAccessService = hallAccessService;
+        this.feedKey = new SecretKeySpec(Base64.getDecoder().decode(feedSecret), "HmacSHA256");
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, VenueSnapshot> eldest) {
+                return size() > cacheMaxVenues;
+            }
+        });
+    }
+
+    public CalendarFeedResponse getVenueFeedLink(Long venueId, Long userId) {
+        VenueFeedState state = venueState(venueId);
+        hallAccessService.verifyAccess(state.hallId(), userId, "Not authorized to view this venue's calendar");
+        return new CalendarFeedResponse("/api/calendar/feeds/venues/" + venueId + ".ics",
+                token("venue:" + venueId));
+    }
+
+    public CalendarFeedResponse getHallFeedLink(Long hallId, Long userId) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to view this hall's calendar");
+        return new CalendarFeedResponse("/api/calendar/feeds/halls/" + hallId + ".ics", token("hall:" + hallId));
+    }
+
+    public FeedVersion getVenueFeedVersion(Long venueId, String token) {
+        verifyToken("venue:" + venueId, token);
+        VenueFeedState state = venueState(venueId);
+        String etag = "venue-" + venueId + "-" + state.bookingVersion() + "-" + windowStart().toEpochDay();
+        return new FeedVersion(state.venueName(), etag, epochMillis(state.bookingsChangedAt()), List.of(state));
+    }
+
+    public FeedVersion getHallFeedVersion(Long hallId, String token) {
+        verifyToken("hall:" + hallId, token);
+        List<VenueFeedState> states = venueRepository.findFeedStatesByHallId(hallId);
+        // Versions only grow and ids are never reused, so any change moves at least one of these
+        long versionSum = 0;
+        long maxId = 0;
+        LocalDateTime changedAt = null;
+        for (VenueFeedState state : states) {
+            versionSum += state.bookingVersion();
+            maxId = Math.max(maxId, state.venueId());
+            if (state.bookingsChangedAt() != null
+                    && (changedAt == null || state.bookingsChangedAt().isAfter(changedAt))) {
+                changedAt = state.bookingsChangedAt();
+            }
+        }
+        String etag = "hall-" + hallId + "-" + states.size() + "-" + maxId + "-" + versionSum + "-"
+                + windowStart().toEpochDay();
+        return new FeedVersion("Hall " + hallId, etag, epochMillis(changedAt), states);
+    }
+
+    public String render(FeedVersion version) {
+        StringBuilder out = new StringBuilder(4096);
+        out.append("BEGIN:VCALENDAR").append(CRLF)
+                .append("VERSION:2.0").append(CRLF)
+                .append("PRODID:-//Banquet//Venue Bookings//EN").append(CRLF)
+                .append("CALSCALE:GREGORIAN").append(CRLF)
+                .append("METHOD:PUBLISH").append(CRLF);
+        appendLine(out, "X-WR-CALNAME:" + escape(version.name()));
+        for (VenueFeedState state : version.venues()) {
+            out.append(snapshot(state).body());
+        }
+        out.append("END:VCALENDAR").append(CRLF);
+        return out.toString();
+    }
+
+    private VenueSnapshot snapshot(VenueFeedState state) {
+        LocalDate from = windowStart();
+        VenueSnapshot cached = cache.get(state.venueId());
+        if (cached != null && cached.version() == state.bookingVersion() && cached.from().equals(from)) {
+            return cached;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        TreeMap<Long, Event> events;
+        if (cached == null || cached.from().isAfter(from) || !cached.venueName().equals(state.venueName())) {
+            events = new TreeMap<>();
+            for (Booking booking : bookingRepository.findForFeed(state.venueId(), from)) {
+                events.put(booking.getId(), toEvent(booking, state.venueName()));
+            }
+        } else {
+            // Overlap covers clock skew and transactions that committed after our last read
+            LocalDateTime since = cached.watermark().minus(Duration.ofSeconds(changeOverlapSeconds));
+            events = new TreeMap<>(cached.events());
+            events.values().removeIf(event -> event.date().isBefore(from));
+            for (Booking booking : bookingRepository.findChangedForFeed(state.venueId(), from, since)) {
+                events.put(booking.getId(), toEvent(booking, state.venueName()));
+            }
+        }
+
+        StringBuilder body = new StringBuilder(events.size() * 400);
+        events.values().forEach(event -> body.append(event.text()));
+        VenueSnapshot snapshot = new VenueSnapshot(state.bookingVersion(), state.venueName(), from, startedAt,
+                events, body.toString());
+        cache.put(state.venueId(), snapshot);
+        return snapshot;
+    }
+
+    private Event toEvent(Booking booking, String venueName) {
+        LocalDate date = booking.getBookingDate();
+        LocalDateTime start = date.atTime(booking.getStartTime());
+        LocalDateTime end = date.atTime(booking.getEndTime());
+        if (!end.isAfter(start)) {
+            end = end.plusDays(1);
+        }
+        LocalDateTime modified = booking.getUpdatedAt() != null ? booking.getUpdatedAt() : booking.getCreatedAt();
+        String stamp = modified == null ? UTC.format(LocalDateTime.now(ZoneOffset.UTC))
+                : UTC.format(modified.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+        String status = switch (booking.getStatus()) {
+            case PENDING -> "TENTATIVE";
+            case CONFIRMED, COMPLETED -> "CONFIRMED";
+            case CANCELLED -> "CANCELLED";
+        };
+
+        StringBuilder out = new StringBuilder(400);
+        out.append("BEGIN:VEVENT").append(CRLF);
+        appendLine(out, "UID:booking-" + booking.getId() + "@banquet");
+        appendLine(out, "DTSTAMP:" + stamp);
+        appendLine(out, "LAST-MODIFIED:" + stamp);
+        appendLine(out, "DTSTART:" + LOCAL.format(start));
+        appendLine(out, "DTEND:" + LOCAL.format(end));
+        appendLine(out, "SUMMARY:" + escape(venueName + ": " + booking.getCustomer().getFullName()));
+        appendLine(out, "DESCRIPTION:" + escape("Booking #" + booking.getId()
+                + "\nTotal: " + booking.getTotalAmount() + "\nPaid: " + booking.getPaidAmount()));
+        appendLine(out, "STATUS:" + status);
+        out.append("END:VEVENT").append(CRLF);
+        return new Event(date, out.toString());
+    }
+
+    /** RFC 5545 content lines are folded at 75 octets, never inside a UTF-8 sequence. */
+    private static void appendLine(StringBuilder out, String line) {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + length > 75) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        out.append(CRLF);
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    private VenueFeedState venueState(Long venueId) {
+        return venueRepository.findFeedState(venueId)
+                .orElseThrow(() -> new RuntimeException("Venue not found"));
+    }
+
+    private LocalDate windowStart() {
+        return LocalDate.now().minusDays(pastDays);
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String token(String subject) {
+        Mac mac = HMAC.get();
+        try {
+            mac.init(feedKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(subject.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void verifyToken(String subject, String token) {
+        if (token == null || !MessageDigest.isEqual(token(subject).getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.US_ASCII))) {
+            throw new AccessDeniedException("Invalid calendar feed token");
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.banquet.service;
+
+import com.banquet.entity.PricingRule;
+import com.banquet.entity.VenuePricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A venue's pricing rules and per-date overrides flattened into a lookup
+ * table. A day's price profile is a short list of minute ranges with an
+ * hourly price each, built by painting the matching rules in ascending
+ * priority over the base price. Days matched by the same set of rules share
+ * one profile, so a year of weekends costs one profile, not 104 rows.
+ * {@link VenuePricing} rows are painted last and always win on their date.
+ * Instances are immutable apart from the profile memo and safe to share.
+ */
+public final class CompiledPricing {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final BigDecimal SIXTY = BigDecimal.valueOf(60);
+
+    private record Rule(int dayMask, LocalDate startDate, LocalDate endDate, int startKey, int endKey,
+                        boolean yearly, int startMinute, int endMinute, BigDecimal pricePerHour) {
+
+        boolean matches(LocalDate date) {
+            if (dayMask != 0 && (dayMask & (1 << (date.getDayOfWeek().getValue() - 1))) == 0) {
+                return false;
+            }
+            if (yearly) {
+                int key = date.getMonthValue() * 100 + date.getDayOfMonth();
+                return startKey <= endKey ? key >= startKey && key <= endKey : key >= startKey || key <= endKey;
+            }
+            return (startDate == null || !date.isBefore(startDate)) && (endDate == null || !date.isAfter(endDate));
+        }
+    }
+
+    private record Segment(int start, int end, BigDecimal pricePerHour) {
+    }
+
+    private final long version;
+    private final BigDecimal basePricePerHour;
+    private final Rule[] rules;
+    private final Map<LocalDate, Segment[]> overrides;
+    private final Map<BitSet, Segment[]> profiles = new ConcurrentHashMap<>();
+
+    private CompiledPricing(long version, BigDecimal basePricePerHour, Rule[] rules) {
+        this.version = version;
+        this.basePricePerHour = basePricePerHour;
+        this.rules = rules;
+        this.overrides = new HashMap<>();
+    }
+
+    public static CompiledPricing compile(long version, BigDecimal basePricePerHour, List<PricingRule> rules,
+                                          List<VenuePricing> overrides) {
+        Rule[] compiled = rules.stream()
+                .filter(PricingRule::isActive)
+                .sorted(Comparator.comparingInt(PricingRule::getPriority)
+                        .thenComparing(PricingRule::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(CompiledPricing::toRule)
+                .toArray(Rule[]::new);
+        CompiledPricing pricing = new CompiledPricing(version, basePricePerHour, compiled);
+
+        Map<LocalDate, List<VenuePricing>> byDate = new HashMap<>();
+        for (VenuePricing slot : overrides) {
+            byDate.computeIfAbsent(slot.getEffectiveDate(), d -> new ArrayList<>()).add(slot);
+        }
+        byDate.forEach((date, slots) -> {
+            BigDecimal[] minutes = pricing.paint(date);
+            for (VenuePricing slot : slots) {
+                fill(minutes, minuteOf(slot.getSlotStart()), endMinuteOf(slot.getSlotEnd()), slot.getPrice());
+            }
+            pricing.overrides.put(date, segments(minutes));
+        });
+        return pricing;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public BigDecimal basePricePerHour() {
+        return basePricePerHour;
+    }
+
+    public int profileCount() {
+        return profiles.size() + overrides.size();
+    }
+
+    /** True when a {@code VenuePricing} row fixes this date's price. */
+    public boolean hasOverride(LocalDate date) {
+        return overrides.containsKey(date);
+    }
+
+    public BigDecimal quote(LocalDate date, LocalTime start, LocalTime end) {
+        int from = minuteOf(start);
+        int to = endMinuteOf(end);
+        BigDecimal total = BigDecimal.ZERO;
+        for (Segment segment : profile(date)) {
+            int overlapStart = Math.max(from, segment.start());
+            int overlapEnd = Math.min(to, segment.end());
+            if (overlapStart < overlapEnd) {
+                BigDecimal hours = BigDecimal.valueOf(overlapEnd - overlapStart)
+                        .divide(SIXTY, 2, RoundingMode.HALF_UP);
+                total = total.add(segment.pricePerHour().multiply(hours));
+            }
+        }
+        return total.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private Segment[] profile(LocalDate date) {
+        Segment[] override = overrides.get(date);
+        if (override != null) {
+            return override;
+        }
+        BitSet matched = match(date);
+        Segment[] profile = profiles.get(matched);
+        if (profile == null) {
+            profile = profiles.computeIfAbsent(matched, key -> segments(paint(key)));
+        }
+        return profile;
+    }
+
+    private BitSet match(LocalDate date) {
+        BitSet matched = new BitSet(rules.length);
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].matches(date)) {
+                matched.set(i);
+            }
+        }
+        return matched;
+    }
+
+    private BigDecimal[] paint(LocalDate date) {
+        return paint(match(date));
+    }
+
+    private BigDecimal[] paint(BitSet matched) {
+        BigDecimal[] minutes = new BigDecimal[MINUTES_PER_DAY];
+        fill(minutes, 0, MINUTES_PER_DAY, basePricePerHour);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            Rule rule = rules[i];
+            fill(minutes, rule.startMinute(), rule.endMinute(), rule.pricePerHour());
+        }
+        return minutes;
+    }
+
+    private static void fill(BigDecimal[] minutes, int from, int to, BigDecimal price) {
+        for (int m = Math.max(0, from); m < Math.min(to, MINUTES_PER_DAY); m++) {
+            minutes[m] = price;
+        }
+    }
+
+    private static Segment[] segments(BigDecimal[] minutes) {
+        List<Segment> segments = new ArrayList<>();
+        int start = 0;
+        for (int m = 1; m <= MINUTES_PER_DAY; m++) {
+            if (m == MINUTES_PER_DAY || minutes[m].compareTo(minutes[start]) != 0) {
+                segments.add(new Segment(start, m, minutes[start]));
+                start = m;
+            }
+        }
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static Rule toRule(PricingRule rule) {
+        return new Rule(
+                rule.getDaysOfWeek(),
+                rule.getStartDate(),
+                rule.getEndDate(),
+                monthDayKey(rule.getStartDate()),
+                monthDayKey(rule.getEndDate()),
+                rule.isRecurringYearly() && rule.getStartDate() != null && rule.getEndDate() != null,
+                rule.getStartTime() == null ? 0 : minuteOf(rule.getStartTime()),
+                rule.getEndTime() == null ? MINUTES_PER_DAY : endMinuteOf(rule.getEndTime()),
+                rule.getPricePerHour());
+    }
+
+    private static int monthDayKey(LocalDate date) {
+        return date == null ? 0 : date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /** A window or booking ending at midnight runs to the end of the day. */
+    private static int endMinuteOf(LocalTime time) {
+        return time.equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : minuteOf(time);
+    }
+}
@@ -0,0 +1,167 @@
+package com.banquet.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Optional demand-based price multipliers. A leased batch job reads the
+ * already aggregated signals - booked minutes per venue and day from
+ * {@code venue_daily_stats}, dated search hits per hall from
+ * {@code search_demand} - scores every venue and date in the horizon with a
+ * parallel stream, and replaces {@code venue_demand_multipliers}. Every
+ * instance reloads that table into an immutable map on a timer, so a quote
+ * only pays for a map lookup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DynamicPricingService {
+
+    private static final String LEASE = "dynamic-pricing";
+
+    private record VenueRef(long venueId, long hallId) {
+    }
+
+    private record Multiplier(long venueId, LocalDate date, BigDecimal value) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaseService leaseService;
+
+    private volatile Map<Long, Map<LocalDate, BigDecimal>> multipliers = Map.of();
+
+    @Value("${app.pricing.dynamic.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.pricing.dynamic.horizon-days:180}")
+    private int horizonDays;
+
+    @Value("${app.pricing.dynamic.max-multiplier:1.30}")
+    private double maxMultiplier;
+
+    @Value("${app.pricing.dynamic.step:0.05}")
+    private double step;
+
+    @Value("${app.pricing.dynamic.fill-weight:0.6}")
+    private double fillWeight;
+
+    @Value("${app.pricing.dynamic.search-weight:0.4}")
+    private double searchWeight;
+
+    @Value("${app.pricing.dynamic.search-saturation:50}")
+    private long searchSaturation;
+
+    @Value("${app.analytics.operating-minutes-per-day:1440}")
+    private long operatingMinutesPerDay;
+
+    /** The multiplier for a venue and date, or {@code null} when it is priced normally. */
+    public BigDecimal multiplier(Long venueId, LocalDate date) {
+        Map<LocalDate, BigDecimal> byDate = multipliers.get(venueId);
+        return byDate == null ? null : byDate.get(date);
+    }
+
+    @Scheduled(cron = "${app.pricing.dynamic.cron:0 */30 * * * *}")
+    public void recompute() {
+        if (!enabled || !leaseService.tryAcquire(LEASE, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate until = today.plusDays(horizonDays);
+
+            List<VenueRef> venues = jdbcTemplate.query(
+                    "SELECT id, hall_id FROM venues WHERE active = TRUE",
+                    (rs, i) -> new VenueRef(rs.getLong(1), rs.getLong(2)));
+            Map<Long, Map<LocalDate, Long>> bookedMinutes = load(
+                    "SELECT venue_id, stat_date, booked_minutes FROM venue_daily_stats "
+                            + "WHERE stat_date BETWEEN ? AND ?", today, until);
+            Map<Long, Map<LocalDate, Long>> searchHits = load(
+                    "SELECT hall_id, search_date, hit_count FROM search_demand "
+                            + "WHERE search_date BETWEEN ? AND ?", today, until);
+
+            List<Multiplier> computed = venues.parallelStream()
+                    .flatMap(venue -> IntStream.rangeClosed(0, horizonDays)
+                            .mapToObj(today::plusDays)
+                            .map(date -> score(venue, date,
+                                    bookedMinutes.getOrDefault(venue.venueId(), Map.of()).getOrDefault(date, 0L),
+                                    searchHits.getOrDefault(venue.hallId(), Map.of()).getOrDefault(date, 0L))))
+                    .filter(m -> m.value().compareTo(BigDecimal.ONE) > 0)
+                    .toList();
+
+            publish(computed, today);
+            log.info("Dynamic pricing: {} of {} venues have {} raised dates", computed.stream()
+                    .map(Multiplier::venueId).distinct().count(), venues.size(), computed.size());
+        } catch (RuntimeException e) {
+            log.error("Dynamic pricing run failed", e);
+        } finally {
+            leaseService.release(LEASE);
+        }
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.dynamic.refresh-interval-ms:300000}",
+            initialDelayString = "${app.pricing.dynamic.refresh-initial-delay-ms:20000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, Map<LocalDate, BigDecimal>> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT venue_id, stat_date, multiplier FROM venue_demand_multipliers "
+                        + "WHERE stat_date >= ?",
+                rs -> {
+                    loaded.computeIfAbsent(rs.getLong(1), k -> new HashMap<>())
+                            .put(rs.getDate(2).toLocalDate(), rs.getBigDecimal(3));
+                }, Date.valueOf(LocalDate.now()));
+        multipliers = loaded;
+    }
+
+    private Multiplier score(VenueRef venue, LocalDate date, long minutes, long hits) {
+        double fill = Math.min(1.0, (double) minutes / operatingMinutesPerDay);
+        double search = Math.min(1.0, (double) hits / searchSaturation);
+        double demand = (fillWeight * fill + searchWeight * search) / (fillWeight + searchWeight);
+        // Round down to the step so prices move in a few visible increments
+        double raw = 1.0 + (maxMultiplier - 1.0) * demand;
+        double stepped = 1.0 + Math.floor((raw - 1.0) / step + 1e-9) * step;
+        return new Multiplier(venue.venueId(), date, BigDecimal.valueOf(stepped).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    private void publish(List<Multiplier> computed, LocalDate today) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM venue_demand_multipliers");
+            jdbcTemplate.batchUpdate("INSERT INTO venue_demand_multipliers "
+                            + "(venue_id, stat_date, multiplier, computed_at) VALUES (?, ?, ?, ?)",
+                    computed.stream()
+                            .map(m -> new Object[]{m.venueId(), Date.valueOf(m.date()), m.value(), now})
+                            .toList());
+            jdbcTemplate.update("DELETE FROM search_demand WHERE search_date < ?", Date.valueOf(today));
+        });
+    }
+
+    private Map<Long, Map<LocalDate, Long>> load(String sql, LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, Long>> rows = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            rows.computeIfAbsent(rs.getLong(1), k -> new HashMap<>())
+                    .merge(rs.getDate(2).toLocalDate(), rs.getLong(3), Long::sum);
+        }, Date.valueOf(from), Date.valueOf(to));
+        return rows;
+    }
+}
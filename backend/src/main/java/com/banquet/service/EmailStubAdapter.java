@@ -0,0 +1,53 @@
+package com.banquet.service;
+
+import com.banquet.entity.Notification;
+import com.banquet.enums.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** Local stand-in for an email provider: logs each message instead of sending it. */
+@Slf4j
+@Component
+public class EmailStubAdapter implements NotificationChannelAdapter {
+
+    @Value("${app.notifications.email.batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.notifications.email.rate-per-second:50}")
+    private double ratePerSecond;
+
+    @Value("${app.notifications.email.burst:100}")
+    private double burst;
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public double ratePerSecond() {
+        return ratePerSecond;
+    }
+
+    @Override
+    public double burst() {
+        return burst;
+    }
+
+    @Override
+    public void send(List<Notification> batch) {
+        for (Notification notification : batch) {
+            // Sensitive bodies carry one-time codes and must not reach the log
+            log.info("Email to {} ({}): {}", notification.getRecipient(), notification.getTemplate(),
+                    notification.isSensitive() ? "[redacted]" : notification.getBody());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.banquet.service;
+
+import com.banquet.repository.BanquetHallRepository;
+import com.banquet.repository.HallStaffRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers "may this user manage this hall?" (owner or staff) from an
+ * in-memory map of user id to hall ids, loaded on first use. Callers that
+ * change ownership or staff assignments must call {@link #invalidate}, which
+ * only reaches this node; entries also expire after a short TTL so other
+ * nodes pick up the change within that window. The map is bounded and
+ * evicts the least recently used user.
+ */
+@Service
+public class HallAccessService {
+
+    private record Entry(Set<Long> hallIds, long loadedAt) {
+    }
+
+    private final BanquetHallRepository hallRepository;
+    private final HallStaffRepository hallStaffRepository;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final Map<Long, Entry> hallIdsByUser;
+
+    public HallAccessService(BanquetHallRepository hallRepository,
+                             HallStaffRepository hallStaffRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.hall-access.cache-ttl-seconds:30}") long ttlSeconds,
+                             @Value("${app.hall-access.cache-max-users:10000}") int cacheMaxUsers) {
+        this.hallRepository = hallRepository;
+        this.hallStaffRepository = hallStaffRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.hallIdsByUser = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > cacheMaxUsers;
+            }
+        });
+    }
+
+    public boolean canManage(Long hallId, Long userId) {
+        return hallIdsFor(userId).contains(hallId);
+    }
+
+    public void verifyAccess(Long hallId, Long userId, String message) {
+        if (!canManage(hallId, userId)) {
+            throw new RuntimeException(message);
+        }
+    }
+
+    public Set<Long> hallIdsFor(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry cached = hallIdsByUser.get(userId);
+        boolean hit = cached != null && now - cached.loadedAt() < ttlMillis;
+        meterRegistry.counter("banquet.cache.requests",
+                "cache", "hall-access", "result", hit ? "hit" : "miss").increment();
+        if (hit) {
+            return cached.hallIds();
+        }
+        // Loaded outside the map's lock; a concurrent load of the same user just overwrites it
+        Set<Long> hallIds = load(userId);
+        hallIdsByUser.put(userId, new Entry(hallIds, now));
+        return hallIds;
+    }
+
+    public void invalidate(Long userId) {
+        hallIdsByUser.remove(userId);
+        // Evict again once the change is visible, in case another request reloaded
+        // the old assignments from the database before this transaction committed.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    hallIdsByUser.remove(userId);
+                }
+            });
+        }
+    }
+
+    private Set<Long> load(Long userId) {
+        Set<Long> hallIds = new HashSet<>(hallRepository.findIdsByOwnerId(userId));
+        hallIds.addAll(hallStaffRepository.findHallIdsByUserId(userId));
+        return Set.copyOf(hallIds);
+    }
+}
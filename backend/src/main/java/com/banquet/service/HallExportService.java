@@ -0,0 +1,161 @@
+package com.banquet.service;
+
+import com.banquet.dto.BookingExportRow;
+import com.banquet.dto.PaymentExportRow;
+import com.banquet.enums.ExportFormat;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a hall's bookings or payments as CSV or NDJSON. Rows come from a
+ * read-only, fetch-size-hinted query as DTO projections, so nothing enters
+ * the persistence context, and each row is written and dropped before the
+ * next is read. Memory stays flat however large the hall's history is.
+ */
+@Slf4j
+@Service
+public class HallExportService {
+
+    private final BookingRepository bookingRepository;
+    private final PaymentRepository paymentRepository;
+    private final HallAccessService hallAccessService;
+    private final TransactionTemplate readTransaction;
+    private final ObjectWriter jsonWriter;
+
+    @Value("${app.export.flush-every-rows:1000}")
+    private int flushEveryRows;
+
+    public HallExportService(BookingRepository bookingRepository,
+                             PaymentRepository paymentRepository,
+                             HallAccessService hallAccessService,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.paymentRepository = paymentRepository;
+        this.hallAccessService = hallAccessService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.jsonWriter = objectMapper.writer();
+    }
+
+    public StreamingResponseBody exportBookings(Long hallId, Long userId, ExportFormat format, boolean gzip) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to export bookings for this hall");
+        return out -> write(out, format, gzip, BookingExportRow.class,
+                () -> bookingRepository.streamExportRowsByHallId(hallId));
+    }
+
+    public StreamingResponseBody exportPayments(Long hallId, Long userId, ExportFormat format, boolean gzip) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to export payments for this hall");
+        return out -> write(out, format, gzip, PaymentExportRow.class,
+                () -> paymentRepository.streamExportRowsByHallId(hallId));
+    }
+
+    private <T extends Record> void write(OutputStream out, ExportFormat format, boolean gzip, Class<T> type,
+                                          Supplier<Stream<T>> rows) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        RecordComponent[] columns = type.getRecordComponents();
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader(writer, columns);
+        }
+        long[] count = {0};
+        try {
+            readTransaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    stream.forEach(row -> {
+                        try {
+                            if (format == ExportFormat.CSV) {
+                                writeCsvRow(writer, columns, row);
+                            } else {
+                                writer.write(jsonWriter.writeValueAsString(row));
+                                writer.write('\n');
+                            }
+                            if (++count[0] % flushEveryRows == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.info("Export of {} aborted after {} rows: {}", type.getSimpleName(), count[0], e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        if (target instanceof GZIPOutputStream compressed) {
+            compressed.finish();
+        }
+    }
+
+    private static void writeCsvHeader(Writer writer, RecordComponent[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns[i].getName().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase());
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvRow(Writer writer, RecordComponent[] columns, Record row) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value;
+            try {
+                value = columns[i].getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            if (value != null) {
+                writer.write(csvField(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(String value) {
+        // Leading =, +, - or @ would be evaluated as a formula by spreadsheet apps.
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !isNumber(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            new BigDecimal(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
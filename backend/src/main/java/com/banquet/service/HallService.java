@@ -1,16 +1,19 @@
 package com.banquet.service;
 
-import com.banquet.config.EncryptionConfig;
+import com.banquet.config.FieldEncryptor;
 import com.banquet.dto.*;
 import com.banquet.entity.BanquetHall;
 import com.banquet.entity.HallDocument;
 import com.banquet.entity.User;
 import com.banquet.enums.HallStatus;
+import com.banquet.event.HallStatusChangedEvent;
 import com.banquet.repository.BanquetHallRepository;
 import com.banquet.repository.HallDocumentRepository;
 import com.banquet.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,18 +22,26 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class HallService {
 
     private final BanquetHallRepository hallRepository;
     private final HallDocumentRepository documentRepository;
     private final UserRepository userRepository;
-    private final EncryptionConfig encryptionConfig;
+    private final FieldEncryptor fieldEncryptor;
+    private final HallAccessService hallAccessService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
@@ -58,13 +69,14 @@ public class HallService {
                 .build();
 
         if (request.getBankAccountNumber() != null) {
-            hall.setBankAccountNumber(encryptionConfig.encrypt(request.getBankAccountNumber()));
+            hall.setBankAccountNumber(fieldEncryptor.encrypt(request.getBankAccountNumber()));
         }
         if (request.getBankRoutingNumber() != null) {
-            hall.setBankRoutingNumber(encryptionConfig.encrypt(request.getBankRoutingNumber()));
+            hall.setBankRoutingNumber(fieldEncryptor.encrypt(request.getBankRoutingNumber()));
         }
 
         hall = hallRepository.save(hall);
+        hallAccessService.invalidate(ownerId);
         return toHallResponse(hall);
     }
 
@@ -94,10 +106,10 @@ public class HallService {
         hall.setBankAccountName(request.getBankAccountName());
 
         if (request.getBankAccountNumber() != null) {
-            hall.setBankAccountNumber(encryptionConfig.encrypt(request.getBankAccountNumber()));
+            hall.setBankAccountNumber(fieldEncryptor.encrypt(request.getBankAccountNumber()));
         }
         if (request.getBankRoutingNumber() != null) {
-            hall.setBankRoutingNumber(encryptionConfig.encrypt(request.getBankRoutingNumber()));
+            hall.setBankRoutingNumber(fieldEncryptor.encrypt(request.getBankRoutingNumber()));
         }
 
         hall = hallRepository.save(hall);
@@ -111,15 +123,11 @@ public class HallService {
     }
 
     public List<HallResponse> getOwnerHalls(Long ownerId) {
-        return hallRepository.findByOwnerId(ownerId).stream()
-                .map(this::toHallResponse)
-                .collect(Collectors.toList());
+        return toHallResponses(hallRepository.findByOwnerId(ownerId));
     }
 
     public List<HallResponse> getPendingHalls() {
-        return hallRepository.findByStatus(HallStatus.PENDING).stream()
-                .map(this::toHallResponse)
-                .collect(Collectors.toList());
+        return toHallResponses(hallRepository.findByStatus(HallStatus.PENDING));
     }
 
     @Transactional
@@ -133,9 +141,38 @@ public class HallService {
         }
 
         hall = hallRepository.save(hall);
+        eventPublisher.publishEvent(new HallStatusChangedEvent(List.of(hall.getId()), hall.getStatus()));
         return toHallResponse(hall);
     }
 
+    @Transactional
+    public HallBulkStatusResponse updateHallStatuses(HallBulkStatusRequest request) {
+        Set<Long> requested = new LinkedHashSet<>(request.hallIds());
+        Set<Long> found = new HashSet<>();
+        List<Long> changed = new ArrayList<>();
+        for (Object[] row : hallRepository.findStatusesByIdIn(requested)) {
+            Long id = (Long) row[0];
+            found.add(id);
+            if (row[1] != request.status()) {
+                changed.add(id);
+            }
+        }
+
+        // Notes are applied to every found hall; without notes only actual transitions are written.
+        if (request.notes() != null && !found.isEmpty()) {
+            hallRepository.updateStatusAndNotes(found, request.status(), request.notes());
+        } else if (!changed.isEmpty()) {
+            hallRepository.updateStatus(changed, request.status());
+        }
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new HallStatusChangedEvent(changed, request.status()));
+        }
+
+        List<Long> notFound = requested.stream().filter(id -> !found.contains(id)).toList();
+        return new HallBulkStatusResponse(request.status(), requested.size(), changed.size(),
+                found.size() - changed.size(), notFound);
+    }
+
     @Transactional
     public void uploadDocuments(Long ownerId, Long hallId, List<MultipartFile> files,
                                 List<String> documentTypes) {
@@ -180,7 +217,24 @@ public class HallService {
         }
     }
 
+    /** Maps a page of halls with one document query instead of one per hall. */
+    public List<HallResponse> toHallResponses(List<BanquetHall> halls) {
+        if (halls.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<HallDocument>> docsByHall = documentRepository
+                .findByHallIdIn(halls.stream().map(BanquetHall::getId).toList()).stream()
+                .collect(Collectors.groupingBy(doc -> doc.getHall().getId()));
+        return halls.stream()
+                .map(hall -> toHallResponse(hall, docsByHall.getOrDefault(hall.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     public HallResponse toHallResponse(BanquetHall hall) {
+        return toHallResponse(hall, documentRepository.findByHallId(hall.getId()));
+    }
+
+    private HallResponse toHallResponse(BanquetHall hall, List<HallDocument> docs) {
         User owner = hall.getOwner();
         UserDTO ownerDTO = new UserDTO(
                 owner.getId(),
@@ -191,7 +245,6 @@ public class HallService {
                 owner.isPhoneVerified()
         );
 
-        List<HallDocument> docs = documentRepository.findByHallId(hall.getId());
         List<HallDocumentDTO> documentDTOs = docs.stream()
                 .map(doc -> new HallDocumentDTO(
                         doc.getId(),
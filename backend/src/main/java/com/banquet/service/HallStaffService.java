@@ -9,8 +9,8 @@ import com.banquet.enums.UserRole;
 import com.banquet.repository.BanquetHallRepository;
 import com.banquet.repository.HallStaffRepository;
 import com.banquet.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,12 +19,14 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class HallStaffService {
 
     private final HallStaffRepository hallStaffRepository;
     private final BanquetHallRepository hallRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final HallAccessService hallAccessService;
 
     @Transactional
     public void addStaff(Long hallId, Long ownerId, HallStaffRequest request) {
@@ -44,7 +46,7 @@ public class HallStaffService {
                     User newUser = User.builder()
                             .phone(request.phone())
                             .email(request.phone() + "@placeholder.com")
-                            .passwordHash(passwordEncoder.encode("tempPassword123"))
+                            .passwordHash(passwordHashingService.encode("tempPassword123"))
                             .fullName("Staff Member")
                             .role(request.role())
                             .phoneVerified(false)
@@ -63,6 +65,7 @@ public class HallStaffService {
                 .build();
 
         hallStaffRepository.save(hallStaff);
+        hallAccessService.invalidate(staffUser.getId());
     }
 
     @Transactional
@@ -82,6 +85,7 @@ public class HallStaffService {
         }
 
         hallStaffRepository.delete(hallStaff);
+        hallAccessService.invalidate(hallStaff.getUser().getId());
     }
 
     public List<UserDTO> getHallStaff(Long hallId, Long ownerId) {
@@ -0,0 +1,46 @@
+package com.banquet.service;
+
+import com.banquet.repository.SchedulerLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Named, time-bounded leases stored in {@code scheduler_leases} so that
+ * scheduled jobs running on several nodes split work instead of racing.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(duration);
+        if (leaseRepository.tryAcquire(name, nodeId, now, until) > 0) {
+            return true;
+        }
+        return leaseRepository.insertIfAbsent(name, nodeId, until) > 0;
+    }
+
+    /** Extends a lease this node still holds; false once it has lapsed or another node took it. */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean renew(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        return leaseRepository.renew(name, nodeId, now, now.plus(duration)) > 0;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        leaseRepository.release(name, nodeId, LocalDateTime.now());
+    }
+}
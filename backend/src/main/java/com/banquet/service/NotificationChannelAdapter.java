@@ -0,0 +1,24 @@
+package com.banquet.service;
+
+import com.banquet.entity.Notification;
+import com.banquet.enums.NotificationChannel;
+
+import java.util.List;
+
+/**
+ * Delivers notifications for one channel. Implementations declare their
+ * provider's batch and rate limits; the dispatcher enforces them.
+ */
+public interface NotificationChannelAdapter {
+
+    NotificationChannel channel();
+
+    int maxBatchSize();
+
+    double ratePerSecond();
+
+    double burst();
+
+    /** Sends the batch; throwing fails every message in it, and each is retried with backoff. */
+    void send(List<Notification> batch);
+}
@@ -0,0 +1,134 @@
+package com.banquet.service;
+
+import com.banquet.entity.Notification;
+import com.banquet.enums.NotificationChannel;
+import com.banquet.enums.NotificationStatus;
+import com.banquet.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drains the notification queue channel by channel. Each round takes as many
+ * due messages as the channel's token bucket allows, sends them in provider
+ * sized batches, and reschedules failures with jittered exponential backoff
+ * until {@code max-attempts} is reached.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationRepository notificationRepository;
+    private final LeaseService leaseService;
+    private final MeterRegistry meterRegistry;
+    private final Map<NotificationChannel, NotificationChannelAdapter> adapters = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, TokenBucket> buckets = new EnumMap<>(NotificationChannel.class);
+
+    @Value("${app.notifications.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.notifications.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${app.notifications.max-batches-per-round:20}")
+    private int maxBatchesPerRound;
+
+    public NotificationDispatcher(NotificationRepository notificationRepository,
+                                  LeaseService leaseService,
+                                  MeterRegistry meterRegistry,
+                                  List<NotificationChannelAdapter> channelAdapters) {
+        this.notificationRepository = notificationRepository;
+        this.leaseService = leaseService;
+        this.meterRegistry = meterRegistry;
+        for (NotificationChannelAdapter adapter : channelAdapters) {
+            adapters.put(adapter.channel(), adapter);
+            buckets.put(adapter.channel(), new TokenBucket(adapter.ratePerSecond(), adapter.burst()));
+            meterRegistry.gauge("banquet.notifications.pending",
+                    List.of(Tag.of("channel", adapter.channel().name())),
+                    notificationRepository, r -> r.countByChannelAndStatus(adapter.channel(), NotificationStatus.PENDING));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch-interval-ms:2000}")
+    public void dispatch() {
+        for (NotificationChannelAdapter adapter : adapters.values()) {
+            String lease = "notifications-" + adapter.channel().name().toLowerCase();
+            if (!leaseService.tryAcquire(lease, Duration.ofMinutes(1))) {
+                continue;
+            }
+            try {
+                drain(adapter);
+            } finally {
+                leaseService.release(lease);
+            }
+        }
+    }
+
+    private void drain(NotificationChannelAdapter adapter) {
+        TokenBucket bucket = buckets.get(adapter.channel());
+        for (int round = 0; round < maxBatchesPerRound; round++) {
+            int permits = bucket.tryAcquire(adapter.maxBatchSize());
+            if (permits == 0) {
+                return;
+            }
+            List<Notification> batch = notificationRepository.findDue(
+                    adapter.channel(), LocalDateTime.now(), PageRequest.of(0, permits));
+            bucket.refund(permits - batch.size());
+            if (batch.isEmpty()) {
+                return;
+            }
+            send(adapter, batch);
+            if (batch.size() < permits) {
+                return;
+            }
+        }
+    }
+
+    private void send(NotificationChannelAdapter adapter, List<Notification> batch) {
+        String channel = adapter.channel().name();
+        try {
+            adapter.send(batch);
+            notificationRepository.markSent(batch.stream().map(Notification::getId).toList(), LocalDateTime.now());
+            meterRegistry.counter("banquet.notifications.sent", "channel", channel).increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("{} batch of {} failed: {}", channel, batch.size(), e.getMessage());
+            meterRegistry.counter("banquet.notifications.failed", "channel", channel).increment(batch.size());
+            String error = truncate(e.getMessage());
+            for (Notification notification : batch) {
+                int attempt = notification.getAttempts() + 1;
+                boolean exhausted = attempt >= maxAttempts;
+                notificationRepository.recordFailure(List.of(notification.getId()),
+                        exhausted ? NotificationStatus.FAILED : NotificationStatus.PENDING,
+                        LocalDateTime.now().plus(backoff(attempt)), error);
+            }
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        long exp = backoffBaseSeconds << Math.min(attempt - 1, 20);
+        long capped = Math.min(backoffMaxSeconds, exp);
+        // Jitter spreads out retries after a provider outage instead of replaying them in lockstep.
+        return Duration.ofSeconds(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 255 ? message : message.substring(0, 255);
+    }
+}
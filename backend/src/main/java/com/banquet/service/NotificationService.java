@@ -0,0 +1,83 @@
+package com.banquet.service;
+
+import com.banquet.entity.Notification;
+import com.banquet.entity.User;
+import com.banquet.enums.NotificationChannel;
+import com.banquet.repository.NotificationRepository;
+import com.banquet.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Queues notifications for {@link NotificationDispatcher}. Enqueueing is a
+ * single insert per channel; nothing is sent on the caller's thread.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+
+    /** One message for {@link #notifyUsers}. */
+    public record UserMessage(Long userId, String template, String body) {
+    }
+
+    /** Queues an SMS to the user's phone and, if they have one, an email. */
+    @Transactional
+    public void notifyUser(Long userId, String template, String body) {
+        userRepository.findById(userId).ifPresent(user -> notify(user, template, body));
+    }
+
+    /** {@link #notifyUser} for a batch of messages, loading all their users with one query. */
+    @Transactional
+    public void notifyUsers(List<UserMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Map<Long, User> users = userRepository.findAllById(messages.stream().map(UserMessage::userId)
+                        .collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        for (UserMessage message : messages) {
+            User user = users.get(message.userId());
+            if (user != null) {
+                notify(user, message.template(), message.body());
+            }
+        }
+    }
+
+    @Transactional
+    public Notification enqueue(Long userId, NotificationChannel channel, String recipient,
+                                String template, String body) {
+        return enqueue(userId, channel, recipient, template, body, false);
+    }
+
+    /** Sensitive bodies, such as one-time codes, are not kept once the message has been delivered. */
+    @Transactional
+    public Notification enqueue(Long userId, NotificationChannel channel, String recipient,
+                                String template, String body, boolean sensitive) {
+        return notificationRepository.save(Notification.builder()
+                .userId(userId)
+                .channel(channel)
+                .recipient(recipient)
+                .template(template)
+                .body(body)
+                .sensitive(sensitive)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void notify(User user, String template, String body) {
+        enqueue(user.getId(), NotificationChannel.SMS, user.getPhone(), template, body);
+        if (user.getEmail() != null && !user.getEmail().isBlank()) {
+            enqueue(user.getId(), NotificationChannel.EMAIL, user.getEmail(), template, body);
+        }
+    }
+}
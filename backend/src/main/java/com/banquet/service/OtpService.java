@@ -0,0 +1,193 @@
+package com.banquet.service;
+
+import com.banquet.enums.NotificationChannel;
+import com.banquet.exception.TooManyRequestsException;
+import com.banquet.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One-time login codes held in memory: one active code per phone, stored as
+ * an HMAC-SHA256 of phone and code keyed by {@code app.auth.otp.secret}
+ * (a plain hash of a 6-digit code falls to trying all of them), compared in
+ * constant time and discarded on success, expiry or too many wrong guesses.
+ * Issuing and verifying are rate limited per phone and per client IP, so
+ * verification never hits the database. Optionally snapshotted to a file on
+ * shutdown so a restart does not invalidate codes in flight. The SMS is
+ * queued as sensitive, so its body is redacted once it has been sent.
+ */
+@Slf4j
+@Service
+public class OtpService {
+
+    private record OtpEntry(byte[] digest, Instant expiresAt, AtomicInteger failures) {
+    }
+
+    private static final String INVALID = "Invalid or expired OTP";
+
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentMap<String, OtpEntry> codes = new ConcurrentHashMap<>();
+
+    private final SecretKeySpec digestKey;
+    private final Duration ttl;
+    private final int codeLength;
+    private final int maxFailures;
+    private final String snapshotFile;
+    private final SlidingWindowRateLimiter issuePerPhone;
+    private final SlidingWindowRateLimiter issuePerIp;
+    private final SlidingWindowRateLimiter verifyPerIp;
+
+    public OtpService(UserRepository userRepository,
+                      NotificationService notificationService,
+                      @Value("${app.auth.otp.secret}") String otpSecret,
+                      @Value("${app.auth.otp.ttl-seconds:300}") long ttlSeconds,
+                      @Value("${app.auth.otp.length:6}") int codeLength,
+                      @Value("${app.auth.otp.max-failures:5}") int maxFailures,
+                      @Value("${app.auth.otp.snapshot-file:}") String snapshotFile,
+                      @Value("${app.auth.otp.issue-per-phone:3}") int issuePerPhoneLimit,
+                      @Value("${app.auth.otp.issue-per-ip:20}") int issuePerIpLimit,
+                      @Value("${app.auth.otp.verify-per-ip:30}") int verifyPerIpLimit,
+                      @Value("${app.auth.otp.rate-window-seconds:600}") long windowSeconds) {
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.digestKey = new SecretKeySpec(Base64.getDecoder().decode(otpSecret), "HmacSHA256");
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.codeLength = codeLength;
+        this.maxFailures = maxFailures;
+        this.snapshotFile = snapshotFile;
+        Duration window = Duration.ofSeconds(windowSeconds);
+        this.issuePerPhone = new SlidingWindowRateLimiter(issuePerPhoneLimit, window);
+        this.issuePerIp = new SlidingWindowRateLimiter(issuePerIpLimit, window);
+        this.verifyPerIp = new SlidingWindowRateLimiter(verifyPerIpLimit, window);
+    }
+
+    /**
+     * Issues a code and queues it by SMS. Unknown phones are accepted silently
+     * so the endpoint does not reveal which numbers are registered.
+     */
+    public void requestOtp(String phone, String clientIp) {
+        if (!issuePerIp.tryAcquire(clientIp) || !issuePerPhone.tryAcquire(phone)) {
+            throw new TooManyRequestsException("Too many OTP requests, please try again later");
+        }
+        userRepository.findByPhone(phone).ifPresent(user -> {
+            String code = generateCode();
+            codes.put(phone, new OtpEntry(digest(phone, code), Instant.now().plus(ttl), new AtomicInteger()));
+            notificationService.enqueue(user.getId(), NotificationChannel.SMS, phone, "OTP",
+                    "Your Banquet login code is " + code + ". It expires in " + ttl.toMinutes() + " minutes.",
+                    true);
+        });
+    }
+
+    /** Consumes the code if it matches; throws otherwise. */
+    public void verify(String phone, String code, String clientIp) {
+        if (!verifyPerIp.tryAcquire(clientIp)) {
+            throw new TooManyRequestsException("Too many OTP attempts, please try again later");
+        }
+        OtpEntry entry = codes.get(phone);
+        if (entry == null || code == null) {
+            throw new RuntimeException(INVALID);
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            codes.remove(phone, entry);
+            throw new RuntimeException(INVALID);
+        }
+        if (!MessageDigest.isEqual(entry.digest(), digest(phone, code))) {
+            if (entry.failures().incrementAndGet() >= maxFailures) {
+                codes.remove(phone, entry);
+            }
+            throw new RuntimeException(INVALID);
+        }
+        // Only one concurrent verification of the same code can win the removal.
+        if (!codes.remove(phone, entry)) {
+            throw new RuntimeException(INVALID);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.otp.sweep-interval-ms:60000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        codes.entrySet().removeIf(e -> e.getValue().expiresAt().isBefore(now));
+        issuePerPhone.evictIdle();
+        issuePerIp.evictIdle();
+        verifyPerIp.evictIdle();
+    }
+
+    @PostConstruct
+    public void restore() throws IOException {
+        if (snapshotFile.isBlank() || !Files.exists(Paths.get(snapshotFile))) {
+            return;
+        }
+        Path path = Paths.get(snapshotFile);
+        Instant now = Instant.now();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] parts = line.split(",");
+            if (parts.length != 3) {
+                continue;
+            }
+            Instant expiresAt = Instant.ofEpochMilli(Long.parseLong(parts[2]));
+            if (expiresAt.isAfter(now)) {
+                codes.put(parts[0], new OtpEntry(Base64.getDecoder().decode(parts[1]), expiresAt, new AtomicInteger()));
+            }
+        }
+        Files.delete(path);
+        log.info("Restored {} OTP codes from snapshot", codes.size());
+    }
+
+    @PreDestroy
+    public void snapshot() throws IOException {
+        if (snapshotFile.isBlank()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        codes.forEach((phone, entry) -> lines.add(phone + "," + Base64.getEncoder().encodeToString(entry.digest())
+                + "," + entry.expiresAt().toEpochMilli()));
+        Path path = Paths.get(snapshotFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+
+    private String generateCode() {
+        StringBuilder code = new StringBuilder(codeLength);
+        for (int i = 0; i < codeLength; i++) {
+            code.append(random.nextInt(10));
+        }
+        return code.toString();
+    }
+
+    private byte[] digest(String phone, String code) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(digestKey);
+            return mac.doFinal((phone + ":" + code).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.banquet.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly range partitions of {@code bookings} and
+ * {@code payments} ahead of the calendar on PostgreSQL. A new partition
+ * takes over any rows that already fell into the table's default partition
+ * for that month. Once the archive job has emptied a partition that lies
+ * wholly before the retention window, the partition is dropped. On other
+ * databases the tables are not partitioned and this does nothing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final String LEASE = "partition-maintenance";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private record PartitionedTable(String name, String column) {
+    }
+
+    private static final List<PartitionedTable> TABLES = List.of(
+            new PartitionedTable("bookings", "booking_date"),
+            new PartitionedTable("payments", "created_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaseService leaseService;
+
+    private volatile Boolean postgres;
+
+    @Value("${app.partitions.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.partitions.months-ahead:12}")
+    private int monthsAhead;
+
+    @Value("${app.archive.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${app.archive.drop-empty-partitions:true}")
+    private boolean dropEmptyPartitions;
+
+    @Scheduled(fixedDelayString = "${app.partitions.interval-ms:21600000}",
+            initialDelayString = "${app.partitions.initial-delay-ms:30000}")
+    public void maintain() {
+        if (!enabled || !isPostgres() || !leaseService.tryAcquire(LEASE, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            YearMonth current = YearMonth.now();
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (PartitionedTable table : TABLES) {
+                if (!isPartitioned(table.name())) {
+                    continue;
+                }
+                for (int i = 0; i <= monthsAhead; i++) {
+                    ensurePartition(table, current.plusMonths(i));
+                }
+                if (dropEmptyPartitions) {
+                    dropEmptyBefore(table, oldestKept);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Partition maintenance failed", e);
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    private void ensurePartition(PartitionedTable table, YearMonth month) {
+        String partition = table.name() + "_p" + month.format(SUFFIX);
+        if (exists(partition)) {
+            return;
+        }
+        String range = table.column() + " >= '" + month.atDay(1) + "' AND " + table.column()
+                + " < '" + month.plusMonths(1).atDay(1) + "'";
+        String defaultPartition = table.name() + "_default";
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table.name() + " INCLUDING DEFAULTS)");
+            int moved = jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + defaultPartition
+                    + " WHERE " + range);
+            if (moved > 0) {
+                jdbcTemplate.update("DELETE FROM " + defaultPartition + " WHERE " + range);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table.name() + " ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            log.info("Created partition {} ({} rows moved from {})", partition, moved, defaultPartition);
+        });
+    }
+
+    private void dropEmptyBefore(PartitionedTable table, YearMonth oldestKept) {
+        Pattern monthly = Pattern.compile(Pattern.quote(table.name()) + "_p(\\d{6})");
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ?", String.class, table.name());
+        for (String partition : partitions) {
+            Matcher m = monthly.matcher(partition);
+            if (!m.matches() || !YearMonth.parse(m.group(1), SUFFIX).isBefore(oldestKept)) {
+                continue;
+            }
+            Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+            if (Boolean.TRUE.equals(empty)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("ALTER TABLE " + table.name() + " DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                });
+                log.info("Dropped empty partition {}", partition);
+            }
+        }
+    }
+
+    private boolean exists(String relation) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_class WHERE relname = ?)", Boolean.class, relation));
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table t JOIN pg_class c ON c.oid = t.partrelid "
+                        + "WHERE c.relname = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
@@ -5,18 +5,24 @@ import com.banquet.dto.PaymentResponse;
 import com.banquet.dto.RefundRequest;
 import com.banquet.entity.Booking;
 import com.banquet.entity.Payment;
-import com.banquet.enums.BookingStatus;
+import com.banquet.entity.PaymentLedgerEntry;
+import com.banquet.enums.LedgerEntryType;
 import com.banquet.enums.PaymentStatus;
 import com.banquet.enums.PaymentType;
+import com.banquet.event.PaymentRecordedEvent;
 import com.banquet.repository.BookingRepository;
-import com.banquet.repository.HallStaffRepository;
+import com.banquet.repository.PaymentLedgerRepository;
 import com.banquet.repository.PaymentRepository;
 import com.stripe.exception.StripeException;
 import com.stripe.model.PaymentIntent;
 import com.stripe.model.Refund;
 import com.stripe.param.PaymentIntentCreateParams;
 import com.stripe.param.RefundCreateParams;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +32,15 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final BookingRepository bookingRepository;
-    private final HallStaffRepository hallStaffRepository;
+    private final HallAccessService hallAccessService;
+    private final PaymentLedgerRepository ledgerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @org.springframework.beans.factory.annotation.Value("${app.stripe.secret-key}")
     private String stripeSecretKey;
@@ -64,7 +74,7 @@ public class PaymentService {
                         .putMetadata("paymentType", request.paymentType().name())
                         .build();
 
-                PaymentIntent paymentIntent = PaymentIntent.create(params);
+                PaymentIntent paymentIntent = callStripe("payment_intent.create", () -> PaymentIntent.create(params));
                 paymentIntentId = paymentIntent.getId();
             } catch (StripeException e) {
                 throw new RuntimeException("Failed to create payment intent: " + e.getMessage(), e);
@@ -85,59 +95,83 @@ public class PaymentService {
         return toPaymentResponse(payment);
     }
 
+    /** Whether a payment was created for this intent here; Stripe also sends events for other intents. */
+    public boolean isKnownPaymentIntent(String stripePaymentIntentId) {
+        return stripePaymentIntentId != null && paymentRepository.existsByStripePaymentIntentId(stripePaymentIntentId);
+    }
+
     @Transactional
     public PaymentResponse confirmPayment(String stripePaymentIntentId) {
+        // Only the call that flips the payment to SUCCESS applies it to the booking;
+        // replays of the same intent (client retries, webhook redelivery) are read-only.
+        int transitioned = paymentRepository.markSucceeded(stripePaymentIntentId);
+
         Payment payment = paymentRepository.findByStripePaymentIntentId(stripePaymentIntentId)
                 .orElseThrow(() -> new RuntimeException("Payment not found"));
 
-        payment.setStatus(PaymentStatus.SUCCESS);
-        payment = paymentRepository.save(payment);
+        if (transitioned == 0) {
+            return toPaymentResponse(payment);
+        }
 
         Booking booking = payment.getBooking();
-        booking.setPaidAmount(booking.getPaidAmount().add(payment.getAmount()));
-
-        boolean shouldConfirm = false;
-        if (booking.getPaidAmount().compareTo(booking.getTotalAmount()) >= 0) {
-            shouldConfirm = true;
-        } else if (payment.getPaymentType() == PaymentType.INSTALLMENT_1) {
-            shouldConfirm = true;
-        } else if (payment.getPaymentType() == PaymentType.FULL) {
-            shouldConfirm = true;
-        }
+        bookingRepository.addPaidAmount(booking.getId(), payment.getAmount());
 
-        if (shouldConfirm && booking.getStatus() == BookingStatus.PENDING) {
-            booking.setStatus(BookingStatus.CONFIRMED);
-        }
+        boolean confirmOnFirstPayment = payment.getPaymentType() == PaymentType.INSTALLMENT_1
+                || payment.getPaymentType() == PaymentType.FULL;
+        bookingRepository.confirmIfPending(booking.getId(), confirmOnFirstPayment);
 
-        bookingRepository.save(booking);
+        appendLedgerEntry(payment, LedgerEntryType.CHARGE);
         return toPaymentResponse(payment);
     }
 
+    @Transactional
+    public void failPayment(String stripePaymentIntentId) {
+        paymentRepository.markFailed(stripePaymentIntentId);
+    }
+
+    /**
+     * Voids a payment that was started but never completed, so its booking's
+     * hold can lapse. Returns false when Stripe can no longer cancel the
+     * intent because it succeeded or is still processing; the payment is then
+     * left PENDING for its webhook.
+     */
+    @Transactional
+    public boolean cancelPendingPayment(String stripePaymentIntentId) {
+        if (stripeEnabled() && !stripePaymentIntentId.startsWith("sim_")) {
+            try {
+                callStripe("payment_intent.cancel", () -> PaymentIntent.retrieve(stripePaymentIntentId).cancel());
+            } catch (StripeException e) {
+                return false;
+            }
+        }
+        paymentRepository.markFailed(stripePaymentIntentId);
+        return true;
+    }
+
     @Transactional
     public PaymentResponse processRefund(Long bookingId, Long userId, RefundRequest request) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
 
         boolean isCustomer = booking.getCustomer().getId().equals(userId);
-        boolean isHallOwner = booking.getVenue().getHall().getOwner().getId().equals(userId);
-        boolean isStaff = hallStaffRepository.existsByHallIdAndUserId(
-                booking.getVenue().getHall().getId(), userId);
-
-        if (!isCustomer && !isHallOwner && !isStaff) {
+        if (!isCustomer && !hallAccessService.canManage(booking.getVenue().getHall().getId(), userId)) {
             throw new RuntimeException("Not authorized to process refund for this booking");
         }
 
-        List<Payment> successfulPayments = paymentRepository.findByBookingId(bookingId).stream()
-                .filter(p -> p.getStatus() == PaymentStatus.SUCCESS)
-                .collect(Collectors.toList());
+        Payment originalPayment = paymentRepository
+                .findFirstByBookingIdAndStatusOrderByIdAsc(bookingId, PaymentStatus.SUCCESS)
+                .orElseThrow(() -> new RuntimeException("No successful payment found for this booking"));
 
-        if (successfulPayments.isEmpty()) {
-            throw new RuntimeException("No successful payment found for this booking");
+        BigDecimal refundAmount = (request.amount() != null) ? request.amount() : originalPayment.getAmount();
+        if (refundAmount.signum() <= 0) {
+            throw new RuntimeException("Refund amount must be positive");
         }
 
-        Payment originalPayment = successfulPayments.get(0);
-
-        BigDecimal refundAmount = (request.amount() != null) ? request.amount() : originalPayment.getAmount();
+        // Guarded decrement: concurrent refunds serialize on the booking row and can never
+        // take paid_amount below zero. A failed Stripe call below rolls this back.
+        if (bookingRepository.deductPaidAmount(bookingId, refundAmount) == 0) {
+            throw new RuntimeException("Refund amount exceeds the amount paid");
+        }
 
         if (stripeEnabled() && !originalPayment.getStripePaymentIntentId().startsWith("sim_")) {
             try {
@@ -150,7 +184,7 @@ public class PaymentService {
                         .setAmount(refundAmountInCents)
                         .build();
 
-                Refund.create(params);
+                callStripe("refund.create", () -> Refund.create(params));
             } catch (StripeException e) {
                 throw new RuntimeException("Failed to process refund: " + e.getMessage(), e);
             }
@@ -165,9 +199,7 @@ public class PaymentService {
                 .build();
 
         refundPayment = paymentRepository.save(refundPayment);
-
-        booking.setPaidAmount(booking.getPaidAmount().subtract(refundAmount));
-        bookingRepository.save(booking);
+        appendLedgerEntry(refundPayment, LedgerEntryType.REFUND);
 
         return toPaymentResponse(refundPayment);
     }
@@ -178,7 +210,21 @@ public class PaymentService {
                 .collect(Collectors.toList());
     }
 
-    private PaymentResponse toPaymentResponse(Payment payment) {
+    private void appendLedgerEntry(Payment payment, LedgerEntryType type) {
+        Booking booking = payment.getBooking();
+        ledgerRepository.save(PaymentLedgerEntry.builder()
+                .bookingId(booking.getId())
+                .venueId(booking.getVenue().getId())
+                .paymentId(payment.getId())
+                .entryType(type)
+                .amount(payment.getAmount())
+                .build());
+        eventPublisher.publishEvent(new PaymentRecordedEvent(payment.getId(), booking.getId(),
+                booking.getCustomer().getId(), booking.getVenue().getId(), booking.getVenue().getHall().getId(),
+                booking.getBookingDate(), type, payment.getAmount()));
+    }
+
+    public PaymentResponse toPaymentResponse(Payment payment) {
         return new PaymentResponse(
                 payment.getId(),
                 payment.getBooking().getId(),
@@ -189,4 +235,25 @@ public class PaymentService {
                 payment.getCreatedAt()
         );
     }
+
+    private <T> T callStripe(String operation, StripeCall<T> call) throws StripeException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.execute();
+        } catch (StripeException e) {
+            outcome = "error";
+            meterRegistry.counter("banquet.stripe.errors",
+                    "operation", operation, "type", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("banquet.stripe.requests",
+                    "operation", operation, "outcome", outcome));
+        }
+    }
+
+    @FunctionalInterface
+    private interface StripeCall<T> {
+        T execute() throws StripeException;
+    }
 }
@@ -0,0 +1,194 @@
+package com.banquet.service;
+
+import com.banquet.entity.StripeWebhookEvent;
+import com.banquet.repository.StripeWebhookEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies verified Stripe webhook events off the request thread. Events are
+ * persisted before they are queued, so anything still unprocessed is queued
+ * again: everything on startup, and by a periodic sweep once it is older than
+ * the retry grace period (an apply that failed, or an event that found the
+ * queue full). Applying an event is idempotent, so a redundant re-drive from
+ * another node is harmless.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookProcessor {
+
+    static final String PAYMENT_SUCCEEDED = "payment_intent.succeeded";
+    static final String PAYMENT_FAILED = "payment_intent.payment_failed";
+
+    private final PaymentService paymentService;
+    private final StripeWebhookEventRepository webhookEventRepository;
+
+    @Value("${app.stripe.webhook-queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.stripe.webhook-batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.stripe.webhook-retry-grace-seconds:120}")
+    private long retryGraceSeconds;
+
+    private BlockingQueue<WebhookTask> queue;
+    // Ids queued on this node, so a sweep does not queue an event that is still waiting its turn
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::runWorker, "stripe-webhook-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<WebhookTask> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            processBatch(remaining);
+        }
+    }
+
+    public static boolean isHandled(String eventType) {
+        return PAYMENT_SUCCEEDED.equals(eventType) || PAYMENT_FAILED.equals(eventType);
+    }
+
+    public boolean hasCapacity() {
+        return queue.remainingCapacity() > 0;
+    }
+
+    public boolean enqueue(StripeWebhookEvent event) {
+        if (!queued.add(event.getId())) {
+            return true;
+        }
+        if (!queue.offer(new WebhookTask(event.getId(), event.getEventType(), event.getPaymentIntentId()))) {
+            queued.remove(event.getId());
+            return false;
+        }
+        return true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverUnprocessed() {
+        requeueReceivedBefore(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.stripe.webhook-sweep-interval-ms:60000}",
+            initialDelayString = "${app.stripe.webhook-sweep-interval-ms:60000}")
+    public void sweepUnprocessed() {
+        requeueReceivedBefore(LocalDateTime.now().minusSeconds(retryGraceSeconds));
+    }
+
+    private void requeueReceivedBefore(LocalDateTime before) {
+        int room = queue.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        int requeued = 0;
+        for (StripeWebhookEvent event : webhookEventRepository
+                .findByProcessedFalseAndReceivedAtBeforeOrderByReceivedAtAsc(before, PageRequest.of(0, room))) {
+            if (!queued.contains(event.getId()) && enqueue(event)) {
+                requeued++;
+            }
+        }
+        if (requeued > 0) {
+            log.info("Re-queued {} unprocessed Stripe webhook events", requeued);
+        }
+    }
+
+    private void runWorker() {
+        List<WebhookTask> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                WebhookTask first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void processBatch(List<WebhookTask> batch) {
+        // Redeliveries of the same intent/outcome within a batch collapse into one DB round trip.
+        // A key counts as applied only once apply succeeded, so a failure is retried by its duplicate.
+        Set<String> applied = new LinkedHashSet<>();
+        List<String> processedIds = new ArrayList<>(batch.size());
+
+        for (WebhookTask task : batch) {
+            String key = task.eventType() + ":" + task.paymentIntentId();
+            try {
+                if (!applied.contains(key)) {
+                    apply(task);
+                    applied.add(key);
+                }
+                processedIds.add(task.eventId());
+            } catch (RuntimeException e) {
+                // Left unprocessed for the sweep to retry after the grace period
+                log.warn("Failed to apply Stripe event {} ({}): {}",
+                        task.eventId(), task.eventType(), e.getMessage());
+            }
+        }
+
+        try {
+            if (!processedIds.isEmpty()) {
+                webhookEventRepository.markProcessed(processedIds, LocalDateTime.now());
+            }
+        } finally {
+            batch.forEach(task -> queued.remove(task.eventId()));
+        }
+    }
+
+    private void apply(WebhookTask task) {
+        if (!paymentService.isKnownPaymentIntent(task.paymentIntentId())) {
+            // Nothing will ever match it, so mark it processed rather than re-driving it on every restart.
+            log.info("Ignoring Stripe event {} for unknown payment intent {}", task.eventId(), task.paymentIntentId());
+            return;
+        }
+        switch (task.eventType()) {
+            case PAYMENT_SUCCEEDED -> paymentService.confirmPayment(task.paymentIntentId());
+            case PAYMENT_FAILED -> paymentService.failPayment(task.paymentIntentId());
+            default -> log.debug("Ignoring Stripe event type {}", task.eventType());
+        }
+    }
+
+    record WebhookTask(String eventId, String eventType, String paymentIntentId) {
+    }
+}
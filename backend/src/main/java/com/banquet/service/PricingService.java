@@ -0,0 +1,246 @@
+package com.banquet.service;
+
+import com.banquet.dto.PriceQuoteResponse;
+import com.banquet.dto.PricingRuleRequest;
+import com.banquet.dto.PricingRuleResponse;
+import com.banquet.entity.PricingRule;
+import com.banquet.entity.Venue;
+import com.banquet.entity.VenuePricing;
+import com.banquet.repository.PricingRuleRepository;
+import com.banquet.repository.VenuePricingRepository;
+import com.banquet.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Prices bookings from a venue's {@link PricingRule}s, with
+ * {@code VenuePricing} rows as per-date overrides on top. Each venue's rules
+ * are compiled once into a {@link CompiledPricing} and reused until the
+ * venue's {@code pricing_version} or base price changes. Both travel on the
+ * {@link Venue} the caller already loaded, so a quote costs no extra query
+ * and other instances notice edits on their next quote. Demand multipliers
+ * from {@link DynamicPricingService}, when enabled, scale the result.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("banquet.service")
+public class PricingService {
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final VenuePricingRepository venuePricingRepository;
+    private final VenueRepository venueRepository;
+    private final HallAccessService hallAccessService;
+    private final DynamicPricingService dynamicPricingService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, CompiledPricing> compiled = new ConcurrentHashMap<>();
+
+    /** One leg of a batch quote. */
+    public record QuoteRequest(Venue venue, LocalDate date, LocalTime start, LocalTime end) {
+    }
+
+    public BigDecimal calculateAmount(Venue venue, LocalDate date, LocalTime start, LocalTime end) {
+        return calculateAmounts(List.of(new QuoteRequest(venue, date, start, end))).get(0);
+    }
+
+    /**
+     * Prices several legs at once. Venues whose compiled table is missing or
+     * stale are recompiled together, with one query for their rules and one
+     * for their overrides.
+     */
+    public List<BigDecimal> calculateAmounts(List<QuoteRequest> requests) {
+        return meterRegistry.timer("banquet.pricing.calculate").record(() -> {
+            Map<Long, CompiledPricing> tables = compiledFor(requests.stream().map(QuoteRequest::venue).toList());
+            List<BigDecimal> amounts = new ArrayList<>(requests.size());
+            for (QuoteRequest request : requests) {
+                CompiledPricing pricing = tables.get(request.venue().getId());
+                BigDecimal amount = pricing.quote(request.date(), request.start(), request.end());
+                // Prices an owner fixed for the date are never adjusted for demand
+                BigDecimal multiplier = pricing.hasOverride(request.date()) ? null
+                        : dynamicPricingService.multiplier(request.venue().getId(), request.date());
+                amounts.add(multiplier == null ? amount
+                        : amount.multiply(multiplier).setScale(2, RoundingMode.HALF_UP));
+            }
+            return amounts;
+        });
+    }
+
+    public PriceQuoteResponse getQuote(Long hallId, Long venueId, LocalDate date, LocalTime start, LocalTime end) {
+        if (!start.isBefore(end)) {
+            throw new RuntimeException("End time must be after start time");
+        }
+        Venue venue = findVenue(hallId, venueId);
+        return new PriceQuoteResponse(venueId, date, start, end, calculateAmount(venue, date, start, end));
+    }
+
+    public List<PricingRuleResponse> getRules(Long hallId, Long venueId, Long userId) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to manage this hall");
+        findVenue(hallId, venueId);
+        return pricingRuleRepository.findByVenueIdOrderByPriorityDescIdDesc(venueId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public PricingRuleResponse createRule(Long hallId, Long venueId, PricingRuleRequest request, Long userId) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to manage this hall");
+        Venue venue = findVenue(hallId, venueId);
+        PricingRule rule = PricingRule.builder().venue(venue).build();
+        apply(rule, request);
+        rule = pricingRuleRepository.save(rule);
+        venueRepository.bumpPricingVersion(venueId);
+        return toResponse(rule);
+    }
+
+    @Transactional
+    public PricingRuleResponse updateRule(Long hallId, Long venueId, Long ruleId, PricingRuleRequest request,
+                                          Long userId) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to manage this hall");
+        PricingRule rule = findRule(hallId, venueId, ruleId);
+        apply(rule, request);
+        rule = pricingRuleRepository.save(rule);
+        venueRepository.bumpPricingVersion(venueId);
+        return toResponse(rule);
+    }
+
+    @Transactional
+    public void deleteRule(Long hallId, Long venueId, Long ruleId, Long userId) {
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to manage this hall");
+        pricingRuleRepository.delete(findRule(hallId, venueId, ruleId));
+        venueRepository.bumpPricingVersion(venueId);
+    }
+
+    private Map<Long, CompiledPricing> compiledFor(Collection<Venue> venues) {
+        Map<Long, CompiledPricing> tables = new HashMap<>();
+        Map<Long, Venue> stale = new HashMap<>();
+        for (Venue venue : venues) {
+            CompiledPricing current = compiled.get(venue.getId());
+            if (current != null && current.version() == versionOf(venue)
+                    && current.basePricePerHour().compareTo(venue.getBasePricePerHour()) == 0) {
+                tables.put(venue.getId(), current);
+            } else {
+                stale.put(venue.getId(), venue);
+            }
+        }
+        if (stale.isEmpty()) {
+            return tables;
+        }
+
+        Map<Long, List<PricingRule>> rules = pricingRuleRepository.findByVenueIdInAndActiveTrue(stale.keySet())
+                .stream().collect(Collectors.groupingBy(r -> r.getVenue().getId()));
+        Map<Long, List<VenuePricing>> overrides = venuePricingRepository
+                .findByVenueIdInAndEffectiveDateGreaterThanEqual(stale.keySet(), LocalDate.now())
+                .stream().collect(Collectors.groupingBy(p -> p.getVenue().getId()));
+        stale.forEach((venueId, venue) -> {
+            CompiledPricing fresh = CompiledPricing.compile(versionOf(venue), venue.getBasePricePerHour(),
+                    rules.getOrDefault(venueId, List.of()), overrides.getOrDefault(venueId, List.of()));
+            // A caller holding an older Venue must not replace a newer table
+            compiled.merge(venueId, fresh, (old, neu) -> old.version() > neu.version() ? old : neu);
+            tables.put(venueId, fresh);
+        });
+        return tables;
+    }
+
+    private static long versionOf(Venue venue) {
+        return venue.getPricingVersion() == null ? 0 : venue.getPricingVersion();
+    }
+
+    private void apply(PricingRule rule, PricingRuleRequest request) {
+        boolean yearly = Boolean.TRUE.equals(request.recurringYearly());
+        if (yearly && (request.startDate() == null || request.endDate() == null)) {
+            throw new RuntimeException("A yearly rule needs both a start and an end date");
+        }
+        if (!yearly && request.startDate() != null && request.endDate() != null
+                && request.endDate().isBefore(request.startDate())) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        if ((request.startTime() == null) != (request.endTime() == null)) {
+            throw new RuntimeException("Give both a start and an end time, or neither");
+        }
+        if (request.startTime() != null && !request.startTime().isBefore(request.endTime())
+                && !request.endTime().equals(LocalTime.MIDNIGHT)) {
+            throw new RuntimeException("End time must be after start time");
+        }
+
+        rule.setName(request.name());
+        rule.setPriority(request.priority() != null ? request.priority() : 0);
+        rule.setDaysOfWeek(toMask(request.daysOfWeek()));
+        rule.setStartDate(request.startDate());
+        rule.setEndDate(request.endDate());
+        rule.setRecurringYearly(yearly);
+        rule.setStartTime(request.startTime());
+        rule.setEndTime(request.endTime());
+        rule.setPricePerHour(request.pricePerHour());
+        rule.setActive(request.active() == null || request.active());
+    }
+
+    private Venue findVenue(Long hallId, Long venueId) {
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new RuntimeException("Venue not found"));
+        if (!venue.getHall().getId().equals(hallId)) {
+            throw new RuntimeException("Venue does not belong to this hall");
+        }
+        return venue;
+    }
+
+    private PricingRule findRule(Long hallId, Long venueId, Long ruleId) {
+        findVenue(hallId, venueId);
+        PricingRule rule = pricingRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new RuntimeException("Pricing rule not found"));
+        if (!rule.getVenue().getId().equals(venueId)) {
+            throw new RuntimeException("Pricing rule does not belong to this venue");
+        }
+        return rule;
+    }
+
+    private static int toMask(Set<DayOfWeek> days) {
+        int mask = 0;
+        if (days != null) {
+            for (DayOfWeek day : days) {
+                mask |= 1 << (day.getValue() - 1);
+            }
+        }
+        return mask;
+    }
+
+    private PricingRuleResponse toResponse(PricingRule rule) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((rule.getDaysOfWeek() & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return new PricingRuleResponse(
+                rule.getId(),
+                rule.getVenue().getId(),
+                rule.getName(),
+                rule.getPriority(),
+                days,
+                rule.getStartDate(),
+                rule.getEndDate(),
+                rule.isRecurringYearly(),
+                rule.getStartTime(),
+                rule.getEndTime(),
+                rule.getPricePerHour(),
+                rule.isActive()
+        );
+    }
+}
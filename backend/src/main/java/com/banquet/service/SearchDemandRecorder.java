@@ -0,0 +1,80 @@
+package com.banquet.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts, per hall and date, how often a dated search returned the hall.
+ * Searches only bump an in-memory counter; the totals are added to
+ * {@code search_demand} in one batch per flush. A hit racing the swap of
+ * the counter map may be dropped, which a demand signal can afford.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchDemandRecorder {
+
+    private record Key(long hallId, LocalDate date) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<Map<Key, LongAdder>> pending = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    @Value("${app.pricing.dynamic.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.pricing.dynamic.horizon-days:180}")
+    private int horizonDays;
+
+    public void record(Collection<Long> hallIds, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (!enabled || date == null || date.isBefore(today) || date.isAfter(today.plusDays(horizonDays))) {
+            return;
+        }
+        Map<Key, LongAdder> counters = pending.get();
+        for (Long hallId : hallIds) {
+            counters.computeIfAbsent(new Key(hallId, date), k -> new LongAdder()).increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.dynamic.search-flush-ms:60000}")
+    public void flush() {
+        Map<Key, LongAdder> counters = pending.getAndSet(new ConcurrentHashMap<>());
+        if (counters.isEmpty()) {
+            return;
+        }
+        // Same row order on every node, so concurrent flushes cannot deadlock
+        List<Object[]> rows = counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparingLong(Key::hallId).thenComparing(Key::date)))
+                .map(e -> new Object[]{e.getValue().sum(), e.getKey().hallId(), Date.valueOf(e.getKey().date())})
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate("INSERT INTO search_demand (hall_id, search_date, hit_count) "
+                                + "VALUES (?, ?, 0) ON CONFLICT DO NOTHING",
+                        rows.stream().map(r -> new Object[]{r[1], r[2]}).toList());
+                jdbcTemplate.batchUpdate("UPDATE search_demand SET hit_count = hit_count + ? "
+                        + "WHERE hall_id = ? AND search_date = ?", rows);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Dropped {} search demand counters: {}", rows.size(), e.getMessage());
+        }
+    }
+}
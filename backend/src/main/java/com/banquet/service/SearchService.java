@@ -8,8 +8,10 @@ import com.banquet.entity.Venue;
 import com.banquet.enums.BookingStatus;
 import com.banquet.enums.HallStatus;
 import com.banquet.repository.BanquetHallRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -20,10 +22,12 @@ import jakarta.persistence.criteria.*;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class SearchService {
 
     private final BanquetHallRepository hallRepository;
     private final HallService hallService;
+    private final SearchDemandRecorder searchDemandRecorder;
 
     public Page<HallResponse> searchHalls(SearchRequest request) {
         Specification<BanquetHall> spec = buildSpecification(request);
@@ -32,7 +36,12 @@ public class SearchService {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
         Page<BanquetHall> page = hallRepository.findAll(spec, pageable);
-        return page.map(hallService::toHallResponse);
+        if (request.getDate() != null && page.hasContent()) {
+            searchDemandRecorder.record(page.getContent().stream().map(BanquetHall::getId).toList(),
+                    request.getDate());
+        }
+        return new PageImpl<>(hallService.toHallResponses(page.getContent()), page.getPageable(),
+                page.getTotalElements());
     }
 
     private Specification<BanquetHall> buildSpecification(SearchRequest request) {
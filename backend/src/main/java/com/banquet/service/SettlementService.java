@@ -0,0 +1,342 @@
+package com.banquet.service;
+
+import com.banquet.config.FieldEncryptor;
+import com.banquet.dto.OwnerPayoutResponse;
+import com.banquet.dto.SettlementRunResponse;
+import com.banquet.entity.BanquetHall;
+import com.banquet.entity.OwnerPayout;
+import com.banquet.entity.SettlementRun;
+import com.banquet.enums.LedgerEntryType;
+import com.banquet.enums.PayoutStatus;
+import com.banquet.enums.SettlementRunStatus;
+import com.banquet.repository.BanquetHallRepository;
+import com.banquet.repository.OwnerPayoutRepository;
+import com.banquet.repository.SettlementRunRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Computes what each hall owner is owed from the payment ledger.
+ * <p>
+ * A run covers the ledger ids written since the previous completed run, up
+ * to the newest entry older than {@code app.settlement.lag-minutes} so
+ * transactions still in flight are left for the next run. The range is read
+ * through one forward-only cursor; every {@code chunk-size} entries the
+ * per-hall totals are added to {@code owner_payouts} and the run checkpoint
+ * is advanced in the same short transaction, so memory stays bounded by the
+ * number of halls in a chunk and an interrupted run resumes from its last
+ * checkpoint without counting anything twice. The run's lease is renewed
+ * before every checkpoint and the run aborts once it has been lost; the
+ * checkpoint itself only moves forward, so a chunk another node already
+ * counted rolls back. When the range is exhausted each payout's bank details
+ * are decrypted once to decide whether it can be paid or must be held.
+ */
+@Slf4j
+@Service
+@Timed("banquet.service")
+public class SettlementService {
+
+    private static final String LEASE = "owner-settlement";
+
+    private static final String LEDGER_SQL =
+            "SELECT l.id, v.hall_id, l.entry_type, l.amount FROM payment_ledger l "
+                    + "JOIN venues v ON v.id = l.venue_id WHERE l.id > ? AND l.id <= ? ORDER BY l.id";
+
+    private static final class HallTotals {
+        BigDecimal charges = BigDecimal.ZERO;
+        BigDecimal refunds = BigDecimal.ZERO;
+        long entries;
+    }
+
+    private static final class Chunk {
+        final Map<Long, HallTotals> halls = new HashMap<>();
+        long lastLedgerId;
+        int entries;
+
+        void add(long ledgerId, long hallId, LedgerEntryType type, BigDecimal amount) {
+            HallTotals totals = halls.computeIfAbsent(hallId, id -> new HallTotals());
+            if (type == LedgerEntryType.REFUND) {
+                totals.refunds = totals.refunds.add(amount);
+            } else {
+                totals.charges = totals.charges.add(amount);
+            }
+            totals.entries++;
+            lastLedgerId = ledgerId;
+            entries++;
+        }
+
+        void clear() {
+            halls.clear();
+            entries = 0;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SettlementRunRepository runRepository;
+    private final OwnerPayoutRepository payoutRepository;
+    private final BanquetHallRepository hallRepository;
+    private final FieldEncryptor fieldEncryptor;
+    private final LeaseService leaseService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    @Value("${app.settlement.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.settlement.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.settlement.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.settlement.payout-page-size:200}")
+    private int payoutPageSize;
+
+    @Value("${app.settlement.lag-minutes:10}")
+    private long lagMinutes;
+
+    @Value("${app.settlement.lease-minutes:60}")
+    private long leaseMinutes;
+
+    public SettlementService(JdbcTemplate jdbcTemplate,
+                             SettlementRunRepository runRepository,
+                             OwnerPayoutRepository payoutRepository,
+                             BanquetHallRepository hallRepository,
+                             FieldEncryptor fieldEncryptor,
+                             LeaseService leaseService,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.runRepository = runRepository;
+        this.payoutRepository = payoutRepository;
+        this.hallRepository = hallRepository;
+        this.fieldEncryptor = fieldEncryptor;
+        this.leaseService = leaseService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Checkpoints commit on their own while the cursor transaction stays open.
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(cron = "${app.settlement.cron:0 30 2 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            settle();
+        } catch (RuntimeException e) {
+            log.error("Settlement run failed, it will resume from its last checkpoint", e);
+        }
+    }
+
+    /** Resumes an unfinished run or starts a new one; empty when there is nothing to settle. */
+    public Optional<SettlementRunResponse> settle() {
+        if (!leaseService.tryAcquire(LEASE, Duration.ofMinutes(leaseMinutes))) {
+            throw new RuntimeException("A settlement run is already in progress");
+        }
+        try {
+            SettlementRun run = runRepository.findFirstByStatusOrderByIdAsc(SettlementRunStatus.RUNNING)
+                    .orElseGet(this::openRun);
+            if (run == null) {
+                return Optional.empty();
+            }
+            long settled = aggregate(run);
+            completeRun(run.getId());
+            log.info("Settlement run {} settled {} ledger entries up to id {}", run.getId(), settled,
+                    run.getToLedgerId());
+            return runRepository.findById(run.getId()).map(this::toRunResponse);
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    public Page<SettlementRunResponse> getRuns(int page, int size) {
+        return runRepository.findAllByOrderByIdDesc(PageRequest.of(page, size)).map(this::toRunResponse);
+    }
+
+    public Page<OwnerPayoutResponse> getRunPayouts(Long runId, int page, int size) {
+        return payoutRepository.findByRunIdOrderByHallIdAsc(runId, PageRequest.of(page, size))
+                .map(this::toPayoutResponse);
+    }
+
+    public Page<OwnerPayoutResponse> getOwnerPayouts(Long ownerId, int page, int size) {
+        return payoutRepository.findByOwnerIdOrderByIdDesc(ownerId, PageRequest.of(page, size))
+                .map(this::toPayoutResponse);
+    }
+
+    private SettlementRun openRun() {
+        long from = runRepository.findFirstByStatusOrderByIdDesc(SettlementRunStatus.COMPLETED)
+                .map(SettlementRun::getToLedgerId)
+                .orElse(0L);
+        Long to = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM payment_ledger WHERE id > ? AND created_at < ?",
+                Long.class, from, Timestamp.valueOf(LocalDateTime.now().minusMinutes(lagMinutes)));
+        if (to == null || to <= from) {
+            return null;
+        }
+        return runRepository.save(SettlementRun.builder()
+                .fromLedgerId(from)
+                .toLedgerId(to)
+                .checkpointLedgerId(from)
+                .build());
+    }
+
+    private long aggregate(SettlementRun run) {
+        Chunk chunk = new Chunk();
+        long[] total = {0};
+        readTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LEDGER_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, run.getCheckpointLedgerId());
+            ps.setLong(2, run.getToLedgerId());
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            chunk.add(rs.getLong(1), rs.getLong(2), LedgerEntryType.valueOf(rs.getString(3)), rs.getBigDecimal(4));
+            if (chunk.entries >= chunkSize) {
+                total[0] += chunk.entries;
+                flush(run.getId(), chunk);
+            }
+        }));
+        if (chunk.entries > 0) {
+            total[0] += chunk.entries;
+            flush(run.getId(), chunk);
+        }
+        return total[0];
+    }
+
+    private void flush(Long runId, Chunk chunk) {
+        renewLease();
+        writeTransaction.executeWithoutResult(status -> {
+            List<Long> newHalls = new ArrayList<>();
+            chunk.halls.forEach((hallId, t) -> {
+                if (payoutRepository.addToTotals(runId, hallId, t.charges, t.refunds, t.entries) == 0) {
+                    newHalls.add(hallId);
+                }
+            });
+            if (!newHalls.isEmpty()) {
+                Map<Long, Long> owners = hallRepository.findOwnerIdsByIdIn(newHalls).stream()
+                        .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+                List<OwnerPayout> payouts = new ArrayList<>(newHalls.size());
+                for (Long hallId : newHalls) {
+                    HallTotals t = chunk.halls.get(hallId);
+                    payouts.add(OwnerPayout.builder()
+                            .runId(runId)
+                            .hallId(hallId)
+                            .ownerId(owners.get(hallId))
+                            .chargeTotal(t.charges)
+                            .refundTotal(t.refunds)
+                            .amount(t.charges.add(t.refunds))
+                            .entryCount(t.entries)
+                            .build());
+                }
+                payoutRepository.saveAll(payouts);
+            }
+            if (runRepository.advanceCheckpoint(runId, chunk.lastLedgerId, chunk.entries) == 0) {
+                throw new IllegalStateException("Settlement run " + runId + " was checkpointed past ledger id "
+                        + chunk.lastLedgerId + " by another node");
+            }
+        });
+        chunk.clear();
+    }
+
+    private void renewLease() {
+        if (!leaseService.renew(LEASE, Duration.ofMinutes(leaseMinutes))) {
+            throw new IllegalStateException("Lost the settlement lease; the run resumes from its last checkpoint");
+        }
+    }
+
+    private void completeRun(Long runId) {
+        long afterId = 0;
+        List<OwnerPayout> page;
+        do {
+            long cursor = afterId;
+            renewLease();
+            page = writeTransaction.execute(status -> {
+                List<OwnerPayout> payouts = payoutRepository.findByRunIdAndIdGreaterThanOrderByIdAsc(
+                        runId, cursor, PageRequest.of(0, payoutPageSize));
+                Map<Long, BanquetHall> halls = hallRepository.findAllById(
+                                payouts.stream().map(OwnerPayout::getHallId).toList()).stream()
+                        .collect(Collectors.toMap(BanquetHall::getId, Function.identity()));
+                payouts.forEach(payout -> review(payout, halls.get(payout.getHallId())));
+                return payoutRepository.saveAll(payouts);
+            });
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == payoutPageSize);
+
+        writeTransaction.executeWithoutResult(status -> runRepository.findById(runId).ifPresent(run -> {
+            run.setStatus(SettlementRunStatus.COMPLETED);
+            run.setCompletedAt(LocalDateTime.now());
+            runRepository.save(run);
+        }));
+    }
+
+    private void review(OwnerPayout payout, BanquetHall hall) {
+        if (payout.getAmount().signum() <= 0) {
+            hold(payout, "No positive balance for this run");
+            return;
+        }
+        if (hall == null || hall.getBankAccountNumber() == null || hall.getBankRoutingNumber() == null) {
+            hold(payout, "Bank details missing");
+            return;
+        }
+        String account;
+        try {
+            account = fieldEncryptor.decrypt(hall.getBankAccountNumber());
+            fieldEncryptor.decrypt(hall.getBankRoutingNumber());
+        } catch (RuntimeException e) {
+            log.warn("Could not decrypt bank details for hall {}", hall.getId());
+            hold(payout, "Bank details could not be read");
+            return;
+        }
+        payout.setStatus(PayoutStatus.READY);
+        payout.setHoldReason(null);
+        payout.setBankAccountName(hall.getBankAccountName());
+        payout.setBankAccountLast4(account.length() > 4 ? account.substring(account.length() - 4) : account);
+    }
+
+    private static void hold(OwnerPayout payout, String reason) {
+        payout.setStatus(PayoutStatus.HELD);
+        payout.setHoldReason(reason);
+    }
+
+    private SettlementRunResponse toRunResponse(SettlementRun run) {
+        return new SettlementRunResponse(run.getId(), run.getStatus(), run.getFromLedgerId(),
+                run.getToLedgerId(), run.getCheckpointLedgerId(), run.getEntryCount(),
+                run.getStartedAt(), run.getCompletedAt());
+    }
+
+    private OwnerPayoutResponse toPayoutResponse(OwnerPayout payout) {
+        return new OwnerPayoutResponse(payout.getId(), payout.getRunId(), payout.getHallId(), payout.getOwnerId(),
+                payout.getChargeTotal(), payout.getRefundTotal(), payout.getAmount(), payout.getEntryCount(),
+                payout.getStatus(), payout.getBankAccountName(), payout.getBankAccountLast4(),
+                payout.getHoldReason(), payout.getCreatedAt());
+    }
+}
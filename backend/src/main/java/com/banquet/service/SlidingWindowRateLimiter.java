@@ -0,0 +1,63 @@
+package com.banquet.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-key sliding-window limiter. Each key keeps counts for the current and
+ * previous fixed window; the previous one is weighted by how much of it still
+ * overlaps the sliding window. Updates are a CAS on an immutable snapshot, so
+ * concurrent callers never block each other.
+ */
+public class SlidingWindowRateLimiter {
+
+    private record Window(long start, long previous, long current) {
+    }
+
+    private final int limit;
+    private final long windowMillis;
+    private final ConcurrentMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    public SlidingWindowRateLimiter(int limit, Duration window) {
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+    }
+
+    /** Counts one attempt for {@code key}; returns false if it would exceed the limit. */
+    public boolean tryAcquire(String key) {
+        AtomicReference<Window> ref = windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(0, 0, 0)));
+        while (true) {
+            long now = System.currentTimeMillis();
+            Window seen = ref.get();
+            Window window = roll(seen, now);
+            double previousWeight = 1.0 - (double) (now - window.start()) / windowMillis;
+            if (window.previous() * previousWeight + window.current() >= limit) {
+                return false;
+            }
+            if (ref.compareAndSet(seen, new Window(window.start(), window.previous(), window.current() + 1))) {
+                return true;
+            }
+        }
+    }
+
+    /** Drops keys with no attempts in the last two windows. */
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        windows.entrySet().removeIf(e -> now - e.getValue().get().start() >= 2 * windowMillis);
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    private Window roll(Window window, long now) {
+        long start = now - now % windowMillis;
+        if (start == window.start()) {
+            return window;
+        }
+        long previous = start - window.start() == windowMillis ? window.current() : 0;
+        return new Window(start, previous, 0);
+    }
+}
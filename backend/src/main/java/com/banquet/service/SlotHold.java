@@ -0,0 +1,29 @@
+package com.banquet.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record SlotHold(
+        String id,
+        Long customerId,
+        Long venueId,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        Instant expiresAt
+) {
+
+    public boolean overlaps(LocalTime start, LocalTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean matches(Long venueId, LocalDate date, LocalTime start, LocalTime end) {
+        return this.venueId.equals(venueId) && this.date.equals(date)
+                && startTime.equals(start) && endTime.equals(end);
+    }
+}
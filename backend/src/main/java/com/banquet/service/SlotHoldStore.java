@@ -0,0 +1,351 @@
+package com.banquet.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Short-lived, in-memory reservations of a (venue, date, interval) while a
+ * customer is checking out. Each venue-day keeps an immutable list of holds
+ * behind an {@link AtomicReference}, so the conflict check and insert are a
+ * single compare-and-set without locks. Holds are mirrored to an append-only
+ * log that is replayed on startup and compacted once it is mostly dead
+ * entries.
+ */
+@Slf4j
+@Service
+public class SlotHoldStore {
+
+    private record VenueDay(Long venueId, LocalDate date) {
+    }
+
+    private final Map<VenueDay, AtomicReference<List<SlotHold>>> holdsByDay = new ConcurrentHashMap<>();
+    private final Map<String, SlotHold> holdsById = new ConcurrentHashMap<>();
+
+    private final Object logLock = new Object();
+    private BufferedWriter logWriter;
+    private long logEntries;
+
+    @Value("${app.booking.holds.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${app.booking.holds.log-file:./data/slot-holds.log}")
+    private String logFile;
+
+    @Value("${app.booking.holds.compaction-threshold:1000}")
+    private long compactionThreshold;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path path = Paths.get(logFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path)) {
+            replay(path);
+        }
+        compact();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (logLock) {
+            if (logWriter != null) {
+                logWriter.close();
+            }
+        }
+    }
+
+    public Duration ttl() {
+        return Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Optional<SlotHold> tryHold(Long customerId, Long venueId, LocalDate date,
+                                      LocalTime start, LocalTime end) {
+        VenueDay key = new VenueDay(venueId, date);
+        SlotHold hold = new SlotHold(UUID.randomUUID().toString(), customerId, venueId, date,
+                start, end, Instant.now().plusSeconds(ttlSeconds));
+
+        while (true) {
+            AtomicReference<List<SlotHold>> ref = holdsByDay.computeIfAbsent(key,
+                    k -> new AtomicReference<>(List.of()));
+            List<SlotHold> current = ref.get();
+            Instant now = Instant.now();
+
+            List<SlotHold> next = new ArrayList<>(current.size() + 1);
+            List<SlotHold> replaced = new ArrayList<>();
+            for (SlotHold existing : current) {
+                if (existing.isExpired(now)) {
+                    continue;
+                }
+                if (existing.overlaps(start, end)) {
+                    if (!existing.customerId().equals(customerId)) {
+                        return Optional.empty();
+                    }
+                    // A customer re-holding an overlapping interval supersedes their own hold.
+                    replaced.add(existing);
+                    continue;
+                }
+                next.add(existing);
+            }
+            next.add(hold);
+
+            if (!ref.compareAndSet(current, List.copyOf(next))) {
+                continue;
+            }
+            if (holdsByDay.get(key) != ref) {
+                // The sweeper dropped this venue-day between lookup and CAS; retry on the live list.
+                continue;
+            }
+
+            try {
+                appendLog(serialize(hold));
+            } catch (UncheckedIOException e) {
+                // Not durable, so it must not block the slot either.
+                rollBack(ref, hold, replaced);
+                throw e;
+            }
+            holdsById.put(hold.id(), hold);
+            replaced.forEach(this::forget);
+            return Optional.of(hold);
+        }
+    }
+
+    public boolean hasConflict(Long venueId, LocalDate date, LocalTime start, LocalTime end,
+                               Long excludeCustomerId) {
+        AtomicReference<List<SlotHold>> ref = holdsByDay.get(new VenueDay(venueId, date));
+        if (ref == null) {
+            return false;
+        }
+        Instant now = Instant.now();
+        for (SlotHold hold : ref.get()) {
+            if (!hold.isExpired(now) && hold.overlaps(start, end)
+                    && !hold.customerId().equals(excludeCustomerId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Optional<SlotHold> find(String holdId) {
+        SlotHold hold = holdsById.get(holdId);
+        if (hold == null || hold.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(hold);
+    }
+
+    public boolean release(String holdId) {
+        SlotHold hold = holdsById.remove(holdId);
+        if (hold == null) {
+            return false;
+        }
+        removeFromDay(hold);
+        appendLog("R," + holdId);
+        return true;
+    }
+
+    /** Releases every hold on the given venues; returns how many were released. */
+    public int releaseForVenues(Set<Long> venueIds) {
+        if (venueIds.isEmpty()) {
+            return 0;
+        }
+        int released = 0;
+        for (SlotHold hold : List.copyOf(holdsById.values())) {
+            if (venueIds.contains(hold.venueId()) && release(hold.id())) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    public List<SlotHold> holdsForVenue(Long venueId) {
+        return holdsById.values().stream()
+                .filter(h -> h.venueId().equals(venueId))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.holds.sweep-interval-ms:30000}")
+    public void sweepExpired() {
+        Instant now = Instant.now();
+        holdsById.values().removeIf(h -> h.isExpired(now));
+
+        for (Map.Entry<VenueDay, AtomicReference<List<SlotHold>>> entry : holdsByDay.entrySet()) {
+            AtomicReference<List<SlotHold>> ref = entry.getValue();
+            List<SlotHold> current;
+            List<SlotHold> live;
+            do {
+                current = ref.get();
+                live = current.stream().filter(h -> !h.isExpired(now)).toList();
+            } while (live.size() != current.size() && !ref.compareAndSet(current, live));
+
+            holdsByDay.computeIfPresent(entry.getKey(), (k, r) -> r.get().isEmpty() ? null : r);
+        }
+
+        synchronized (logLock) {
+            if (logEntries > Math.max(compactionThreshold, 4L * holdsById.size())) {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    log.warn("Slot hold log compaction failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void forget(SlotHold hold) {
+        if (holdsById.remove(hold.id()) != null) {
+            try {
+                appendLog("R," + hold.id());
+            } catch (UncheckedIOException e) {
+                // The new hold is already persisted; a replay only revives this one until it expires.
+                log.warn("Could not log release of superseded slot hold {}: {}", hold.id(), e.getMessage());
+            }
+        }
+    }
+
+    /** Takes an unpersisted hold back out of its venue-day and restores the holds it superseded. */
+    private void rollBack(AtomicReference<List<SlotHold>> ref, SlotHold hold, List<SlotHold> replaced) {
+        List<SlotHold> current;
+        List<SlotHold> next;
+        do {
+            current = ref.get();
+            next = new ArrayList<>(current);
+            next.removeIf(h -> h.id().equals(hold.id()));
+            for (SlotHold previous : replaced) {
+                if (next.stream().noneMatch(h -> h.overlaps(previous.startTime(), previous.endTime()))) {
+                    next.add(previous);
+                }
+            }
+        } while (!ref.compareAndSet(current, List.copyOf(next)));
+
+        for (SlotHold previous : replaced) {
+            if (!next.contains(previous)) {
+                // Another hold took its place meanwhile
+                holdsById.remove(previous.id());
+            }
+        }
+    }
+
+    private void removeFromDay(SlotHold hold) {
+        AtomicReference<List<SlotHold>> ref = holdsByDay.get(new VenueDay(hold.venueId(), hold.date()));
+        if (ref == null) {
+            return;
+        }
+        List<SlotHold> current;
+        List<SlotHold> next;
+        do {
+            current = ref.get();
+            next = current.stream().filter(h -> !h.id().equals(hold.id())).toList();
+        } while (next.size() != current.size() && !ref.compareAndSet(current, next));
+    }
+
+    private void replay(Path path) throws IOException {
+        Map<String, SlotHold> live = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                try {
+                    if (parts[0].equals("H") && parts.length == 8) {
+                        SlotHold hold = deserialize(parts);
+                        live.put(hold.id(), hold);
+                    } else if (parts[0].equals("R") && parts.length == 2) {
+                        live.remove(parts[1]);
+                    }
+                } catch (RuntimeException e) {
+                    // A torn final line from a crash mid-append is expected; skip it.
+                    log.debug("Skipping unreadable slot hold log line: {}", line);
+                }
+            }
+        }
+
+        Instant now = Instant.now();
+        for (SlotHold hold : live.values()) {
+            if (hold.isExpired(now)) {
+                continue;
+            }
+            holdsById.put(hold.id(), hold);
+            holdsByDay.computeIfAbsent(new VenueDay(hold.venueId(), hold.date()),
+                            k -> new AtomicReference<>(List.of()))
+                    .updateAndGet(list -> {
+                        List<SlotHold> next = new ArrayList<>(list);
+                        next.add(hold);
+                        return List.copyOf(next);
+                    });
+        }
+        log.info("Restored {} slot holds from {}", holdsById.size(), path);
+    }
+
+    private void compact() throws IOException {
+        synchronized (logLock) {
+            Path path = Paths.get(logFile);
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (SlotHold hold : holdsById.values()) {
+                    writer.write(serialize(hold));
+                    writer.newLine();
+                }
+            }
+            if (logWriter != null) {
+                logWriter.close();
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            logEntries = holdsById.size();
+        }
+    }
+
+    private void appendLog(String line) {
+        synchronized (logLock) {
+            try {
+                logWriter.write(line);
+                logWriter.newLine();
+                logWriter.flush();
+                logEntries++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to persist slot hold", e);
+            }
+        }
+    }
+
+    private String serialize(SlotHold hold) {
+        return String.join(",", "H", hold.id(), hold.customerId().toString(), hold.venueId().toString(),
+                hold.date().toString(), hold.startTime().toString(), hold.endTime().toString(),
+                Long.toString(hold.expiresAt().toEpochMilli()));
+    }
+
+    private SlotHold deserialize(String[] parts) {
+        return new SlotHold(parts[1], Long.valueOf(parts[2]), Long.valueOf(parts[3]),
+                LocalDate.parse(parts[4]), LocalTime.parse(parts[5]), LocalTime.parse(parts[6]),
+                Instant.ofEpochMilli(Long.parseLong(parts[7])));
+    }
+}
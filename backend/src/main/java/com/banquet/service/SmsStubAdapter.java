@@ -0,0 +1,53 @@
+package com.banquet.service;
+
+import com.banquet.entity.Notification;
+import com.banquet.enums.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** Local stand-in for an SMS gateway: logs each message instead of sending it. */
+@Slf4j
+@Component
+public class SmsStubAdapter implements NotificationChannelAdapter {
+
+    @Value("${app.notifications.sms.batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${app.notifications.sms.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${app.notifications.sms.burst:20}")
+    private double burst;
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.SMS;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public double ratePerSecond() {
+        return ratePerSecond;
+    }
+
+    @Override
+    public double burst() {
+        return burst;
+    }
+
+    @Override
+    public void send(List<Notification> batch) {
+        for (Notification notification : batch) {
+            // Sensitive bodies carry one-time codes and must not reach the log
+            log.info("SMS to {} ({}): {}", notification.getRecipient(), notification.getTemplate(),
+                    notification.isSensitive() ? "[redacted]" : notification.getBody());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.banquet.service;
+
+import com.banquet.entity.StripeWebhookEvent;
+import com.banquet.repository.StripeWebhookEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.net.Webhook;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripeWebhookService {
+
+    public enum IngestResult {
+        ACCEPTED,
+        DUPLICATE,
+        IGNORED,
+        BUSY
+    }
+
+    private final StripeWebhookEventRepository webhookEventRepository;
+    private final PaymentWebhookProcessor webhookProcessor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.stripe.webhook-secret}")
+    private String webhookSecret;
+
+    @Value("${app.stripe.webhook-tolerance-seconds:300}")
+    private long webhookToleranceSeconds;
+
+    public IngestResult ingest(String payload, String signatureHeader) {
+        verifySignature(payload, signatureHeader);
+
+        JsonNode event = parse(payload);
+        String eventId = event.path("id").asText(null);
+        String eventType = event.path("type").asText(null);
+        if (eventId == null || eventType == null) {
+            throw new RuntimeException("Malformed webhook event");
+        }
+
+        boolean handled = PaymentWebhookProcessor.isHandled(eventType);
+        if (handled && !webhookProcessor.hasCapacity()) {
+            // Not recorded, so Stripe's retry will be accepted once the queue drains.
+            return IngestResult.BUSY;
+        }
+
+        // Insert-first: of concurrent deliveries of one event exactly one inserts the row.
+        String paymentIntentId = event.path("data").path("object").path("id").asText(null);
+        if (webhookEventRepository.insertIfAbsent(eventId, eventType, paymentIntentId, !handled) == 0) {
+            return IngestResult.DUPLICATE;
+        }
+
+        if (!handled) {
+            return IngestResult.IGNORED;
+        }
+
+        boolean queued = webhookProcessor.enqueue(StripeWebhookEvent.builder()
+                .id(eventId)
+                .eventType(eventType)
+                .paymentIntentId(paymentIntentId)
+                .build());
+        if (!queued) {
+            // Lost the race for the last queue slot; the row is stored, so the unprocessed sweep applies it.
+            log.warn("Stripe webhook queue full, event {} deferred to the unprocessed-event sweep", eventId);
+        }
+        return IngestResult.ACCEPTED;
+    }
+
+    private void verifySignature(String payload, String signatureHeader) {
+        if (webhookSecret == null || webhookSecret.isBlank() || webhookSecret.contains("placeholder")) {
+            throw new RuntimeException("Stripe webhooks are not configured");
+        }
+        if (signatureHeader == null) {
+            throw new RuntimeException("Missing Stripe-Signature header");
+        }
+        try {
+            Webhook.Signature.verifyHeader(payload, signatureHeader, webhookSecret, webhookToleranceSeconds);
+        } catch (SignatureVerificationException e) {
+            throw new RuntimeException("Invalid webhook signature");
+        }
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Malformed webhook event");
+        }
+    }
+}
@@ -7,24 +7,27 @@ import com.banquet.entity.BanquetHall;
 import com.banquet.entity.Venue;
 import com.banquet.entity.VenuePricing;
 import com.banquet.repository.BanquetHallRepository;
-import com.banquet.repository.HallStaffRepository;
 import com.banquet.repository.VenuePricingRepository;
 import com.banquet.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("banquet.service")
 public class VenueService {
 
     private final VenueRepository venueRepository;
     private final BanquetHallRepository hallRepository;
-    private final HallStaffRepository hallStaffRepository;
+    private final HallAccessService hallAccessService;
     private final VenuePricingRepository venuePricingRepository;
 
     @Transactional
@@ -32,7 +35,7 @@ public class VenueService {
         BanquetHall hall = hallRepository.findById(hallId)
                 .orElseThrow(() -> new RuntimeException("Hall not found"));
 
-        verifyHallAccess(hall, userId);
+        hallAccessService.verifyAccess(hall.getId(), userId, "Not authorized to manage this hall");
 
         Venue venue = Venue.builder()
                 .hall(hall)
@@ -55,10 +58,7 @@ public class VenueService {
 
     @Transactional
     public VenueResponse updateVenue(Long hallId, Long venueId, VenueRequest request, Long userId) {
-        BanquetHall hall = hallRepository.findById(hallId)
-                .orElseThrow(() -> new RuntimeException("Hall not found"));
-
-        verifyHallAccess(hall, userId);
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to manage this hall");
 
         Venue venue = venueRepository.findById(venueId)
                 .orElseThrow(() -> new RuntimeException("Venue not found"));
@@ -99,10 +99,7 @@ public class VenueService {
 
     @Transactional
     public void updatePricing(Long hallId, Long venueId, List<VenuePricingRequest> pricingList, Long userId) {
-        BanquetHall hall = hallRepository.findById(hallId)
-                .orElseThrow(() -> new RuntimeException("Hall not found"));
-
-        verifyHallAccess(hall, userId);
+        hallAccessService.verifyAccess(hallId, userId, "Not authorized to manage this hall");
 
         Venue venue = venueRepository.findById(venueId)
                 .orElseThrow(() -> new RuntimeException("Venue not found"));
@@ -111,10 +108,18 @@ public class VenueService {
             throw new RuntimeException("Venue does not belong to this hall");
         }
 
+        Set<String> slots = new HashSet<>();
         for (VenuePricingRequest pricing : pricingList) {
-            venuePricingRepository.deleteByVenueIdAndEffectiveDate(venueId, pricing.effectiveDate());
+            if (!slots.add(pricing.effectiveDate() + " " + pricing.slotStart())) {
+                throw new RuntimeException("Duplicate pricing slot " + pricing.slotStart()
+                        + " on " + pricing.effectiveDate());
+            }
         }
 
+        // Bulk delete runs immediately, so the inserts below never collide with the old rows.
+        venuePricingRepository.deleteByVenueIdAndEffectiveDateIn(venueId,
+                pricingList.stream().map(VenuePricingRequest::effectiveDate).distinct().toList());
+
         for (VenuePricingRequest pricing : pricingList) {
             VenuePricing entity = VenuePricing.builder()
                     .venue(venue)
@@ -125,6 +130,7 @@ public class VenueService {
                     .build();
             venuePricingRepository.save(entity);
         }
+        venueRepository.bumpPricingVersion(venueId);
     }
 
     public List<VenuePricingRequest> getPricing(Long venueId, LocalDate date) {
@@ -138,15 +144,6 @@ public class VenueService {
                 .collect(Collectors.toList());
     }
 
-    private void verifyHallAccess(BanquetHall hall, Long userId) {
-        boolean isOwner = hall.getOwner().getId().equals(userId);
-        boolean isStaff = hallStaffRepository.existsByHallIdAndUserId(hall.getId(), userId);
-
-        if (!isOwner && !isStaff) {
-            throw new RuntimeException("Not authorized to manage this hall");
-        }
-    }
-
     private VenueResponse toVenueResponse(Venue venue) {
         return new VenueResponse(
                 venue.getId(),
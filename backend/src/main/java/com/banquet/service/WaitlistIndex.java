@@ -0,0 +1,206 @@
+package com.banquet.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Waiting customers per venue-day, kept in an interval tree: a treap
+ * ordered by interval start where every node also records the latest end
+ * in its subtree. A freed interval {@code [start, end)} can only help
+ * waiters that overlap it; the lookup skips every subtree that ends by
+ * {@code start} and every right subtree past {@code end}, so it costs
+ * O((1 + k) log n) for k matches however long the other intervals are.
+ * Removing a waiter recomputes the bounds on its path, so a full-day
+ * waiter stops widening lookups once it leaves. This lives in memory on
+ * each instance and {@code waitlist_entries} stays authoritative: a
+ * venue-day is loaded on first use and topped up with newly joined entries
+ * before every lookup (see {@link #syncedAt}), so entries joined through
+ * other instances are seen too. Entries another instance has already
+ * offered or removed may linger here; callers confirm each candidate
+ * against the table.
+ */
+@Component
+public class WaitlistIndex {
+
+    public record Waiter(long entryId, long customerId, int startMinute, int endMinute) {
+    }
+
+    private record VenueDay(Long venueId, LocalDate date) {
+    }
+
+    private static final Comparator<Waiter> BY_START = Comparator.comparingInt(Waiter::startMinute)
+            .thenComparingLong(Waiter::entryId);
+
+    private static final class Node {
+        private final Waiter waiter;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int maxEnd;
+
+        private Node(Waiter waiter) {
+            this.waiter = waiter;
+            this.priority = Long.hashCode(waiter.entryId() * 0x9E3779B97F4A7C15L);
+            this.maxEnd = waiter.endMinute();
+        }
+
+        private Node update() {
+            maxEnd = waiter.endMinute();
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+            return this;
+        }
+    }
+
+    private static final class DayIndex {
+        private Node root;
+        private volatile LocalDateTime syncedAt;
+
+        private void add(Waiter waiter) {
+            root = insert(root, waiter);
+        }
+    }
+
+    private final Map<VenueDay, DayIndex> days = new ConcurrentHashMap<>();
+
+    public static Waiter waiter(long entryId, long customerId, LocalTime start, LocalTime end) {
+        return new Waiter(entryId, customerId, minuteOf(start), minuteOf(end));
+    }
+
+    public void add(Long venueId, LocalDate date, Waiter waiter) {
+        days.compute(new VenueDay(venueId, date), (key, day) -> {
+            DayIndex index = day != null ? day : new DayIndex();
+            index.add(waiter);
+            return index;
+        });
+    }
+
+    /** When the day was last read from the database, or {@code null} if this instance never has. */
+    public LocalDateTime syncedAt(Long venueId, LocalDate date) {
+        DayIndex day = days.get(new VenueDay(venueId, date));
+        return day == null ? null : day.syncedAt;
+    }
+
+    /** Merges waiters read from the database; ones already indexed are kept once. */
+    public void sync(Long venueId, LocalDate date, List<Waiter> waiters, LocalDateTime syncedAt) {
+        days.compute(new VenueDay(venueId, date), (key, day) -> {
+            DayIndex index = day != null ? day : new DayIndex();
+            waiters.forEach(index::add);
+            index.syncedAt = syncedAt;
+            return index;
+        });
+    }
+
+    public void remove(Long venueId, LocalDate date, Waiter waiter) {
+        days.computeIfPresent(new VenueDay(venueId, date), (key, day) -> {
+            day.root = delete(day.root, waiter);
+            return day.root == null ? null : day;
+        });
+    }
+
+    /** Waiters whose interval overlaps {@code [start, end)}, oldest entry first. */
+    public List<Waiter> overlapping(Long venueId, LocalDate date, LocalTime start, LocalTime end) {
+        int from = minuteOf(start);
+        int to = minuteOf(end);
+        List<Waiter> matches = new ArrayList<>();
+        days.computeIfPresent(new VenueDay(venueId, date), (key, day) -> {
+            collect(day.root, from, to, matches);
+            return day;
+        });
+        matches.sort(Comparator.comparingLong(Waiter::entryId));
+        return matches;
+    }
+
+    public void removeBefore(LocalDate date) {
+        days.keySet().removeIf(key -> key.date().isBefore(date));
+    }
+
+    private static Node insert(Node node, Waiter waiter) {
+        if (node == null) {
+            return new Node(waiter);
+        }
+        int order = BY_START.compare(waiter, node.waiter);
+        if (order == 0) {
+            return node;
+        }
+        if (order < 0) {
+            node.left = insert(node.left, waiter);
+            if (node.left.priority > node.priority) {
+                Node top = node.left;
+                node.left = top.right;
+                top.right = node.update();
+                return top.update();
+            }
+        } else {
+            node.right = insert(node.right, waiter);
+            if (node.right.priority > node.priority) {
+                Node top = node.right;
+                node.right = top.left;
+                top.left = node.update();
+                return top.update();
+            }
+        }
+        return node.update();
+    }
+
+    private static Node delete(Node node, Waiter waiter) {
+        if (node == null) {
+            return null;
+        }
+        int order = BY_START.compare(waiter, node.waiter);
+        if (order == 0) {
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = delete(node.left, waiter);
+        } else {
+            node.right = delete(node.right, waiter);
+        }
+        return node.update();
+    }
+
+    /** Joins two treaps where every waiter in {@code low} starts before every waiter in {@code high}. */
+    private static Node merge(Node low, Node high) {
+        if (low == null) {
+            return high;
+        }
+        if (high == null) {
+            return low;
+        }
+        if (low.priority > high.priority) {
+            low.right = merge(low.right, high);
+            return low.update();
+        }
+        high.left = merge(low, high.left);
+        return high.update();
+    }
+
+    private static void collect(Node node, int from, int to, List<Waiter> matches) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collect(node.left, from, to, matches);
+        if (node.waiter.startMinute() < to) {
+            if (node.waiter.endMinute() > from) {
+                matches.add(node.waiter);
+            }
+            collect(node.right, from, to, matches);
+        }
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,242 @@
+package com.banquet.service;
+
+import com.banquet.dto.WaitlistEntryResponse;
+import com.banquet.dto.WaitlistRequest;
+import com.banquet.entity.User;
+import com.banquet.entity.Venue;
+import com.banquet.entity.WaitlistEntry;
+import com.banquet.enums.WaitlistStatus;
+import com.banquet.event.BookingCancelledEvent.CancelledBooking;
+import com.banquet.event.BookingCreatedEvent;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.UserRepository;
+import com.banquet.repository.VenueRepository;
+import com.banquet.repository.WaitlistEntryRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lets customers queue for a booked slot and offers it to them when it
+ * frees up. Cancellations arrive through the async domain event path; the
+ * service looks up overlapping waiters in {@link WaitlistIndex}, and in
+ * join order offers each one whose interval is now clear a slot hold plus
+ * a notification. Offers not taken up before the hold expires go to the
+ * next waiter.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed("banquet.service")
+public class WaitlistService {
+
+    private static final List<WaitlistStatus> ACTIVE = List.of(WaitlistStatus.WAITING, WaitlistStatus.OFFERED);
+    private static final DateTimeFormatter OFFER_TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final WaitlistEntryRepository waitlistRepository;
+    private final WaitlistIndex waitlistIndex;
+    private final BookingRepository bookingRepository;
+    private final VenueRepository venueRepository;
+    private final UserRepository userRepository;
+    private final SlotHoldStore slotHoldStore;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.waitlist.max-active-per-customer:20}")
+    private long maxActivePerCustomer;
+
+    @Value("${app.waitlist.sync-overlap-seconds:120}")
+    private long syncOverlapSeconds;
+
+    @Transactional
+    public WaitlistEntryResponse join(Long customerId, WaitlistRequest request) {
+        if (request.date().isBefore(LocalDate.now())) {
+            throw new RuntimeException("Cannot join the waitlist for a past date");
+        }
+        if (!request.startTime().isBefore(request.endTime())) {
+            throw new RuntimeException("End time must be after start time");
+        }
+        Venue venue = venueRepository.findById(request.venueId())
+                .filter(Venue::isActive)
+                .orElseThrow(() -> new RuntimeException("Venue not found"));
+        if (bookingRepository.countOverlapping(venue.getId(), request.date(),
+                request.startTime(), request.endTime()) == 0) {
+            throw new RuntimeException("The selected time slot is available, book it directly");
+        }
+        if (!waitlistRepository.findOverlappingIds(customerId, venue.getId(), request.date(),
+                request.startTime(), request.endTime(), ACTIVE).isEmpty()) {
+            throw new RuntimeException("You are already on the waitlist for this slot");
+        }
+        if (waitlistRepository.countByCustomerIdAndStatusIn(customerId, ACTIVE) >= maxActivePerCustomer) {
+            throw new RuntimeException("You can wait for at most " + maxActivePerCustomer + " slots at a time");
+        }
+        User customer = userRepository.findById(customerId)
+                .orElseThrow(() -> new RuntimeException("Customer not found"));
+
+        WaitlistEntry entry = waitlistRepository.save(WaitlistEntry.builder()
+                .customer(customer)
+                .venue(venue)
+                .waitDate(request.date())
+                .startTime(request.startTime())
+                .endTime(request.endTime())
+                .status(WaitlistStatus.WAITING)
+                .build());
+        // Visible to cancellations only once the entry row is committed
+        afterCommit(() -> index(entry));
+        return toResponse(entry);
+    }
+
+    public List<WaitlistEntryResponse> getMyEntries(Long customerId) {
+        return waitlistRepository.findByCustomerIdOrderByCreatedAtDesc(customerId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void leave(Long customerId, Long entryId) {
+        WaitlistEntry entry = waitlistRepository.findById(entryId)
+                .filter(e -> e.getCustomer().getId().equals(customerId))
+                .orElseThrow(() -> new RuntimeException("Waitlist entry not found"));
+        if (!ACTIVE.contains(entry.getStatus())) {
+            throw new RuntimeException("Waitlist entry is no longer active");
+        }
+        waitlistRepository.updateStatus(List.of(entryId), WaitlistStatus.CANCELLED, ACTIVE);
+        afterCommit(() -> {
+            if (entry.getOfferHoldId() != null) {
+                slotHoldStore.release(entry.getOfferHoldId());
+            }
+            unindex(entry);
+        });
+    }
+
+    /** Called with every {@code DeliveredEvent}, so only once the cancellation has committed. */
+    public void onSlotsFreed(List<CancelledBooking> bookings) {
+        LocalDate today = LocalDate.now();
+        for (CancelledBooking booking : bookings) {
+            if (!booking.bookingDate().isBefore(today)) {
+                offer(booking.venueId(), booking.bookingDate(), booking.startTime(), booking.endTime());
+            }
+        }
+    }
+
+    /** A customer who books a slot they were waiting for leaves the waitlist for it. */
+    public void onBooked(BookingCreatedEvent event) {
+        List<Long> ids = waitlistRepository.findOverlappingIds(event.customerId(), event.venueId(),
+                event.bookingDate(), event.startTime(), event.endTime(), ACTIVE);
+        if (ids.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                waitlistRepository.updateStatus(ids, WaitlistStatus.BOOKED, ACTIVE));
+        waitlistRepository.findAllById(ids).forEach(this::unindex);
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.sweep-interval-ms:60000}")
+    public void sweepExpiredOffers() {
+        LocalDate today = LocalDate.now();
+        for (WaitlistEntry entry : waitlistRepository.findExpiredOffers(LocalDateTime.now())) {
+            Integer expired = transactionTemplate.execute(status -> waitlistRepository.updateStatus(
+                    List.of(entry.getId()), WaitlistStatus.EXPIRED, List.of(WaitlistStatus.OFFERED)));
+            if (expired != null && expired > 0 && !entry.getWaitDate().isBefore(today)) {
+                // The unused offer frees the slot again for whoever is next
+                offer(entry.getVenue().getId(), entry.getWaitDate(), entry.getStartTime(), entry.getEndTime());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> waitlistRepository.expirePast(today));
+        waitlistIndex.removeBefore(today);
+    }
+
+    private void offer(Long venueId, LocalDate date, LocalTime start, LocalTime end) {
+        for (WaitlistIndex.Waiter waiter : candidates(venueId, date, start, end)) {
+            LocalTime waitStart = LocalTime.MIN.plusMinutes(waiter.startMinute());
+            LocalTime waitEnd = LocalTime.MIN.plusMinutes(waiter.endMinute());
+            if (bookingRepository.countOverlapping(venueId, date, waitStart, waitEnd) > 0) {
+                continue;
+            }
+            // Fails while an earlier waiter's offer or a checkout holds any part of the interval
+            Optional<SlotHold> hold = slotHoldStore.tryHold(waiter.customerId(), venueId, date, waitStart, waitEnd);
+            if (hold.isEmpty()) {
+                continue;
+            }
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(hold.get().expiresAt(), ZoneId.systemDefault());
+            Integer offered = transactionTemplate.execute(status -> waitlistRepository.markOffered(
+                    waiter.entryId(), hold.get().id(), expiresAt));
+            waitlistIndex.remove(venueId, date, waiter);
+            if (offered == null || offered == 0) {
+                slotHoldStore.release(hold.get().id());
+                continue;
+            }
+            String venueName = venueRepository.findById(venueId).map(Venue::getName).orElse("your venue");
+            notificationService.notifyUser(waiter.customerId(), "WAITLIST_SLOT_AVAILABLE",
+                    String.format("%s on %s %s-%s is now available and held for you until %s. "
+                                    + "Book it with hold %s.",
+                            venueName, date, waitStart, waitEnd, expiresAt.format(OFFER_TIME), hold.get().id()));
+            log.info("Offered venue {} on {} {}-{} to waitlist entry {}", venueId, date, waitStart, waitEnd,
+                    waiter.entryId());
+        }
+    }
+
+    private List<WaitlistIndex.Waiter> candidates(Long venueId, LocalDate date, LocalTime start, LocalTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime syncedAt = waitlistIndex.syncedAt(venueId, date);
+        // Picks up entries joined through other instances; the overlap absorbs commit delay and clock skew
+        List<WaitlistEntry> joined = syncedAt == null
+                ? waitlistRepository.findByVenueIdAndWaitDateAndStatus(venueId, date, WaitlistStatus.WAITING)
+                : waitlistRepository.findByVenueIdAndWaitDateAndStatusAndCreatedAtAfter(venueId, date,
+                        WaitlistStatus.WAITING, syncedAt.minusSeconds(syncOverlapSeconds));
+        waitlistIndex.sync(venueId, date, joined.stream().map(WaitlistService::toWaiter).toList(), now);
+        return waitlistIndex.overlapping(venueId, date, start, end);
+    }
+
+    private void index(WaitlistEntry entry) {
+        waitlistIndex.add(entry.getVenue().getId(), entry.getWaitDate(), toWaiter(entry));
+    }
+
+    private void unindex(WaitlistEntry entry) {
+        waitlistIndex.remove(entry.getVenue().getId(), entry.getWaitDate(), toWaiter(entry));
+    }
+
+    private static WaitlistIndex.Waiter toWaiter(WaitlistEntry entry) {
+        return WaitlistIndex.waiter(entry.getId(), entry.getCustomer().getId(),
+                entry.getStartTime(), entry.getEndTime());
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private WaitlistEntryResponse toResponse(WaitlistEntry entry) {
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getVenue().getId(),
+                entry.getVenue().getName(),
+                entry.getWaitDate(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                entry.getStatus(),
+                entry.getOfferHoldId(),
+                entry.getOfferExpiresAt(),
+                entry.getCreatedAt()
+        );
+    }
+}
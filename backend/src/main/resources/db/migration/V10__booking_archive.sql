@@ -0,0 +1,12 @@
+-- Finished bookings moved out of the live tables; booking and payments kept as gzipped JSON
+CREATE TABLE IF NOT EXISTS booking_archive (
+    id BIGINT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    venue_id BIGINT NOT NULL,
+    booking_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    payload BYTEA NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_archive_customer ON booking_archive(customer_id, booking_date, id);
@@ -0,0 +1,4 @@
+-- Bumped in the same transaction as any booking or payment change on the venue;
+-- calendar feeds derive their ETag and Last-Modified from it
+ALTER TABLE venues ADD COLUMN IF NOT EXISTS booking_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE venues ADD COLUMN IF NOT EXISTS bookings_changed_at TIMESTAMP;
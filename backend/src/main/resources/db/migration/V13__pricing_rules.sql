@@ -0,0 +1,22 @@
+-- Recurring price rules per venue; venue_pricing rows remain as per-date overrides
+CREATE TABLE IF NOT EXISTS pricing_rules (
+    id BIGSERIAL PRIMARY KEY,
+    venue_id BIGINT NOT NULL REFERENCES venues(id) ON DELETE CASCADE,
+    name VARCHAR(100) NOT NULL,
+    priority INTEGER NOT NULL DEFAULT 0,
+    days_of_week INTEGER NOT NULL DEFAULT 0,
+    start_date DATE,
+    end_date DATE,
+    recurring_yearly BOOLEAN NOT NULL DEFAULT FALSE,
+    start_time TIME,
+    end_time TIME,
+    price_per_hour DECIMAL(10,2) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_pricing_rules_venue ON pricing_rules(venue_id);
+
+-- Bumped whenever a venue's rules or overrides change; compiled price tables are keyed by it
+ALTER TABLE venues ADD COLUMN IF NOT EXISTS pricing_version BIGINT NOT NULL DEFAULT 0;
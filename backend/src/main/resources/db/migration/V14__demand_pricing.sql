@@ -0,0 +1,16 @@
+-- Searches naming a date, per hall; flushed from memory by SearchDemandRecorder
+CREATE TABLE IF NOT EXISTS search_demand (
+    hall_id BIGINT NOT NULL,
+    search_date DATE NOT NULL,
+    hit_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (hall_id, search_date)
+);
+
+-- Published by the dynamic pricing batch; only dates priced above 1.00 are stored
+CREATE TABLE IF NOT EXISTS venue_demand_multipliers (
+    venue_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    multiplier DECIMAL(4,2) NOT NULL,
+    computed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (venue_id, stat_date)
+);
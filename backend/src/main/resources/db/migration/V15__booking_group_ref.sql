@@ -0,0 +1,4 @@
+-- Bookings created together by one composite request share a group reference
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS group_ref VARCHAR(36);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_group_ref ON bookings(group_ref);
@@ -0,0 +1,18 @@
+-- Customers waiting for a booked (venue, date, interval) to free up
+CREATE TABLE IF NOT EXISTS waitlist_entries (
+    id BIGSERIAL PRIMARY KEY,
+    customer_id BIGINT NOT NULL REFERENCES users(id),
+    venue_id BIGINT NOT NULL REFERENCES venues(id) ON DELETE CASCADE,
+    wait_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    offer_hold_id VARCHAR(36),
+    offer_expires_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_waitlist_venue_date ON waitlist_entries(venue_id, wait_date, status);
+CREATE INDEX IF NOT EXISTS idx_waitlist_customer ON waitlist_entries(customer_id, status);
+CREATE INDEX IF NOT EXISTS idx_waitlist_offers ON waitlist_entries(status, offer_expires_at);
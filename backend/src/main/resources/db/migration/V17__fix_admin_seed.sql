@@ -0,0 +1,7 @@
+-- V1 seeded the admin with a hash that matches neither its documented password nor any other,
+-- so DataSeeder saw the user and skipped it. Re-hash "admin123" only where that broken hash is
+-- still in place; admins who already changed their password keep it.
+UPDATE users
+SET password_hash = '$2a$10$8nLJg6jvQTBU2BBYcuUOAOuQitWPFx.x1FVZW15.cvZ5DCEw4CLia'
+WHERE phone = '0000000000'
+  AND password_hash = '$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy';
@@ -0,0 +1,2 @@
+-- Bodies of sensitive notifications (one-time codes) are redacted once sent or abandoned
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS sensitive BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,2 @@
+-- Listeners that already handled an outbox event, so a retry only re-runs the ones that failed
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS delivered_listeners TEXT;
@@ -0,0 +1,11 @@
+-- Stripe webhook inbox, doubles as the idempotency table keyed by event id
+CREATE TABLE IF NOT EXISTS stripe_webhook_events (
+    id VARCHAR(255) PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    payment_intent_id VARCHAR(255),
+    processed BOOLEAN NOT NULL DEFAULT false,
+    received_at TIMESTAMP DEFAULT NOW(),
+    processed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_webhook_events_unprocessed ON stripe_webhook_events(processed, received_at);
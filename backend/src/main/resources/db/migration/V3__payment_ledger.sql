@@ -0,0 +1,24 @@
+-- Append-only ledger of charges (positive) and refunds (negative) per booking
+CREATE TABLE IF NOT EXISTS payment_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    booking_id BIGINT NOT NULL,
+    venue_id BIGINT NOT NULL,
+    payment_id BIGINT NOT NULL,
+    entry_type VARCHAR(20) NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_payment_ledger_booking ON payment_ledger(booking_id);
+CREATE INDEX IF NOT EXISTS idx_payments_booking_status ON payments(booking_id, status);
+
+-- Backfill from existing payment rows
+INSERT INTO payment_ledger (booking_id, venue_id, payment_id, entry_type, amount, created_at)
+SELECT p.booking_id, b.venue_id, p.id,
+       CASE WHEN p.status = 'REFUNDED' THEN 'REFUND' ELSE 'CHARGE' END,
+       p.amount, p.created_at
+FROM payments p
+JOIN bookings b ON b.id = p.booking_id
+WHERE p.status IN ('SUCCESS', 'REFUNDED')
+  AND NOT EXISTS (SELECT 1 FROM payment_ledger l WHERE l.payment_id = p.id)
+ORDER BY p.id;
@@ -0,0 +1,41 @@
+-- Daily per-venue rollups behind the owner analytics endpoint
+CREATE TABLE IF NOT EXISTS venue_daily_stats (
+    id BIGSERIAL PRIMARY KEY,
+    venue_id BIGINT NOT NULL,
+    hall_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    booking_count BIGINT NOT NULL DEFAULT 0,
+    cancellation_count BIGINT NOT NULL DEFAULT 0,
+    booked_minutes BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(12,2) NOT NULL DEFAULT 0,
+    refunded_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    UNIQUE(venue_id, stat_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_venue_daily_stats_hall_date ON venue_daily_stats(hall_id, stat_date);
+
+-- Backfill from existing bookings and ledger entries (skipped if rollups already exist)
+INSERT INTO venue_daily_stats (venue_id, hall_id, stat_date, booking_count, cancellation_count,
+                               booked_minutes, revenue, refunded_amount)
+SELECT b.venue_id, v.hall_id, b.booking_date,
+       COUNT(*),
+       SUM(CASE WHEN b.status = 'CANCELLED' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN b.status = 'CANCELLED' THEN 0
+                ELSE CAST((EXTRACT(HOUR FROM b.end_time) * 60 + EXTRACT(MINUTE FROM b.end_time))
+                        - (EXTRACT(HOUR FROM b.start_time) * 60 + EXTRACT(MINUTE FROM b.start_time)) AS BIGINT)
+           END),
+       0, 0
+FROM bookings b
+JOIN venues v ON v.id = b.venue_id
+WHERE NOT EXISTS (SELECT 1 FROM venue_daily_stats)
+GROUP BY b.venue_id, v.hall_id, b.booking_date;
+
+UPDATE venue_daily_stats s SET
+    revenue = (SELECT COALESCE(SUM(l.amount), 0) FROM payment_ledger l
+               JOIN bookings b ON b.id = l.booking_id
+               WHERE b.venue_id = s.venue_id AND b.booking_date = s.stat_date),
+    refunded_amount = (SELECT COALESCE(-SUM(l.amount), 0) FROM payment_ledger l
+                       JOIN bookings b ON b.id = l.booking_id
+                       WHERE b.venue_id = s.venue_id AND b.booking_date = s.stat_date
+                         AND l.entry_type = 'REFUND')
+WHERE s.revenue = 0 AND s.refunded_amount = 0;
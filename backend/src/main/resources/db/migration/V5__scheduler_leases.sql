@@ -0,0 +1,9 @@
+-- Leases that let scheduled jobs partition work across nodes
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Supports the lifecycle processor's expiry and completion scans
+CREATE INDEX IF NOT EXISTS idx_bookings_status_date ON bookings(status, booking_date);
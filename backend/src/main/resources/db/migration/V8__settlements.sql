@@ -0,0 +1,30 @@
+-- Owner payout settlement runs over payment_ledger id ranges
+CREATE TABLE IF NOT EXISTS settlement_runs (
+    id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    from_ledger_id BIGINT NOT NULL,
+    to_ledger_id BIGINT NOT NULL,
+    checkpoint_ledger_id BIGINT NOT NULL,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP DEFAULT NOW(),
+    completed_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS owner_payouts (
+    id BIGSERIAL PRIMARY KEY,
+    run_id BIGINT NOT NULL REFERENCES settlement_runs(id),
+    hall_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    charge_total DECIMAL(14,2) NOT NULL,
+    refund_total DECIMAL(14,2) NOT NULL,
+    amount DECIMAL(14,2) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    bank_account_name VARCHAR(255),
+    bank_account_last4 VARCHAR(4),
+    hold_reason VARCHAR(255),
+    created_at TIMESTAMP DEFAULT NOW(),
+    CONSTRAINT uk_owner_payouts_run_hall UNIQUE (run_id, hall_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_owner_payouts_owner ON owner_payouts(owner_id, run_id);
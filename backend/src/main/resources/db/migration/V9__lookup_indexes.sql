@@ -0,0 +1,16 @@
+-- Payment confirmation and webhooks look payments up by Stripe intent id
+CREATE INDEX IF NOT EXISTS idx_payments_stripe_intent ON payments(stripe_payment_intent_id);
+
+-- "My bookings", newest first
+CREATE INDEX IF NOT EXISTS idx_bookings_customer_created ON bookings(customer_id, created_at);
+
+-- Active venues of a hall
+CREATE INDEX IF NOT EXISTS idx_venues_hall_active ON venues(hall_id, active);
+
+-- One price per venue, date and slot start; keep the newest row of any duplicates
+DELETE FROM venue_pricing
+WHERE id NOT IN (SELECT MAX(id) FROM venue_pricing GROUP BY venue_id, effective_date, slot_start);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_venue_pricing_slot ON venue_pricing(venue_id, effective_date, slot_start);
+
+-- hall_staff(hall_id, user_id) is already covered by its unique constraint from V1
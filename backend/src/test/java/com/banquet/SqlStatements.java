@@ -0,0 +1,40 @@
+package com.banquet;
+
+import com.banquet.config.JdbcMetricsFilter;
+import com.banquet.config.RequestSqlStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc assertions on the SQL a request ran, as counted by
+ * {@link JdbcMetricsFilter}. Use {@link #atMost} to pin an endpoint's
+ * statement budget so an N+1 regression fails the build.
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher atMost(int budget) {
+        return result -> {
+            RequestSqlStats stats = stats(result);
+            if (stats.statements() > budget) {
+                throw new AssertionError(String.format("%s %s ran %d SQL statements, budget %d:%s",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                        stats.statements(), budget, stats.summary(10)));
+            }
+        };
+    }
+
+    public static int count(MvcResult result) {
+        return stats(result).statements();
+    }
+
+    private static RequestSqlStats stats(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(RequestSqlStats.REQUEST_ATTRIBUTE);
+        if (stats == null) {
+            throw new AssertionError("No SQL stats on the request; is JdbcMetricsFilter in the MockMvc chain?");
+        }
+        return (RequestSqlStats) stats;
+    }
+}
@@ -0,0 +1,75 @@
+package com.banquet;
+
+import com.banquet.entity.BanquetHall;
+import com.banquet.entity.Booking;
+import com.banquet.entity.User;
+import com.banquet.entity.Venue;
+import com.banquet.enums.BookingStatus;
+import com.banquet.enums.HallStatus;
+import com.banquet.enums.PaymentMode;
+import com.banquet.enums.UserRole;
+import com.banquet.repository.BanquetHallRepository;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.UserRepository;
+import com.banquet.repository.VenueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Saves minimal users, halls, venues and bookings for integration tests. */
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    private final UserRepository userRepository;
+    private final BanquetHallRepository hallRepository;
+    private final VenueRepository venueRepository;
+    private final BookingRepository bookingRepository;
+
+    public User user(UserRole role) {
+        return userRepository.save(User.builder()
+                .phone(String.valueOf(9_000_000_000L + SEQUENCE.incrementAndGet()))
+                .passwordHash("unused")
+                .fullName("Test " + role)
+                .role(role)
+                .phoneVerified(true)
+                .build());
+    }
+
+    public Venue venue(User owner) {
+        BanquetHall hall = hallRepository.save(BanquetHall.builder()
+                .owner(owner)
+                .name("Test Hall " + SEQUENCE.incrementAndGet())
+                .address("1 Test Street")
+                .city("Testville")
+                .state("TS")
+                .zipcode("00000")
+                .status(HallStatus.APPROVED)
+                .build());
+        return venueRepository.save(Venue.builder()
+                .hall(hall)
+                .name("Test Venue")
+                .capacity(100)
+                .basePricePerHour(new BigDecimal("100.00"))
+                .build());
+    }
+
+    public Booking booking(User customer, Venue venue, LocalDate date, BigDecimal totalAmount) {
+        return bookingRepository.save(Booking.builder()
+                .customer(customer)
+                .venue(venue)
+                .bookingDate(date)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(14, 0))
+                .totalAmount(totalAmount)
+                .status(BookingStatus.PENDING)
+                .paymentMode(PaymentMode.INSTALLMENT)
+                .build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.banquet.controller;
+
+import com.banquet.SqlStatements;
+import com.banquet.TestFixtures;
+import com.banquet.entity.BanquetHall;
+import com.banquet.entity.User;
+import com.banquet.entity.Venue;
+import com.banquet.enums.UserRole;
+import com.banquet.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingControllerQueryCountTest {
+
+    private static final int MY_BOOKINGS_BUDGET = 4;
+    private static final int HALL_BUDGET = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void customerBookingsRunAFixedNumberOfStatements() throws Exception {
+        User customer = fixtures.user(UserRole.CUSTOMER);
+        Venue venue = fixtures.venue(fixtures.user(UserRole.OWNER));
+        fixtures.booking(customer, venue, LocalDate.now().plusDays(10), new BigDecimal("400.00"));
+        int single = SqlStatements.count(getMyBookings(customer, 1));
+
+        for (int i = 0; i < 5; i++) {
+            Venue other = fixtures.venue(fixtures.user(UserRole.OWNER));
+            fixtures.booking(customer, other, LocalDate.now().plusDays(11 + i), new BigDecimal("400.00"));
+        }
+        int many = SqlStatements.count(getMyBookings(customer, 6));
+
+        // Each booking brings its own venue, hall and owner; none of them may cost a query per row
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    void hallDetailStaysWithinBudget() throws Exception {
+        BanquetHall hall = fixtures.venue(fixtures.user(UserRole.OWNER)).getHall();
+
+        mockMvc.perform(get("/api/halls/{id}", hall.getId()))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(HALL_BUDGET));
+    }
+
+    private MvcResult getMyBookings(User customer, int expected) throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(customer.getId(), customer.getRole().name());
+        return mockMvc.perform(get("/api/bookings/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(expected))
+                .andExpect(SqlStatements.atMost(MY_BOOKINGS_BUDGET))
+                .andReturn();
+    }
+}
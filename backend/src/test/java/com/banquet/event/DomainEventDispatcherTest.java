@@ -0,0 +1,113 @@
+package com.banquet.event;
+
+import com.banquet.service.AnalyticsService;
+import com.banquet.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DomainEventDispatcherTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private AnalyticsService analyticsService;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @Autowired
+    private FailingListener failingListener;
+
+    /** Runs before every other listener and throws for customer -3. */
+    static class FailingListener {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @EventListener
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public void onBookingCreated(DeliveredEvent<BookingCreatedEvent> delivered) {
+            if (delivered.event().customerId() == -3L) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("listener down");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Listeners {
+
+        @Bean
+        FailingListener failingListener() {
+            return new FailingListener();
+        }
+    }
+
+    @Test
+    void deliversEachEventOnceAfterCommit() {
+        BookingCreatedEvent event = new BookingCreatedEvent(-1L, -1L, -1L, -1L,
+                LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(event);
+            verifyNoInteractions(analyticsService, notificationService);
+        });
+
+        verify(analyticsService, timeout(5000)).recordBookingCreated(event);
+        verify(analyticsService, after(500).times(1)).recordBookingCreated(event);
+        verify(notificationService, times(1)).notifyUser(eq(-1L), eq("BOOKING_RECEIVED"), anyString());
+    }
+
+    @Test
+    void dropsEventsOfRolledBackTransactions() {
+        BookingCreatedEvent event = new BookingCreatedEvent(-2L, -1L, -1L, -1L,
+                LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(event);
+            status.setRollbackOnly();
+        });
+
+        verify(analyticsService, after(500).never()).recordBookingCreated(event);
+    }
+
+    @Test
+    void failingListenerDoesNotSkipTheOthers() {
+        BookingCreatedEvent event = new BookingCreatedEvent(-3L, -3L, -1L, -1L,
+                LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+
+        verify(analyticsService, timeout(5000)).recordBookingCreated(event);
+        verify(notificationService, timeout(5000)).notifyUser(eq(-3L), eq("BOOKING_RECEIVED"), anyString());
+        assertThat(failingListener.calls.get()).isEqualTo(1);
+    }
+}
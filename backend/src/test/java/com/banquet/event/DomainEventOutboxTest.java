@@ -0,0 +1,124 @@
+package com.banquet.event;
+
+import com.banquet.entity.OutboxEvent;
+import com.banquet.repository.OutboxEventRepository;
+import com.banquet.service.AnalyticsService;
+import com.banquet.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "app.events.outbox.enabled=true",
+        "app.events.outbox.relay-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class DomainEventOutboxTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DomainEventDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private FlakyListener flakyListener;
+
+    @MockBean
+    private AnalyticsService analyticsService;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    /** Fails the first time it sees an event, then succeeds. */
+    static class FlakyListener {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @EventListener
+        public void onBookingCreated(DeliveredEvent<BookingCreatedEvent> delivered) {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("listener down");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Listeners {
+
+        @Bean
+        FlakyListener flakyListener() {
+            return new FlakyListener();
+        }
+    }
+
+    @Test
+    void retryRunsOnlyTheListenerThatFailed() throws Exception {
+        BookingCreatedEvent event = new BookingCreatedEvent(-4L, -4L, -1L, -1L,
+                LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        long previousId = outboxRepository.findAll().stream().mapToLong(OutboxEvent::getId).max().orElse(0);
+
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+
+        verify(analyticsService, timeout(5000)).recordBookingCreated(event);
+        OutboxEvent row = awaitFailedAttempt(previousId);
+        assertThat(row.getDispatchedAt()).isNull();
+        assertThat(row.getDeliveredListeners()).contains("AnalyticsEventListener");
+
+        awaitRedelivery();
+
+        assertThat(flakyListener.calls.get()).isEqualTo(2);
+        assertThat(outboxRepository.findById(row.getId()).orElseThrow().getDispatchedAt()).isNotNull();
+        // The listeners that succeeded the first time are not run again
+        verify(analyticsService, after(500).times(1)).recordBookingCreated(event);
+        verify(notificationService, times(1)).notifyUser(eq(-4L), eq("BOOKING_RECEIVED"), anyString());
+    }
+
+    private OutboxEvent awaitFailedAttempt(long previousId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            OutboxEvent row = outboxRepository.findAll().stream()
+                    .filter(e -> e.getId() > previousId && e.getAttempts() > 0)
+                    .findFirst()
+                    .orElse(null);
+            if (row != null) {
+                return row;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("The outbox event was never attempted");
+    }
+
+    /** The relay that ran after commit may still hold the relay flag and lease, so retry until it is ours. */
+    private void awaitRedelivery() throws InterruptedException {
+        for (int i = 0; i < 100 && flakyListener.calls.get() < 2; i++) {
+            dispatcher.relayPending();
+            Thread.sleep(50);
+        }
+    }
+}
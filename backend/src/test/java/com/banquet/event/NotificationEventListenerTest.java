@@ -0,0 +1,80 @@
+package com.banquet.event;
+
+import com.banquet.entity.Notification;
+import com.banquet.entity.User;
+import com.banquet.entity.Venue;
+import com.banquet.enums.NotificationChannel;
+import com.banquet.repository.NotificationRepository;
+import com.banquet.repository.UserRepository;
+import com.banquet.repository.VenueRepository;
+import com.banquet.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationEventListenerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+
+    private final VenueRepository venueRepository = mock(VenueRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationEventListener listener = new NotificationEventListener(
+            new NotificationService(notificationRepository, userRepository), venueRepository);
+
+    @Test
+    void sweepCancellationLoadsVenuesAndUsersOnceForTheWholeBatch() {
+        List<BookingCancelledEvent.CancelledBooking> bookings = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            bookings.add(new BookingCancelledEvent.CancelledBooking(id, 100 + id % 3, 10 + id % 2, 1L,
+                    DAY, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        }
+        when(venueRepository.findAllById(Set.of(10L, 11L))).thenReturn(List.of(
+                Venue.builder().id(10L).name("Garden").build(),
+                Venue.builder().id(11L).name("Ballroom").build()));
+        when(userRepository.findAllById(Set.of(100L, 101L, 102L))).thenReturn(List.of(
+                User.builder().id(100L).phone("5550100").email("a@example.com").build(),
+                User.builder().id(101L).phone("5550101").build()));
+
+        listener.onBookingCancelled(new DeliveredEvent<>(new BookingCancelledEvent(bookings)));
+
+        verify(venueRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findById(anyLong());
+        ArgumentCaptor<Notification> saved = ArgumentCaptor.forClass(Notification.class);
+        // User 100 gets SMS and email, 101 only SMS, and the unknown user 102 nothing
+        verify(notificationRepository, times(166 * 2 + 167)).save(saved.capture());
+        assertThat(saved.getAllValues()).filteredOn(n -> n.getChannel() == NotificationChannel.EMAIL)
+                .allMatch(n -> n.getRecipient().equals("a@example.com"));
+        assertThat(saved.getAllValues()).extracting(Notification::getBody)
+                .contains("Booking #3 at Ballroom on 2030-06-01 10:00-12:00 has been cancelled.",
+                        "Booking #4 at Garden on 2030-06-01 10:00-12:00 has been cancelled.");
+    }
+
+    @Test
+    void missingVenueFallsBackToAGenericName() {
+        when(venueRepository.findAllById(any())).thenReturn(List.of());
+        when(userRepository.findAllById(any())).thenReturn(List.of(User.builder().id(7L).phone("5550107").build()));
+
+        listener.onBookingCancelled(new DeliveredEvent<>(new BookingCancelledEvent(List.of(
+                new BookingCancelledEvent.CancelledBooking(1L, 7L, 99L, 1L, DAY,
+                        LocalTime.of(10, 0), LocalTime.of(12, 0))))));
+
+        ArgumentCaptor<Notification> saved = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationRepository).save(saved.capture());
+        assertThat(saved.getValue().getBody()).contains("at your venue on");
+    }
+}
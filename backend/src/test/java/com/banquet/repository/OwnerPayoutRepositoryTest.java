@@ -0,0 +1,52 @@
+package com.banquet.repository;
+
+import com.banquet.entity.OwnerPayout;
+import com.banquet.entity.SettlementRun;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OwnerPayoutRepositoryTest {
+
+    @Autowired
+    private OwnerPayoutRepository payoutRepository;
+
+    @Autowired
+    private SettlementRunRepository runRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void addToTotalsAccumulatesChargesAndRefunds() {
+        SettlementRun run = runRepository.save(SettlementRun.builder()
+                .fromLedgerId(0L).toLedgerId(100L).checkpointLedgerId(0L).build());
+        OwnerPayout payout = payoutRepository.save(OwnerPayout.builder()
+                .runId(run.getId()).hallId(5L).ownerId(9L)
+                .chargeTotal(BigDecimal.ZERO).refundTotal(BigDecimal.ZERO).amount(BigDecimal.ZERO)
+                .build());
+
+        assertThat(payoutRepository.addToTotals(run.getId(), 5L,
+                new BigDecimal("500.00"), new BigDecimal("-75.50"), 3)).isEqualTo(1);
+        assertThat(payoutRepository.addToTotals(run.getId(), 5L,
+                new BigDecimal("100.00"), BigDecimal.ZERO, 1)).isEqualTo(1);
+        assertThat(payoutRepository.addToTotals(run.getId(), 6L, BigDecimal.ONE, BigDecimal.ZERO, 1)).isZero();
+
+        entityManager.clear();
+        OwnerPayout reloaded = payoutRepository.findById(payout.getId()).orElseThrow();
+        assertThat(reloaded.getChargeTotal()).isEqualByComparingTo("600.00");
+        assertThat(reloaded.getRefundTotal()).isEqualByComparingTo("-75.50");
+        assertThat(reloaded.getAmount()).isEqualByComparingTo("524.50");
+        assertThat(reloaded.getEntryCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,202 @@
+package com.banquet.repository;
+
+import com.banquet.enums.WaitlistStatus;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The hot lookups must be served by an index, never a full table scan. Each lookup runs through its
+ * real repository method against seeded tables; the SQL Hibernate emits is captured through
+ * datasource-proxy and EXPLAINed with the parameters it was bound with.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanTest.CaptureConfig.class)
+class QueryPlanTest {
+
+    private static final int CUSTOMERS = 2_000;
+    private static final int HALLS = 100;
+    private static final int VENUES_PER_HALL = 4;
+    private static final int BOOKINGS = 40_000;
+    private static final int PRICED_DAYS = 60;
+    private static final int WAITLIST = 5_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+    private static final String FIRST_DAY_SQL = "DATE '" + FIRST_DAY + "'";
+
+    private static final List<Captured> CAPTURED = new ArrayList<>();
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PaymentRepository paymentRepository;
+    @Autowired private BookingRepository bookingRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private VenuePricingRepository venuePricingRepository;
+    @Autowired private HallStaffRepository hallStaffRepository;
+    @Autowired private WaitlistEntryRepository waitlistEntryRepository;
+
+    private long customerId;
+    private long hallId;
+    private long venueId;
+    private long staffUserId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (phone, password_hash, full_name, role) "
+                + "SELECT 'qp-' || X, 'x', 'Customer ' || X, 'CUSTOMER' FROM SYSTEM_RANGE(1, ?)", CUSTOMERS);
+        long firstUser = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE phone LIKE 'qp-%'", Long.class);
+
+        jdbcTemplate.update("INSERT INTO banquet_halls (owner_id, name, address, city, zipcode, status) "
+                + "SELECT ? + MOD(X, ?), 'Hall ' || X, 'Street ' || X, 'City', '10000', 'APPROVED' "
+                + "FROM SYSTEM_RANGE(1, ?)", firstUser, CUSTOMERS, HALLS);
+        long firstHall = jdbcTemplate.queryForObject("SELECT MIN(id) FROM banquet_halls WHERE name LIKE 'Hall %'", Long.class);
+
+        jdbcTemplate.update("INSERT INTO venues (hall_id, name, capacity, base_price_per_hour, active) "
+                + "SELECT ? + MOD(X, ?), 'Venue ' || X, 100, 50.00, MOD(X, 5) <> 0 FROM SYSTEM_RANGE(1, ?)",
+                firstHall, HALLS, HALLS * VENUES_PER_HALL);
+        long firstVenue = jdbcTemplate.queryForObject("SELECT MIN(id) FROM venues WHERE name LIKE 'Venue %'", Long.class);
+        int venues = HALLS * VENUES_PER_HALL;
+
+        jdbcTemplate.update("INSERT INTO bookings (customer_id, venue_id, booking_date, start_time, end_time, "
+                + "total_amount, status, payment_mode, created_at) "
+                + "SELECT ? + MOD(X, ?), ? + MOD(X, ?), DATEADD('DAY', MOD(X, 365), " + FIRST_DAY_SQL + "), "
+                + "TIME '10:00:00', TIME '14:00:00', 400.00, "
+                + "CASE MOD(X, 4) WHEN 0 THEN 'CANCELLED' WHEN 1 THEN 'PENDING' ELSE 'CONFIRMED' END, 'FULL', "
+                + "DATEADD('MINUTE', X, TIMESTAMP '2029-01-01 00:00:00') FROM SYSTEM_RANGE(1, ?)",
+                firstUser, CUSTOMERS, firstVenue, venues, BOOKINGS);
+        jdbcTemplate.update("INSERT INTO payments (booking_id, amount, payment_type, status, stripe_payment_intent_id) "
+                + "SELECT id, total_amount, 'FULL', 'SUCCESS', 'pi_qp_' || id FROM bookings WHERE payment_mode = 'FULL'");
+
+        jdbcTemplate.update("INSERT INTO venue_pricing (venue_id, effective_date, slot_start, slot_end, price) "
+                + "SELECT ? + MOD(X, ?), DATEADD('DAY', X / ?, " + FIRST_DAY_SQL + "), TIME '10:00:00', TIME '14:00:00', 450.00 "
+                + "FROM SYSTEM_RANGE(0, ?)", firstVenue, venues, venues, venues * PRICED_DAYS - 1);
+        jdbcTemplate.update("INSERT INTO hall_staff (hall_id, user_id, role) "
+                + "SELECT ? + MOD(X, ?), ? + X, 'MANAGER' FROM SYSTEM_RANGE(0, ?)",
+                firstHall, HALLS, firstUser, CUSTOMERS / 2 - 1);
+        jdbcTemplate.update("INSERT INTO waitlist_entries (customer_id, venue_id, wait_date, start_time, end_time, status) "
+                + "SELECT ? + MOD(X, ?), ? + MOD(X, ?), DATEADD('DAY', MOD(X, 365), " + FIRST_DAY_SQL + "), "
+                + "TIME '10:00:00', TIME '14:00:00', CASE MOD(X, 3) WHEN 0 THEN 'EXPIRED' ELSE 'WAITING' END "
+                + "FROM SYSTEM_RANGE(1, ?)", firstUser, CUSTOMERS, firstVenue, venues, WAITLIST);
+        jdbcTemplate.execute("ANALYZE");
+
+        customerId = firstUser + 17;
+        hallId = firstHall + 3;
+        venueId = firstVenue + 11;
+        staffUserId = firstUser + 42;
+    }
+
+    @Test
+    void hotLookupsUseAnIndex() {
+        Map<String, Runnable> lookups = new LinkedHashMap<>();
+        lookups.put("payment by intent id", () -> paymentRepository.findByStripePaymentIntentId("pi_qp_777"));
+        lookups.put("my bookings", () -> bookingRepository.findByCustomerIdOrderByCreatedAtDesc(customerId));
+        lookups.put("overlapping bookings", () -> bookingRepository.countOverlapping(
+                venueId, FIRST_DAY.plusDays(11), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        lookups.put("venues of a hall", () -> venueRepository.findByHallId(hallId));
+        lookups.put("active venues of a hall", () -> venueRepository.findByHallIdAndActiveTrue(hallId));
+        lookups.put("venue prices from a date", () -> venuePricingRepository
+                .findByVenueIdInAndEffectiveDateGreaterThanEqual(List.of(venueId), FIRST_DAY.plusDays(30)));
+        lookups.put("venue prices on a date", () -> venuePricingRepository
+                .findByVenueIdAndEffectiveDate(venueId, FIRST_DAY.plusDays(30)));
+        lookups.put("staff membership", () -> hallStaffRepository.existsByHallIdAndUserId(hallId, staffUserId));
+        lookups.put("staff of a hall", () -> hallStaffRepository.findByHallId(hallId));
+        lookups.put("halls of a staff user", () -> hallStaffRepository.findHallIdsByUserId(staffUserId));
+        lookups.put("waitlist for a slot", () -> waitlistEntryRepository
+                .findByVenueIdAndWaitDateAndStatus(venueId, FIRST_DAY.plusDays(11), WaitlistStatus.WAITING));
+        lookups.put("new waiters for a slot", () -> waitlistEntryRepository
+                .findByVenueIdAndWaitDateAndStatusAndCreatedAtAfter(venueId, FIRST_DAY.plusDays(11),
+                        WaitlistStatus.WAITING, FIRST_DAY.atStartOfDay().minusYears(1)));
+        lookups.put("my waitlist", () -> waitlistEntryRepository.findByCustomerIdOrderByCreatedAtDesc(customerId));
+        lookups.put("my active waitlist count", () -> waitlistEntryRepository
+                .countByCustomerIdAndStatusIn(customerId, List.of(WaitlistStatus.WAITING, WaitlistStatus.OFFERED)));
+
+        SoftAssertions softly = new SoftAssertions();
+        lookups.forEach((name, lookup) -> {
+            CAPTURED.clear();
+            lookup.run();
+            Set<Captured> selects = new LinkedHashSet<>();
+            for (Captured statement : CAPTURED) {
+                if (statement.sql().stripLeading().toLowerCase().startsWith("select")) {
+                    selects.add(statement);
+                }
+            }
+            softly.assertThat(selects).as("%s emitted no SELECT", name).isNotEmpty();
+            for (Captured select : selects) {
+                String plan = jdbcTemplate.queryForObject("EXPLAIN " + select.sql(), String.class,
+                        select.parameters().toArray());
+                softly.assertThat(plan).as("%s:%n%s", name, plan).doesNotContainIgnoringCase("tableScan");
+            }
+        });
+        softly.assertAll();
+    }
+
+    private record Captured(String sql, List<Object> parameters) {
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourceProxy() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(new Capture()).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static class Capture implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo query : queryInfoList) {
+                List<Object> parameters = new ArrayList<>();
+                if (!query.getParametersList().isEmpty()) {
+                    query.getParametersList().get(0).stream()
+                            .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                            .forEach(op -> parameters.add(valueOf(op)));
+                }
+                CAPTURED.add(new Captured(query.getQuery(), parameters));
+            }
+        }
+
+        private static Object valueOf(ParameterSetOperation op) {
+            return op.getMethod().getName().equals("setNull") ? null : op.getArgs()[1];
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.banquet.repository;
+
+import com.banquet.entity.VenueDailyStats;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class VenueDailyStatsRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+
+    @Autowired
+    private VenueDailyStatsRepository statsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertIfAbsentCreatesTheRowOnce() {
+        assertThat(statsRepository.insertIfAbsent(7L, 3L, DAY)).isEqualTo(1);
+        assertThat(statsRepository.insertIfAbsent(7L, 3L, DAY)).isZero();
+
+        VenueDailyStats stats = only(3L);
+        assertThat(stats.getBookingCount()).isZero();
+        assertThat(stats.getRevenue()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void incrementAddsToEveryCounter() {
+        statsRepository.insertIfAbsent(7L, 3L, DAY);
+
+        assertThat(statsRepository.increment(7L, DAY, 2, 0, 180, new BigDecimal("150.50"), BigDecimal.ZERO))
+                .isEqualTo(1);
+        assertThat(statsRepository.increment(7L, DAY, 0, 1, -60, new BigDecimal("-20.25"), new BigDecimal("20.25")))
+                .isEqualTo(1);
+        assertThat(statsRepository.increment(8L, DAY, 1, 0, 60, BigDecimal.ONE, BigDecimal.ZERO)).isZero();
+
+        VenueDailyStats stats = only(3L);
+        assertThat(stats.getBookingCount()).isEqualTo(2);
+        assertThat(stats.getCancellationCount()).isEqualTo(1);
+        assertThat(stats.getBookedMinutes()).isEqualTo(120);
+        assertThat(stats.getRevenue()).isEqualByComparingTo("130.25");
+        assertThat(stats.getRefundedAmount()).isEqualByComparingTo("20.25");
+    }
+
+    private VenueDailyStats only(Long hallId) {
+        entityManager.clear();
+        List<VenueDailyStats> rows = statsRepository.findByHallIdAndStatDateBetweenOrderByStatDateAsc(hallId, DAY, DAY);
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+}
@@ -0,0 +1,26 @@
+package com.banquet.service;
+
+import com.banquet.dto.AuthRequest;
+import com.banquet.dto.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminSeedLoginTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void seededAdminCanLogInOnAFreshDatabase() {
+        AuthResponse response = authService.login(new AuthRequest("0000000000", "admin123", null), "127.0.0.1");
+
+        assertThat(response.accessToken()).isNotBlank();
+        assertThat(response.user().role()).hasToString("ADMIN");
+    }
+}
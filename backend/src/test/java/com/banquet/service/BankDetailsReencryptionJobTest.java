@@ -0,0 +1,72 @@
+package com.banquet.service;
+
+import com.banquet.TestFixtures;
+import com.banquet.config.FieldEncryptor;
+import com.banquet.entity.BanquetHall;
+import com.banquet.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.encryption.reencrypt.initial-delay-ms=3600000")
+@ActiveProfiles("test")
+class BankDetailsReencryptionJobTest {
+
+    private static final String CORRUPT = "v1:retired:AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private BankDetailsReencryptionJob job;
+
+    @Autowired
+    private FieldEncryptor fieldEncryptor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.encryption.key}")
+    private String legacyKey;
+
+    @Test
+    void unreadableRowIsSkippedAndLaterRowsAreStillMigrated() throws Exception {
+        BanquetHall unreadable = fixtures.venue(fixtures.user(UserRole.OWNER)).getHall();
+        BanquetHall legacy = fixtures.venue(fixtures.user(UserRole.OWNER)).getHall();
+        setBankDetails(unreadable.getId(), CORRUPT, CORRUPT);
+        setBankDetails(legacy.getId(), ecbEncrypt("000123456789"), ecbEncrypt("021000021"));
+
+        job.run();
+
+        assertThat(bankAccount(unreadable.getId())).isEqualTo(CORRUPT);
+        String migrated = bankAccount(legacy.getId());
+        assertThat(fieldEncryptor.needsReencryption(migrated)).isFalse();
+        assertThat(fieldEncryptor.decrypt(migrated)).isEqualTo("000123456789");
+    }
+
+    private void setBankDetails(Long hallId, String account, String routing) {
+        jdbcTemplate.update("UPDATE banquet_halls SET bank_account_number = ?, bank_routing_number = ? WHERE id = ?",
+                account, routing, hallId);
+    }
+
+    private String bankAccount(Long hallId) {
+        return jdbcTemplate.queryForObject("SELECT bank_account_number FROM banquet_halls WHERE id = ?",
+                String.class, hallId);
+    }
+
+    private String ecbEncrypt(String value) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(Base64.getDecoder().decode(legacyKey), "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.banquet.service;
+
+import com.banquet.TestFixtures;
+import com.banquet.entity.Booking;
+import com.banquet.entity.Payment;
+import com.banquet.entity.User;
+import com.banquet.entity.Venue;
+import com.banquet.enums.BookingStatus;
+import com.banquet.enums.PaymentStatus;
+import com.banquet.enums.PaymentType;
+import com.banquet.enums.UserRole;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.booking.lifecycle.initial-delay-ms=3600000")
+@ActiveProfiles("test")
+class BookingLifecycleProcessorTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("100.00");
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private BookingLifecycleProcessor processor;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void expiredHoldVoidsItsStalePaymentAndCannotBePaidAfterwards() {
+        User customer = fixtures.user(UserRole.CUSTOMER);
+        Venue venue = fixtures.venue(fixtures.user(UserRole.OWNER));
+        Booking booking = fixtures.booking(customer, venue, LocalDate.now().plusDays(30), new BigDecimal("800.00"));
+        String intentId = "sim_lifecycle_" + booking.getId();
+        Payment payment = pendingPayment(booking, intentId);
+        backdate(booking, payment, LocalDateTime.now().minusHours(2));
+
+        processor.run();
+
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.FAILED);
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.CANCELLED);
+
+        // A late confirmation of the voided intent must not add money to the cancelled booking
+        paymentService.confirmPayment(intentId);
+
+        Booking reloaded = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(reloaded.getPaidAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(reloaded.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.FAILED);
+    }
+
+    @Test
+    void holdWithPaymentInFlightIsKept() {
+        User customer = fixtures.user(UserRole.CUSTOMER);
+        Venue venue = fixtures.venue(fixtures.user(UserRole.OWNER));
+        Booking booking = fixtures.booking(customer, venue, LocalDate.now().plusDays(30), new BigDecimal("800.00"));
+        Payment payment = pendingPayment(booking, "sim_lifecycle_recent_" + booking.getId());
+        jdbcTemplate.update("UPDATE bookings SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(2), booking.getId());
+
+        processor.run();
+
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.PENDING);
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.PENDING);
+    }
+
+    private Payment pendingPayment(Booking booking, String intentId) {
+        return paymentRepository.save(Payment.builder()
+                .booking(booking)
+                .amount(AMOUNT)
+                .paymentType(PaymentType.INSTALLMENT_1)
+                .status(PaymentStatus.PENDING)
+                .stripePaymentIntentId(intentId)
+                .build());
+    }
+
+    private void backdate(Booking booking, Payment payment, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE bookings SET created_at = ? WHERE id = ?", createdAt, booking.getId());
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE id = ?", createdAt, payment.getId());
+    }
+}
@@ -0,0 +1,131 @@
+package com.banquet.service;
+
+import com.banquet.TestFixtures;
+import com.banquet.entity.Venue;
+import com.banquet.entity.VenuePricing;
+import com.banquet.enums.UserRole;
+import com.banquet.repository.VenuePricingRepository;
+import com.banquet.repository.VenueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DynamicPricingServiceTest {
+
+    private static final long FULL_DAY = 1440;
+    private static final long SATURATED = 50;
+
+    @Autowired
+    private DynamicPricingService dynamicPricingService;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private VenuePricingRepository venuePricingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final LocalDate today = LocalDate.now();
+    private Venue venue;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dynamicPricingService, "enabled", true);
+        venue = fixtures.venue(fixtures.user(UserRole.OWNER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(dynamicPricingService, "enabled", false);
+        ReflectionTestUtils.setField(dynamicPricingService, "multipliers", Map.of());
+    }
+
+    @Test
+    void weighsFillAndSearchDemandAndRoundsDownToTheStep() {
+        Venue sibling = venueRepository.save(Venue.builder().hall(venue.getHall()).name("Sibling")
+                .capacity(50).basePricePerHour(new BigDecimal("100.00")).build());
+        stats(venue, day(1), FULL_DAY);
+        searches(venue, day(2), SATURATED);
+        stats(venue, day(3), FULL_DAY);
+        searches(venue, day(3), 4 * SATURATED);
+        stats(venue, day(4), FULL_DAY / 2);
+        searches(venue, day(4), SATURATED / 2);
+        stats(venue, day(5), 100);
+
+        dynamicPricingService.recompute();
+
+        // Full fill alone: 1 + 0.30 * 0.6 = 1.18, stepped down to 1.15
+        assertThat(dynamicPricingService.multiplier(venue.getId(), day(1))).isEqualByComparingTo("1.15");
+        // Saturated search alone: 1 + 0.30 * 0.4 = 1.12 -> 1.10
+        assertThat(dynamicPricingService.multiplier(venue.getId(), day(2))).isEqualByComparingTo("1.10");
+        // Both signals cap at 1, so the maximum applies
+        assertThat(dynamicPricingService.multiplier(venue.getId(), day(3))).isEqualByComparingTo("1.30");
+        // Half of each: 1 + 0.30 * 0.5 = 1.15
+        assertThat(dynamicPricingService.multiplier(venue.getId(), day(4))).isEqualByComparingTo("1.15");
+        // Too little demand to reach one step, and no demand at all, price normally
+        assertThat(dynamicPricingService.multiplier(venue.getId(), day(5))).isNull();
+        assertThat(dynamicPricingService.multiplier(venue.getId(), day(6))).isNull();
+        // Search demand is per hall, so it raises every venue of the hall
+        assertThat(dynamicPricingService.multiplier(sibling.getId(), day(2))).isEqualByComparingTo("1.10");
+        assertThat(dynamicPricingService.multiplier(sibling.getId(), day(1))).isNull();
+    }
+
+    @Test
+    void quotesApplyTheMultiplierExceptOnOverrideDates() {
+        stats(venue, day(1), FULL_DAY);
+        searches(venue, day(1), SATURATED);
+        stats(venue, day(2), FULL_DAY);
+        searches(venue, day(2), SATURATED);
+        venuePricingRepository.save(VenuePricing.builder().venue(venue).effectiveDate(day(2))
+                .slotStart(LocalTime.of(10, 0)).slotEnd(LocalTime.of(12, 0)).price(new BigDecimal("150.00"))
+                .build());
+
+        dynamicPricingService.recompute();
+
+        // Both dates are fully raised, but a price the owner fixed is quoted as is
+        assertThat(quote(venue, day(1))).isEqualByComparingTo("260.00");
+        assertThat(quote(venue, day(2))).isEqualByComparingTo("300.00");
+        assertThat(quote(venue, day(6))).isEqualByComparingTo("200.00");
+    }
+
+    private BigDecimal quote(Venue venue, LocalDate date) {
+        return pricingService.calculateAmount(venue, date, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+
+    private LocalDate day(int offset) {
+        return today.plusDays(offset);
+    }
+
+    private void stats(Venue venue, LocalDate date, long bookedMinutes) {
+        jdbcTemplate.update("INSERT INTO venue_daily_stats (venue_id, hall_id, stat_date, booked_minutes) "
+                + "VALUES (?, ?, ?, ?)", venue.getId(), venue.getHall().getId(), Date.valueOf(date), bookedMinutes);
+    }
+
+    private void searches(Venue venue, LocalDate date, long hits) {
+        jdbcTemplate.update("INSERT INTO search_demand (hall_id, search_date, hit_count) VALUES (?, ?, ?)",
+                venue.getHall().getId(), Date.valueOf(date), hits);
+    }
+}
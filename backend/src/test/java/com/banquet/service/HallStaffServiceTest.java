@@ -0,0 +1,68 @@
+package com.banquet.service;
+
+import com.banquet.dto.HallStaffRequest;
+import com.banquet.entity.BanquetHall;
+import com.banquet.entity.User;
+import com.banquet.enums.UserRole;
+import com.banquet.exception.ServiceBusyException;
+import com.banquet.repository.BanquetHallRepository;
+import com.banquet.repository.HallStaffRepository;
+import com.banquet.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HallStaffServiceTest {
+
+    private final HallStaffRepository hallStaffRepository = mock(HallStaffRepository.class);
+    private final BanquetHallRepository hallRepository = mock(BanquetHallRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final HallStaffService hallStaffService = new HallStaffService(hallStaffRepository, hallRepository,
+            userRepository, passwordHashingService, mock(HallAccessService.class));
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder().id(1L).build();
+        when(hallRepository.findById(10L))
+                .thenReturn(Optional.of(BanquetHall.builder().id(10L).owner(owner).build()));
+        when(userRepository.findByPhone(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void newStaffPasswordIsHashedOnTheBoundedPool() {
+        when(passwordHashingService.encode(anyString())).thenReturn("hashed");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(2L);
+            return user;
+        });
+
+        hallStaffService.addStaff(10L, 1L, new HallStaffRequest("5550100", UserRole.MANAGER));
+
+        verify(passwordHashingService).encode("tempPassword123");
+        verify(userRepository).save(argThat(u -> "hashed".equals(u.getPasswordHash())));
+    }
+
+    @Test
+    void busyHashingPoolRejectsTheRequestWithoutCreatingAUser() {
+        when(passwordHashingService.encode(anyString()))
+                .thenThrow(new ServiceBusyException("Authentication is busy, please retry shortly"));
+
+        HallStaffRequest request = new HallStaffRequest("5550100", UserRole.MANAGER);
+        assertThatThrownBy(() -> hallStaffService.addStaff(10L, 1L, request))
+                .isInstanceOf(ServiceBusyException.class);
+        verify(userRepository, never()).save(any());
+        verify(hallStaffRepository, never()).save(any());
+    }
+}
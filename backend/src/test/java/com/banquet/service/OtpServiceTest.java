@@ -0,0 +1,85 @@
+package com.banquet.service;
+
+import com.banquet.TestFixtures;
+import com.banquet.entity.Notification;
+import com.banquet.entity.User;
+import com.banquet.enums.NotificationStatus;
+import com.banquet.enums.UserRole;
+import com.banquet.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.auth.otp.snapshot-file=./target/test-otp-snapshot.csv",
+        "app.notifications.dispatch-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class OtpServiceTest {
+
+    private static final Pattern CODE = Pattern.compile("code is (\\d+)");
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private OtpService otpService;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void codeIsRedactedOnceSentAndSnapshottedOnlyAsHmac(CapturedOutput output) throws Exception {
+        User user = fixtures.user(UserRole.CUSTOMER);
+        otpService.requestOtp(user.getPhone(), "10.0.0.1");
+
+        Notification queued = otpNotification(user);
+        assertThat(queued.isSensitive()).isTrue();
+        Matcher matcher = CODE.matcher(queued.getBody());
+        assertThat(matcher.find()).isTrue();
+        String code = matcher.group(1);
+
+        notificationDispatcher.dispatch();
+
+        Notification sent = otpNotification(user);
+        assertThat(sent.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(sent.getBody()).isEqualTo("[redacted]");
+
+        otpService.snapshot();
+        String snapshot = Files.readString(Paths.get("./target/test-otp-snapshot.csv"));
+        String sha256 = Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8)));
+        assertThat(snapshot).contains(user.getPhone()).doesNotContain(sha256);
+
+        // The snapshot restores to digests the same code still verifies against
+        otpService.restore();
+        otpService.verify(user.getPhone(), code, "10.0.0.1");
+
+        assertThat(output.getAll()).contains("SMS to " + user.getPhone()).doesNotContain("code is " + code);
+    }
+
+    private Notification otpNotification(User user) {
+        return notificationRepository.findAll().stream()
+                .filter(n -> n.getRecipient().equals(user.getPhone()) && n.getTemplate().equals("OTP"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,143 @@
+package com.banquet.service;
+
+import com.banquet.TestFixtures;
+import com.banquet.dto.RefundRequest;
+import com.banquet.entity.Booking;
+import com.banquet.entity.Payment;
+import com.banquet.entity.PaymentLedgerEntry;
+import com.banquet.entity.User;
+import com.banquet.entity.Venue;
+import com.banquet.enums.BookingStatus;
+import com.banquet.enums.LedgerEntryType;
+import com.banquet.enums.PaymentStatus;
+import com.banquet.enums.PaymentType;
+import com.banquet.enums.UserRole;
+import com.banquet.repository.BookingRepository;
+import com.banquet.repository.PaymentLedgerRepository;
+import com.banquet.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentServiceConcurrencyTest {
+
+    private static final int INTENTS = 8;
+    private static final int REPLAYS_PER_INTENT = 3;
+    private static final int REFUNDS = 10;
+    private static final BigDecimal CHARGE = new BigDecimal("100.00");
+    private static final BigDecimal REFUND = new BigDecimal("30.00");
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentLedgerRepository ledgerRepository;
+
+    @Test
+    void concurrentConfirmsAndRefundsKeepPaidAmountAndLedgerInStep() throws Exception {
+        User customer = fixtures.user(UserRole.CUSTOMER);
+        Venue venue = fixtures.venue(fixtures.user(UserRole.OWNER));
+        Booking booking = fixtures.booking(customer, venue, LocalDate.now().plusDays(30), new BigDecimal("800.00"));
+
+        List<String> intents = new ArrayList<>();
+        for (int i = 0; i < INTENTS; i++) {
+            String intentId = "sim_concurrency_" + booking.getId() + "_" + i;
+            paymentRepository.save(Payment.builder()
+                    .booking(booking)
+                    .amount(CHARGE)
+                    .paymentType(i == 0 ? PaymentType.INSTALLMENT_1 : PaymentType.INSTALLMENT_2)
+                    .status(PaymentStatus.PENDING)
+                    .stripePaymentIntentId(intentId)
+                    .build());
+            intents.add(intentId);
+        }
+
+        AtomicInteger refunded = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (String intentId : intents) {
+            // Replays model client retries racing webhook redelivery of the same intent
+            for (int r = 0; r < REPLAYS_PER_INTENT; r++) {
+                tasks.add(() -> {
+                    paymentService.confirmPayment(intentId);
+                    return null;
+                });
+            }
+        }
+        for (int i = 0; i < REFUNDS; i++) {
+            tasks.add(() -> {
+                try {
+                    paymentService.processRefund(booking.getId(), customer.getId(), new RefundRequest(REFUND));
+                    refunded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    // Refunds racing ahead of every charge, or past the amount paid, are rejected
+                    assertThat(e.getMessage()).isIn("No successful payment found for this booking",
+                            "Refund amount exceeds the amount paid");
+                }
+                return null;
+            });
+        }
+        Collections.shuffle(tasks);
+        runTogether(tasks);
+
+        BigDecimal expected = CHARGE.multiply(BigDecimal.valueOf(INTENTS))
+                .subtract(REFUND.multiply(BigDecimal.valueOf(refunded.get())));
+        Booking reloaded = bookingRepository.findById(booking.getId()).orElseThrow();
+        List<PaymentLedgerEntry> ledger = ledgerRepository.findByBookingIdOrderByIdAsc(booking.getId());
+
+        assertThat(refunded.get()).isPositive();
+        assertThat(reloaded.getPaidAmount()).isEqualByComparingTo(expected);
+        assertThat(ledgerRepository.sumByBookingId(booking.getId())).isEqualByComparingTo(expected);
+        assertThat(ledger).filteredOn(e -> e.getEntryType() == LedgerEntryType.CHARGE).hasSize(INTENTS);
+        assertThat(ledger).filteredOn(e -> e.getEntryType() == LedgerEntryType.REFUND).hasSize(refunded.get());
+        assertThat(paymentRepository.findByBookingId(booking.getId()))
+                .filteredOn(p -> p.getStatus() == PaymentStatus.SUCCESS).hasSize(INTENTS);
+        assertThat(reloaded.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+    }
+
+    private static void runTogether(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.banquet.service;
+
+import com.banquet.entity.StripeWebhookEvent;
+import com.banquet.repository.StripeWebhookEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentWebhookProcessorTest {
+
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final StripeWebhookEventRepository repository = mock(StripeWebhookEventRepository.class);
+    private PaymentWebhookProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new PaymentWebhookProcessor(paymentService, repository);
+        ReflectionTestUtils.setField(processor, "queueCapacity", 16);
+        ReflectionTestUtils.setField(processor, "batchSize", 16);
+        ReflectionTestUtils.setField(processor, "retryGraceSeconds", 120L);
+        when(paymentService.isKnownPaymentIntent(anyString())).thenReturn(true);
+        processor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.stop();
+    }
+
+    @Test
+    void duplicateRetriesAnApplyThatFailedEarlierInTheBatch() {
+        when(paymentService.confirmPayment("pi_1"))
+                .thenThrow(new RuntimeException("deadlock"))
+                .thenReturn(null);
+
+        processor.processBatch(List.of(
+                new PaymentWebhookProcessor.WebhookTask("evt_1", PaymentWebhookProcessor.PAYMENT_SUCCEEDED, "pi_1"),
+                new PaymentWebhookProcessor.WebhookTask("evt_2", PaymentWebhookProcessor.PAYMENT_SUCCEEDED, "pi_1"),
+                new PaymentWebhookProcessor.WebhookTask("evt_3", PaymentWebhookProcessor.PAYMENT_SUCCEEDED, "pi_1")));
+
+        // evt_1 stays unprocessed for the sweep; evt_2 applied the payment and evt_3 collapsed into it
+        verify(paymentService, times(2)).confirmPayment("pi_1");
+        verify(repository).markProcessed(eq(List.of("evt_2", "evt_3")), any(LocalDateTime.class));
+    }
+
+    @Test
+    void sweepRequeuesOnlyEventsOlderThanTheGracePeriod() {
+        StripeWebhookEvent stale = StripeWebhookEvent.builder()
+                .id("evt_stale")
+                .eventType(PaymentWebhookProcessor.PAYMENT_SUCCEEDED)
+                .paymentIntentId("pi_stale")
+                .build();
+        when(repository.findByProcessedFalseAndReceivedAtBeforeOrderByReceivedAtAsc(any(), any()))
+                .thenReturn(List.of(stale));
+
+        processor.sweepUnprocessed();
+
+        verify(repository).findByProcessedFalseAndReceivedAtBeforeOrderByReceivedAtAsc(
+                argThat(before -> before.isBefore(LocalDateTime.now().minusSeconds(119))),
+                any());
+        verify(paymentService, timeout(5000)).confirmPayment("pi_stale");
+        verify(repository, timeout(5000)).markProcessed(eq(List.of("evt_stale")), any(LocalDateTime.class));
+        verify(paymentService, never()).failPayment(anyString());
+    }
+}
@@ -0,0 +1,139 @@
+package com.banquet.service;
+
+import com.banquet.entity.PricingRule;
+import com.banquet.entity.Venue;
+import com.banquet.entity.VenuePricing;
+import com.banquet.repository.PricingRuleRepository;
+import com.banquet.repository.VenuePricingRepository;
+import com.banquet.repository.VenueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PricingServiceTest {
+
+    private static final LocalDate SATURDAY = LocalDate.of(2030, 6, 1);
+    private static final LocalDate MONDAY = LocalDate.of(2030, 6, 3);
+    private static final int WEEKEND = (1 << (DayOfWeek.SATURDAY.getValue() - 1))
+            | (1 << (DayOfWeek.SUNDAY.getValue() - 1));
+
+    private final PricingRuleRepository ruleRepository = mock(PricingRuleRepository.class);
+    private final VenuePricingRepository venuePricingRepository = mock(VenuePricingRepository.class);
+    private final DynamicPricingService dynamicPricingService = mock(DynamicPricingService.class);
+    private PricingService pricingService;
+    private Venue venue;
+
+    @BeforeEach
+    void setUp() {
+        pricingService = new PricingService(ruleRepository, venuePricingRepository, mock(VenueRepository.class),
+                mock(HallAccessService.class), dynamicPricingService, new SimpleMeterRegistry());
+        venue = Venue.builder().id(1L).basePricePerHour(new BigDecimal("100.00")).pricingVersion(0L).build();
+        givenOverrides();
+    }
+
+    @Test
+    void overrideSlotBeatsEveryRuleOnItsDate() {
+        givenRules(rule(1L, 9, new BigDecimal("200.00")).daysOfWeek(WEEKEND).build());
+        givenOverrides(override(SATURDAY, 10, 12, "500.00"));
+
+        assertThat(quote(SATURDAY, 10, 12)).isEqualByComparingTo("1000.00");
+        // The override only holds on its own date
+        assertThat(quote(SATURDAY.plusWeeks(1), 10, 12)).isEqualByComparingTo("400.00");
+    }
+
+    @Test
+    void hoursOutsideOverrideSlotsArePricedByTheRulesAndBasePrice() {
+        givenRules(
+                rule(1L, 0, new BigDecimal("200.00")).daysOfWeek(WEEKEND).build(),
+                rule(2L, 0, new BigDecimal("300.00"))
+                        .startTime(LocalTime.of(18, 0)).endTime(LocalTime.MIDNIGHT).build());
+        givenOverrides(override(SATURDAY, 10, 12, "500.00"), override(MONDAY, 12, 13, "500.00"));
+
+        // Two override hours plus two weekend hours; these used to be free on an override date
+        assertThat(quote(SATURDAY, 9, 13)).isEqualByComparingTo("1400.00");
+        // One override hour plus one base hour
+        assertThat(quote(MONDAY, 12, 14)).isEqualByComparingTo("600.00");
+        // Base price until the evening window, which runs to midnight
+        assertThat(pricingService.calculateAmount(venue, MONDAY, LocalTime.of(17, 0), LocalTime.MIDNIGHT))
+                .isEqualByComparingTo("1900.00");
+    }
+
+    @Test
+    void yearlySeasonWrapsTheYearEnd() {
+        givenRules(rule(1L, 0, new BigDecimal("250.00"))
+                .startDate(LocalDate.of(2020, 12, 20))
+                .endDate(LocalDate.of(2021, 1, 10))
+                .recurringYearly(true)
+                .build());
+
+        assertThat(quote(LocalDate.of(2030, 12, 20), 10, 12)).isEqualByComparingTo("500.00");
+        assertThat(quote(LocalDate.of(2030, 12, 31), 10, 12)).isEqualByComparingTo("500.00");
+        assertThat(quote(LocalDate.of(2031, 1, 10), 10, 12)).isEqualByComparingTo("500.00");
+        assertThat(quote(LocalDate.of(2030, 12, 19), 10, 12)).isEqualByComparingTo("200.00");
+        assertThat(quote(LocalDate.of(2031, 1, 11), 10, 12)).isEqualByComparingTo("200.00");
+        assertThat(quote(MONDAY, 10, 12)).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    void higherPriorityWinsAndTiesGoToTheNewerRule() {
+        givenRules(
+                rule(3L, 0, new BigDecimal("400.00")).build(),
+                rule(2L, 1, new BigDecimal("175.00")).build(),
+                rule(1L, 1, new BigDecimal("150.00")).build(),
+                rule(4L, 5, new BigDecimal("999.00")).active(false).build());
+
+        assertThat(quote(MONDAY, 10, 12)).isEqualByComparingTo("350.00");
+    }
+
+    @Test
+    void recompilesOnlyWhenThePricingVersionChanges() {
+        givenRules(rule(1L, 0, new BigDecimal("200.00")).build());
+
+        assertThat(quote(MONDAY, 10, 12)).isEqualByComparingTo("400.00");
+        assertThat(quote(SATURDAY, 10, 12)).isEqualByComparingTo("400.00");
+        verify(ruleRepository, times(1)).findByVenueIdInAndActiveTrue(any());
+
+        givenRules(rule(1L, 0, new BigDecimal("250.00")).build());
+        venue.setPricingVersion(1L);
+
+        assertThat(quote(MONDAY, 10, 12)).isEqualByComparingTo("500.00");
+        verify(ruleRepository, times(2)).findByVenueIdInAndActiveTrue(any());
+    }
+
+    private BigDecimal quote(LocalDate date, int fromHour, int toHour) {
+        return pricingService.calculateAmount(venue, date, LocalTime.of(fromHour, 0), LocalTime.of(toHour, 0));
+    }
+
+    private PricingRule.PricingRuleBuilder rule(Long id, int priority, BigDecimal pricePerHour) {
+        return PricingRule.builder().id(id).venue(venue).name("rule " + id).priority(priority)
+                .pricePerHour(pricePerHour);
+    }
+
+    private VenuePricing override(LocalDate date, int fromHour, int toHour, String price) {
+        return VenuePricing.builder().venue(venue).effectiveDate(date)
+                .slotStart(LocalTime.of(fromHour, 0)).slotEnd(LocalTime.of(toHour, 0))
+                .price(new BigDecimal(price)).build();
+    }
+
+    private void givenRules(PricingRule... rules) {
+        when(ruleRepository.findByVenueIdInAndActiveTrue(any())).thenReturn(List.of(rules));
+    }
+
+    private void givenOverrides(VenuePricing... overrides) {
+        when(venuePricingRepository.findByVenueIdInAndEffectiveDateGreaterThanEqual(any(), any()))
+                .thenReturn(List.of(overrides));
+    }
+}
@@ -0,0 +1,82 @@
+package com.banquet.service;
+
+import com.banquet.TestFixtures;
+import com.banquet.entity.SettlementRun;
+import com.banquet.entity.Venue;
+import com.banquet.enums.SettlementRunStatus;
+import com.banquet.enums.UserRole;
+import com.banquet.repository.SettlementRunRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "app.settlement.chunk-size=2",
+        "app.settlement.lag-minutes=0"
+})
+@ActiveProfiles("test")
+class SettlementServiceTest {
+
+    private static final int ENTRIES = 7;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private SettlementRunRepository runRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Also keeps the other lease-guarded jobs idle: an unstubbed tryAcquire returns false
+    @MockBean
+    private LeaseService leaseService;
+
+    @Test
+    void runAbortsWithoutCheckpointingOnceTheLeaseIsLostAndResumesLater() {
+        Venue venue = fixtures.venue(fixtures.user(UserRole.OWNER));
+        for (int i = 0; i < ENTRIES; i++) {
+            jdbcTemplate.update("INSERT INTO payment_ledger (booking_id, venue_id, payment_id, entry_type, amount, "
+                            + "created_at) VALUES (?, ?, ?, 'CHARGE', 10.00, ?)",
+                    -1L, venue.getId(), -1L - i, Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)));
+        }
+        when(leaseService.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+        when(leaseService.renew(anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> settlementService.settle())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Lost the settlement lease");
+
+        SettlementRun aborted = runRepository.findFirstByStatusOrderByIdAsc(SettlementRunStatus.RUNNING)
+                .orElseThrow();
+        assertThat(aborted.getCheckpointLedgerId()).isEqualTo(aborted.getFromLedgerId());
+
+        when(leaseService.renew(anyString(), any(Duration.class))).thenReturn(true);
+        settlementService.settle();
+
+        SettlementRun completed = runRepository.findById(aborted.getId()).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(SettlementRunStatus.COMPLETED);
+        assertThat(completed.getCheckpointLedgerId()).isEqualTo(completed.getToLedgerId());
+        // One renewal per 2-entry chunk plus the payout review page
+        verify(leaseService, atLeast(ENTRIES / 2 + 1)).renew(eq("owner-settlement"), any(Duration.class));
+    }
+}
@@ -0,0 +1,160 @@
+package com.banquet.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlotHoldStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+    private static final int THREADS = 8;
+
+    @TempDir
+    Path dir;
+
+    private Path logFile;
+    private SlotHoldStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        logFile = dir.resolve("holds.log");
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void concurrentOverlappingHoldsOnOneVenueDayGrantExactlyOne() throws Exception {
+        List<Optional<SlotHold>> results = race(customer ->
+                store.tryHold(customer, 1L, DAY, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+
+        assertThat(results).filteredOn(Optional::isPresent).hasSize(1);
+        assertThat(store.holdsForVenue(1L)).hasSize(1);
+    }
+
+    @Test
+    void concurrentDisjointHoldsOnOneVenueDayAllSucceed() throws Exception {
+        List<Optional<SlotHold>> results = race(customer ->
+                store.tryHold(customer, 1L, DAY, LocalTime.of(customer.intValue(), 0),
+                        LocalTime.of(customer.intValue() + 1, 0)));
+
+        assertThat(results).allMatch(Optional::isPresent);
+        assertThat(store.holdsForVenue(1L)).hasSize(THREADS);
+    }
+
+    @Test
+    void replayRestoresLiveHoldsAndDropsReleasedOnes() throws IOException {
+        SlotHold kept = store.tryHold(1L, 1L, DAY, LocalTime.of(10, 0), LocalTime.of(12, 0)).orElseThrow();
+        SlotHold released = store.tryHold(2L, 1L, DAY, LocalTime.of(14, 0), LocalTime.of(16, 0)).orElseThrow();
+        SlotHold superseded = store.tryHold(3L, 1L, DAY, LocalTime.of(18, 0), LocalTime.of(19, 0)).orElseThrow();
+        SlotHold renewed = store.tryHold(3L, 1L, DAY, LocalTime.of(18, 0), LocalTime.of(20, 0)).orElseThrow();
+        store.release(released.id());
+        store.close();
+
+        store = open();
+
+        // The log keeps expiry to the millisecond, so compare by id
+        assertThat(store.find(kept.id())).map(SlotHold::id).contains(kept.id());
+        assertThat(store.find(renewed.id())).map(SlotHold::id).contains(renewed.id());
+        assertThat(store.find(released.id())).isEmpty();
+        assertThat(store.find(superseded.id())).isEmpty();
+        assertThat(store.hasConflict(1L, DAY, LocalTime.of(11, 0), LocalTime.of(13, 0), 9L)).isTrue();
+        assertThat(store.hasConflict(1L, DAY, LocalTime.of(14, 0), LocalTime.of(16, 0), 9L)).isFalse();
+    }
+
+    @Test
+    void compactionRewritesTheLogToTheLiveHolds() throws IOException {
+        ReflectionTestUtils.setField(store, "compactionThreshold", 10L);
+        SlotHold kept = store.tryHold(1L, 1L, DAY, LocalTime.of(8, 0), LocalTime.of(9, 0)).orElseThrow();
+        for (int i = 0; i < 20; i++) {
+            SlotHold hold = store.tryHold(2L, 1L, DAY, LocalTime.of(10, 0), LocalTime.of(12, 0)).orElseThrow();
+            store.release(hold.id());
+        }
+        assertThat(Files.readAllLines(logFile)).hasSizeGreaterThan(40);
+
+        store.sweepExpired();
+
+        assertThat(Files.readAllLines(logFile)).hasSize(1);
+        SlotHold later = store.tryHold(3L, 1L, DAY, LocalTime.of(13, 0), LocalTime.of(14, 0)).orElseThrow();
+        store.close();
+
+        store = open();
+        assertThat(store.holdsForVenue(1L)).extracting(SlotHold::id)
+                .containsExactlyInAnyOrder(kept.id(), later.id());
+    }
+
+    @Test
+    void failedAppendLeavesTheSlotFree() throws IOException {
+        SlotHold previous = store.tryHold(1L, 1L, DAY, LocalTime.of(10, 0), LocalTime.of(12, 0)).orElseThrow();
+        store.close();
+
+        assertThatThrownBy(() -> store.tryHold(2L, 1L, DAY, LocalTime.of(14, 0), LocalTime.of(16, 0)))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> store.tryHold(1L, 1L, DAY, LocalTime.of(11, 0), LocalTime.of(13, 0)))
+                .isInstanceOf(UncheckedIOException.class);
+
+        assertThat(store.hasConflict(1L, DAY, LocalTime.of(14, 0), LocalTime.of(16, 0), 9L)).isFalse();
+        assertThat(store.hasConflict(1L, DAY, LocalTime.of(12, 0), LocalTime.of(13, 0), 9L)).isFalse();
+        assertThat(store.holdsForVenue(1L)).containsExactly(previous);
+        assertThat(store.hasConflict(1L, DAY, LocalTime.of(10, 0), LocalTime.of(11, 0), 9L)).isTrue();
+    }
+
+    private List<Optional<SlotHold>> race(HoldAttempt attempt) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Optional<SlotHold>>> futures = new ArrayList<>();
+            for (long customer = 1; customer <= THREADS; customer++) {
+                long id = customer;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return attempt.hold(id);
+                }));
+            }
+            start.countDown();
+            List<Optional<SlotHold>> results = new ArrayList<>();
+            for (Future<Optional<SlotHold>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private SlotHoldStore open() throws IOException {
+        SlotHoldStore opened = new SlotHoldStore();
+        ReflectionTestUtils.setField(opened, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(opened, "logFile", logFile.toString());
+        ReflectionTestUtils.setField(opened, "compactionThreshold", 1000L);
+        opened.init();
+        return opened;
+    }
+
+    @FunctionalInterface
+    private interface HoldAttempt {
+        Optional<SlotHold> hold(Long customerId);
+    }
+}
@@ -0,0 +1,86 @@
+package com.banquet.service;
+
+import com.banquet.repository.StripeWebhookEventRepository;
+import com.banquet.service.StripeWebhookService.IngestResult;
+import com.stripe.net.Webhook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.stripe.webhook-secret=" + StripeWebhookServiceTest.SECRET)
+@ActiveProfiles("test")
+class StripeWebhookServiceTest {
+
+    static final String SECRET = "whsec_test_secret";
+
+    @Autowired
+    private StripeWebhookService webhookService;
+
+    @Autowired
+    private StripeWebhookEventRepository webhookEventRepository;
+
+    @Test
+    void concurrentDeliveriesOfOneEventAreAcceptedOnce() throws Exception {
+        String payload = event("evt_" + UUID.randomUUID(), "pi_unknown_" + UUID.randomUUID());
+        String signature = sign(payload);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<IngestResult>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return webhookService.ingest(payload, signature);
+                }));
+            }
+            start.countDown();
+            List<IngestResult> outcomes = new ArrayList<>();
+            for (Future<IngestResult> result : results) {
+                outcomes.add(result.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(outcomes).containsOnlyOnce(IngestResult.ACCEPTED);
+            assertThat(outcomes).filteredOn(r -> r == IngestResult.DUPLICATE).hasSize(7);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void eventsForUnknownIntentsAreMarkedProcessed() throws Exception {
+        String eventId = "evt_" + UUID.randomUUID();
+        String payload = event(eventId, "pi_unknown_" + UUID.randomUUID());
+
+        assertThat(webhookService.ingest(payload, sign(payload))).isEqualTo(IngestResult.ACCEPTED);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!webhookEventRepository.findById(eventId).orElseThrow().isProcessed()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(webhookEventRepository.findById(eventId).orElseThrow().isProcessed()).isTrue();
+    }
+
+    private static String event(String eventId, String paymentIntentId) {
+        return "{\"id\":\"" + eventId + "\",\"object\":\"event\",\"type\":\"payment_intent.succeeded\","
+                + "\"data\":{\"object\":{\"id\":\"" + paymentIntentId + "\",\"object\":\"payment_intent\"}}}";
+    }
+
+    private static String sign(String payload) throws Exception {
+        long timestamp = Instant.now().getEpochSecond();
+        return "t=" + timestamp + ",v1=" + Webhook.Util.computeHmacSha256(SECRET, timestamp + "." + payload);
+    }
+}
@@ -0,0 +1,109 @@
+package com.banquet.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitlistIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+
+    private final WaitlistIndex index = new WaitlistIndex();
+
+    @Test
+    void findsOnlyOverlappingWaitersInJoinOrder() {
+        index.add(1L, DAY, WaitlistIndex.waiter(3, 30, LocalTime.of(8, 0), LocalTime.of(20, 0)));
+        index.add(1L, DAY, WaitlistIndex.waiter(1, 10, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        index.add(1L, DAY, WaitlistIndex.waiter(2, 20, LocalTime.of(12, 0), LocalTime.of(14, 0)));
+        index.add(1L, DAY, WaitlistIndex.waiter(4, 40, LocalTime.of(14, 0), LocalTime.of(15, 0)));
+        index.add(2L, DAY, WaitlistIndex.waiter(5, 50, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+
+        List<WaitlistIndex.Waiter> matches = index.overlapping(1L, DAY, LocalTime.of(11, 0), LocalTime.of(13, 0));
+
+        assertThat(matches).extracting(WaitlistIndex.Waiter::entryId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void syncKeepsAlreadyIndexedWaitersOnce() {
+        WaitlistIndex.Waiter local = WaitlistIndex.waiter(1, 10, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        WaitlistIndex.Waiter remote = WaitlistIndex.waiter(2, 20, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        index.add(1L, DAY, local);
+        assertThat(index.syncedAt(1L, DAY)).isNull();
+
+        LocalDateTime now = LocalDateTime.now();
+        index.sync(1L, DAY, List.of(local, remote), now);
+
+        assertThat(index.syncedAt(1L, DAY)).isEqualTo(now);
+        assertThat(index.overlapping(1L, DAY, LocalTime.of(9, 0), LocalTime.of(11, 0)))
+                .containsExactly(local, remote);
+    }
+
+    @Test
+    void removedWaitersAreNotMatched() {
+        WaitlistIndex.Waiter waiter = WaitlistIndex.waiter(1, 10, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        index.add(1L, DAY, waiter);
+        index.remove(1L, DAY, waiter);
+
+        assertThat(index.overlapping(1L, DAY, LocalTime.of(10, 0), LocalTime.of(12, 0))).isEmpty();
+        assertThat(index.syncedAt(1L, DAY)).isNull();
+    }
+
+    @Test
+    void mixedLongAndShortWaitersMatchABruteForceScan() {
+        Random random = new Random(42);
+        List<WaitlistIndex.Waiter> live = new ArrayList<>();
+        for (int id = 1; id <= 2_000; id++) {
+            int start = random.nextInt(24 * 60 - 30);
+            int length = id % 50 == 0 ? 24 * 60 - start : 30 + random.nextInt(60);
+            WaitlistIndex.Waiter waiter = new WaitlistIndex.Waiter(id, id, start, Math.min(start + length, 24 * 60));
+            index.add(1L, DAY, waiter);
+            live.add(waiter);
+        }
+        for (int i = 0; i < 500; i++) {
+            index.remove(1L, DAY, live.remove(random.nextInt(live.size())));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(24 * 60 - 1);
+            int to = from + 1 + random.nextInt(Math.min(180, 24 * 60 - from));
+            List<Long> expected = live.stream()
+                    .filter(w -> w.startMinute() < to && w.endMinute() > from)
+                    .map(WaitlistIndex.Waiter::entryId)
+                    .sorted()
+                    .toList();
+
+            assertThat(index.overlapping(1L, DAY, time(from), time(to)))
+                    .extracting(WaitlistIndex.Waiter::entryId)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void removingTheLongWaiterLeavesOnlyShortMatches() {
+        WaitlistIndex.Waiter allDay = WaitlistIndex.waiter(1, 10, LocalTime.of(0, 0), LocalTime.of(23, 59));
+        WaitlistIndex.Waiter morning = WaitlistIndex.waiter(2, 20, LocalTime.of(8, 0), LocalTime.of(9, 0));
+        WaitlistIndex.Waiter evening = WaitlistIndex.waiter(3, 30, LocalTime.of(19, 0), LocalTime.of(21, 0));
+        index.add(1L, DAY, allDay);
+        index.add(1L, DAY, morning);
+        index.add(1L, DAY, evening);
+
+        assertThat(index.overlapping(1L, DAY, LocalTime.of(20, 0), LocalTime.of(22, 0)))
+                .containsExactly(allDay, evening);
+
+        index.remove(1L, DAY, allDay);
+
+        assertThat(index.overlapping(1L, DAY, LocalTime.of(20, 0), LocalTime.of(22, 0))).containsExactly(evening);
+        assertThat(index.overlapping(1L, DAY, LocalTime.of(12, 0), LocalTime.of(14, 0))).isEmpty();
+    }
+
+    private static LocalTime time(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+}